@@ -0,0 +1,155 @@
+package ch.hszt.connectfour.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.hszt.connectfour.model.board.GameBoard;
+import ch.hszt.connectfour.model.board.GameBoardSlot;
+import ch.hszt.connectfour.model.board.GameBoardSlotCollection;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+import ch.hszt.connectfour.model.enumeration.PlayerType;
+import ch.hszt.connectfour.model.game.Game;
+import ch.hszt.connectfour.model.game.GameStatus;
+import ch.hszt.connectfour.model.game.PlayerFactory;
+
+/**
+ * Measures the operations of {@link GameBoard} and {@link GameStatus}, which are executed with every turn,
+ * on the empty, a mid-game and a nearly full board (see {@link BoardFill}).
+ * Every benchmark leaves the position unchanged, so all invocations measure the same position.
+ * Run with <code>-prof gc</code> for the allocation rate per operation.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BoardBenchmark
+{
+	@Param({ "EMPTY", "MID_GAME", "NEAR_FULL" })
+	public BoardFill fill;
+
+	private Game game;
+	private GameBoard board;
+	private List<GameBoardSlotCollection> collections;
+	private int columnIndex;
+	private DropColor color;
+
+	@Setup(Level.Trial)
+	public void setupBoard()
+	{
+		game = new Game(PlayerFactory.createPlayer(PlayerType.HUMAN, "Red", null),
+						PlayerFactory.createPlayer(PlayerType.HUMAN, "Yellow", null));
+		board = game.getBoard();
+		fill.fill(board);
+
+		collections = board.getAll();
+		color = fill.getNextColor();
+
+		// The drop of the insert benchmark goes to the first column with empty slots
+
+		columnIndex = 0;
+
+		while (!board.getColumn(columnIndex).hasEmptySlots())
+		{
+			columnIndex++;
+		}
+	}
+
+	@Benchmark
+	public GameBoard construct()
+	{
+		return new GameBoard();
+	}
+
+	/**
+	 * Inserts a drop and takes it back => the undo is part of the measurement.
+	 */
+	@Benchmark
+	public GameBoardSlot insertDrop()
+	{
+		GameBoardSlot slot = board.insertDrop(columnIndex, color);
+		board.undoDrop(columnIndex);
+
+		return slot;
+	}
+
+	/**
+	 * Resets a board, which is filled again before each invocation.
+	 */
+	@Benchmark
+	public GameBoard reset(FilledBoard filled)
+	{
+		filled.board.reset();
+
+		return filled.board;
+	}
+
+	/**
+	 * Evaluates the status including the "ConnectFour" check of the entire board.
+	 */
+	@Benchmark
+	public GameStatus updateStatus()
+	{
+		GameStatus.update(game);
+
+		return game.getStatus();
+	}
+
+	@Benchmark
+	public int hasConnectFour()
+	{
+		int count = 0;
+
+		for (GameBoardSlotCollection collection : collections)
+		{
+			if (collection.hasConnectFour(DropColor.RED) || collection.hasConnectFour(DropColor.YELLOW))
+			{
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	@Benchmark
+	public void getConnectFourList(Blackhole hole)
+	{
+		for (GameBoardSlotCollection collection : collections)
+		{
+			hole.consume(collection.getConnectFourList());
+		}
+	}
+
+	/**
+	 * Provides a {@link GameBoard} filled with the position of the benchmark before each invocation.
+	 */
+	@State(Scope.Thread)
+	public static class FilledBoard
+	{
+		private final GameBoard board = new GameBoard();
+
+		@Setup(Level.Invocation)
+		public void refill(BoardBenchmark benchmark)
+		{
+			board.reset();
+			benchmark.fill.fill(board);
+		}
+	}
+}
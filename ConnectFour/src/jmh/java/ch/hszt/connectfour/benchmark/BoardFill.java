@@ -0,0 +1,60 @@
+package ch.hszt.connectfour.benchmark;
+
+import ch.hszt.connectfour.model.board.GameBoard;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+
+/**
+ * Represents the fixed positions the benchmarks are run on - none of them contains "ConnectFour".
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public enum BoardFill
+{
+	/**
+	 * The empty board at the start of the game.
+	 */
+	EMPTY(""),
+	/**
+	 * The board after 21 drops, i.e. half of the slots are occupied.
+	 */
+	MID_GAME("BEGGGACADGDDFDGBADAED"),
+	/**
+	 * The board after 40 drops, i.e. just two slots are left.
+	 */
+	NEAR_FULL("FBCGFGBECGDCCFGEEEEFEFDCGBDGCDABFAAAAADB");
+
+	private final String columns;
+
+	private BoardFill(String columns)
+	{
+		this.columns = columns;
+	}
+
+	/**
+	 * Inserts the drops of this position into the specified {@link GameBoard} - red and yellow alternately, starting with red.
+	 * @param board - The empty {@link GameBoard} to be filled.
+	 * @throws IllegalStateException Thrown, if the position contains "ConnectFour", i.e. the benchmark would measure the end of a game.
+	 */
+	public void fill(GameBoard board)
+	{
+		PositionCorpus.fill(board, columns);
+	}
+
+	/**
+	 * Returns the {@link DropColor} in charge to insert the next drop into the position.
+	 * @return The {@link DropColor} of the next drop.
+	 */
+	public DropColor getNextColor()
+	{
+		return PositionCorpus.getNextColor(columns);
+	}
+
+	/**
+	 * Returns the number of drops of this position.
+	 * @return The number of drops.
+	 */
+	public int countDrops()
+	{
+		return columns.length();
+	}
+}
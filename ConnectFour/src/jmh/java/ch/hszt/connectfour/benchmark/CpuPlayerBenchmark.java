@@ -0,0 +1,116 @@
+package ch.hszt.connectfour.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.hszt.connectfour.model.enumeration.DropColor;
+import ch.hszt.connectfour.model.enumeration.PlayerType;
+import ch.hszt.connectfour.model.enumeration.SkillLevel;
+import ch.hszt.connectfour.model.game.CpuPlayer;
+import ch.hszt.connectfour.model.game.Game;
+import ch.hszt.connectfour.model.game.GameStatus;
+import ch.hszt.connectfour.model.game.Player;
+import ch.hszt.connectfour.model.game.PlayerFactory;
+
+/**
+ * Measures {@link CpuPlayer#determineNextTurn(Game)} of the heuristic {@link SkillLevel} values on the corpus of recorded
+ * mid-game positions (see {@link PositionCorpus#MID_GAME_POSITIONS}). These players decide within microseconds,
+ * so every invocation runs through the whole corpus and the time is reported per move.
+ * Each position has a pair of players of its own, so nothing but the moves is measured.
+ * Run with <code>-prof gc</code> for the bytes allocated per move. {@link SkillLevel#PERFECT} is measured
+ * by the {@link PerfectCpuPlayerBenchmark}.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class CpuPlayerBenchmark
+{
+	/**
+	 * The number of positions of the corpus, i.e. the number of moves per invocation.
+	 */
+	public static final int CORPUS_SIZE = 300;
+
+	@Param({ "EASY", "ADVANCED", "HARD" })
+	public SkillLevel level;
+
+	private Game[] games;
+	private CpuPlayer[] players;
+
+	@Setup(Level.Trial)
+	public void setupCorpus()
+	{
+		if (level == SkillLevel.PERFECT)
+		{
+			throw new IllegalArgumentException("Skill level PERFECT is measured by the PerfectCpuPlayerBenchmark!");
+		}
+
+		List<String> positions = PositionCorpus.load(PositionCorpus.MID_GAME_POSITIONS);
+
+		if (positions.size() != CORPUS_SIZE)
+		{
+			throw new IllegalStateException(String.format("Corpus contains %d instead of %d positions!",
+															positions.size(), CORPUS_SIZE));
+		}
+
+		games = new Game[CORPUS_SIZE];
+		players = new CpuPlayer[CORPUS_SIZE];
+
+		for (int i = 0; i < CORPUS_SIZE; i++)
+		{
+			games[i] = new Game(PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "First", level),
+								PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "Second", level));
+			PositionCorpus.fill(games[i].getBoard(), positions.get(i));
+			games[i].publishSnapshot();
+			GameStatus.update(games[i]);
+
+			players[i] = assignColors(games[i], PositionCorpus.getNextColor(positions.get(i)));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CORPUS_SIZE)
+	public void determineNextTurn(Blackhole blackhole)
+	{
+		for (int i = 0; i < CORPUS_SIZE; i++)
+		{
+			blackhole.consume(players[i].determineNextTurn(games[i]));
+		}
+	}
+
+	/**
+	 * Assigns the specified {@link DropColor} to the player in charge of the {@link Game} and the other one to the opponent.
+	 * @param game - The {@link Game} of the position.
+	 * @param color - The {@link DropColor} of the next drop.
+	 * @return The {@link CpuPlayer} in charge.
+	 */
+	static CpuPlayer assignColors(Game game, DropColor color)
+	{
+		CpuPlayer player = (CpuPlayer) game.getStatus().getCurrentPlayer();
+		Player opponent = (player == game.getStartPlayer()) ? game.getOtherPlayer() : game.getStartPlayer();
+
+		player.setDropColor(color);
+		opponent.setDropColor((color == DropColor.RED) ? DropColor.YELLOW : DropColor.RED);
+
+		return player;
+	}
+}
@@ -0,0 +1,112 @@
+package ch.hszt.connectfour.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.hszt.connectfour.model.enumeration.PlayerType;
+import ch.hszt.connectfour.model.enumeration.SkillLevel;
+import ch.hszt.connectfour.model.game.Game;
+import ch.hszt.connectfour.model.game.GameStatus;
+import ch.hszt.connectfour.model.game.PerfectCpuPlayer;
+import ch.hszt.connectfour.model.game.Player;
+import ch.hszt.connectfour.model.game.PlayerFactory;
+import ch.hszt.connectfour.model.game.SearchBudget;
+
+/**
+ * Measures {@link PerfectCpuPlayer#determineNextTurn(Game)} on the corpus of recorded mid-game positions
+ * (see {@link PositionCorpus#MID_GAME_POSITIONS}), which is run through position by position.
+ * The search is limited by depth instead of the configured budget, so the numbers report the cost of a fixed amount of work;
+ * the configured {@link SearchBudget} is restored after the trial. Each move starts with an empty
+ * {@link ch.hszt.connectfour.model.game.TranspositionTable}, so the numbers don't depend on the positions measured before.
+ * A move at these depths takes milliseconds, which leaves the setup per invocation negligible.
+ * The sample mode reports the percentiles of the latency per move; other depths are selected by <code>-p depth=...</code>.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+@BenchmarkMode({ Mode.AverageTime, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class PerfectCpuPlayerBenchmark
+{
+	// Generous enough never to stop a search before its depth
+
+	private static final long TIME_LIMIT = TimeUnit.MINUTES.toMillis(10);
+
+	@Param({ "12", "16" })
+	public int depth;
+
+	private SearchBudget configuredBudget;
+	private Game[] games;
+	private List<String> positions;
+	private int index;
+
+	// The move of the next invocation
+
+	private Game game;
+	private PerfectCpuPlayer player;
+
+	@Setup(Level.Trial)
+	public void setupCorpus()
+	{
+		configuredBudget = SearchBudget.forLevel(SkillLevel.PERFECT);
+		SearchBudget.configure(SkillLevel.PERFECT, new SearchBudget(TIME_LIMIT, SearchBudget.UNLIMITED_NODES, depth));
+
+		positions = PositionCorpus.load(PositionCorpus.MID_GAME_POSITIONS);
+
+		// Both players are shared by all positions => each holds a transposition table of its own
+
+		Player first = PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "First", SkillLevel.PERFECT);
+		Player second = PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "Second", SkillLevel.PERFECT);
+
+		games = new Game[positions.size()];
+
+		for (int i = 0; i < games.length; i++)
+		{
+			games[i] = new Game(first, second);
+			PositionCorpus.fill(games[i].getBoard(), positions.get(i));
+			games[i].publishSnapshot();
+			GameStatus.update(games[i]);
+		}
+
+		index = 0;
+	}
+
+	@TearDown(Level.Trial)
+	public void restoreBudget()
+	{
+		SearchBudget.configure(SkillLevel.PERFECT, configuredBudget);
+	}
+
+	@Setup(Level.Invocation)
+	public void nextPosition()
+	{
+		game = games[index];
+		player = (PerfectCpuPlayer) CpuPlayerBenchmark.assignColors(game, PositionCorpus.getNextColor(positions.get(index)));
+		player.getTranspositionTable().clear();
+
+		index = (index + 1) % games.length;
+	}
+
+	@Benchmark
+	public String determineNextTurn()
+	{
+		return player.determineNextTurn(game);
+	}
+}
@@ -0,0 +1,118 @@
+package ch.hszt.connectfour.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import ch.hszt.connectfour.model.board.GameBoard;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+
+/**
+ * Provides the fixed corpus of recorded positions the benchmarks are run on.
+ * Each position is stored as the sequence of the columns of its drops, starting with {@link DropColor#RED}.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class PositionCorpus
+{
+	/**
+	 * The resource containing the mid-game positions - one per line, comments start with '#'.
+	 */
+	public static final String MID_GAME_POSITIONS = "positions.txt";
+
+	/**
+	 * Constructor not to be used - class can't be instantiated.
+	 */
+	private PositionCorpus()
+	{
+	}
+
+	/**
+	 * Loads the positions of the specified resource next to this class.
+	 * @param resource - The name of the resource, e.g. {@link PositionCorpus#MID_GAME_POSITIONS}.
+	 * @return The unmodifiable {@link List} of positions.
+	 * @throws IllegalStateException Thrown, if the resource is missing, can't be read or doesn't contain any position.
+	 */
+	public static List<String> load(String resource)
+	{
+		InputStream in = PositionCorpus.class.getResourceAsStream(resource);
+
+		if (in == null)
+		{
+			throw new IllegalStateException(String.format("Corpus %s not found!", resource));
+		}
+
+		List<String> positions = new ArrayList<String>();
+
+		try
+		{
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, "US-ASCII"));
+
+			try
+			{
+				String line;
+
+				while ((line = reader.readLine()) != null)
+				{
+					line = line.trim();
+
+					if (line.length() > 0 && !line.startsWith("#"))
+					{
+						positions.add(line);
+					}
+				}
+			}
+			finally
+			{
+				reader.close();
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new IllegalStateException(String.format("Corpus %s can't be read!", resource), ex);
+		}
+
+		if (positions.isEmpty())
+		{
+			throw new IllegalStateException(String.format("Corpus %s doesn't contain any position!", resource));
+		}
+
+		return Collections.unmodifiableList(positions);
+	}
+
+	/**
+	 * Inserts the drops of the specified position into the {@link GameBoard} - red and yellow alternately, starting with red.
+	 * @param board - The empty {@link GameBoard} to be filled.
+	 * @param columns - The columns of the drops in the order of insertion.
+	 * @throws IllegalStateException Thrown, if the position contains "ConnectFour", i.e. the game would have ended already.
+	 */
+	public static void fill(GameBoard board, String columns)
+	{
+		DropColor color = DropColor.RED;
+
+		for (char column : columns.toCharArray())
+		{
+			board.insertDrop(String.valueOf(column), color);
+			color = (color == DropColor.RED) ? DropColor.YELLOW : DropColor.RED;
+		}
+
+		if (board.hasConnectFour(DropColor.RED) || board.hasConnectFour(DropColor.YELLOW))
+		{
+			throw new IllegalStateException(String.format("Position %s contains ConnectFour!", columns));
+		}
+	}
+
+	/**
+	 * Returns the {@link DropColor} in charge to insert the next drop into the specified position.
+	 * @param columns - The columns of the drops in the order of insertion.
+	 * @return The {@link DropColor} of the next drop.
+	 */
+	public static DropColor getNextColor(String columns)
+	{
+		return (columns.length() % 2 == 0) ? DropColor.RED : DropColor.YELLOW;
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * Contains the JMH microbenchmarks of the hot paths of the game, which aren't part of the regular build.
+ * The benchmarks are compiled and run by the Maven profile <code>benchmark</code>, e.g.
+ * <code>mvn -P benchmark test-compile exec:exec -Djmh.args="BoardBenchmark -prof gc"</code>;
+ * all positions are fixed, so the numbers are comparable before and after any change of the board.
+ */
+package ch.hszt.connectfour.benchmark;
@@ -1,8 +1,10 @@
 package ch.hszt.connectfour;
 
 import java.awt.EventQueue;
+import java.io.IOException;
 
 import ch.hszt.connectfour.gui.SetupFrame;
+import ch.hszt.connectfour.model.game.OpeningBook;
 import ch.hszt.connectfour.util.GuiHelper;
 
 /**
@@ -15,6 +17,17 @@ public class ConnectFour
 	 */
 	public static void main(String[] args)
 	{
+		// Opening book is optional => play without book, if it can't be loaded
+		
+		try
+		{
+			OpeningBook.installDefault();
+		}
+		catch (IOException e)
+		{
+			System.err.println(String.format("Opening book not installed: %s", e.getMessage()));
+		}
+		
 		// Automatically generated code by GUI designer
 		
 		EventQueue.invokeLater(new Runnable()
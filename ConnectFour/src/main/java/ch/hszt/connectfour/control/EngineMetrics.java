@@ -0,0 +1,359 @@
+package ch.hszt.connectfour.control;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import ch.hszt.connectfour.model.enumeration.SkillLevel;
+
+/**
+ * Records the metrics of the {@link GameEngine} and exposes them via JMX (see {@link EngineMetricsMXBean}).
+ * <p>
+ * Recording never takes a lock and costs a few atomic increments per event, so the metrics are always enabled:
+ * moves are counted per second in a small ring of counters and durations are recorded into {@link LatencyHistogram} instances.
+ * Reading the metrics (e.g. by JConsole) doesn't block the recording threads either, but isn't an atomic snapshot of all values.
+ * </p>
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class EngineMetrics implements EngineMetricsMXBean
+{
+	/**
+	 * The name the metrics are registered under on the platform MBean server.
+	 */
+	public static final String OBJECT_NAME = "ch.hszt.connectfour:type=EngineMetrics";
+
+	/**
+	 * The number of completed seconds the moves per second are averaged over.
+	 */
+	private static final int RATE_SECONDS = 10;
+
+	private static final EngineMetrics instance = new EngineMetrics();	// Singleton
+
+	private final AtomicLong totalMoves = new AtomicLong();
+
+	// Ring of moves per second => includes the current second, which isn't completed yet
+
+	private final AtomicLongArray moveSeconds = new AtomicLongArray(RATE_SECONDS + 1);
+	private final AtomicLongArray moveCounts = new AtomicLongArray(RATE_SECONDS + 1);
+
+	private final LatencyHistogram setDropLatency = new LatencyHistogram();
+	private final LatencyHistogram updateGameLatency = new LatencyHistogram();
+	private final LatencyHistogram notificationLatency = new LatencyHistogram();
+	private final LatencyHistogram observerLatency = new LatencyHistogram();
+	private final Map<SkillLevel, LatencyHistogram> thinkTimes = new EnumMap<SkillLevel, LatencyHistogram>(SkillLevel.class);
+
+	private final AtomicLong startedGames = new AtomicLong();
+	private final AtomicLong finishedGames = new AtomicLong();
+	private final AtomicLong abortedGames = new AtomicLong();
+
+	/**
+	 * Can't be used for instance creation outside of the class.
+	 * Use {@link EngineMetrics#getInstance()} instead to retrieve an instance of this class.
+	 */
+	private EngineMetrics()
+	{
+		// Never modified afterwards => may be read by any thread without synchronization
+
+		for (SkillLevel level : SkillLevel.values())
+		{
+			thinkTimes.put(level, new LatencyHistogram());
+		}
+
+		for (int i = 0; i < moveSeconds.length(); i++)
+		{
+			moveSeconds.set(i, Long.MIN_VALUE);
+		}
+
+		register();
+	}
+
+	/**
+	 * Returns the one and only {@link EngineMetrics} instance.
+	 * @return The {@link EngineMetrics} instance.
+	 */
+	public static EngineMetrics getInstance()
+	{
+		return instance;
+	}
+
+	/**
+	 * Records a drop inserted by the {@link GameEngine}.
+	 * @param nanos - The duration of {@link GameEngine#setDrop(ch.hszt.connectfour.model.game.Game, int)} in nanoseconds.
+	 */
+	public void recordMove(long nanos)
+	{
+		totalMoves.incrementAndGet();
+		setDropLatency.record(nanos);
+
+		long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+		int index = getRateIndex(second);
+		long stamp = moveSeconds.get(index);
+
+		// First move of a new second claims the counter; a move racing with the claim may get lost, which is negligible for a rate
+
+		if (stamp != second && moveSeconds.compareAndSet(index, stamp, second))
+		{
+			moveCounts.set(index, 0L);
+		}
+
+		moveCounts.incrementAndGet(index);
+	}
+
+	/**
+	 * Records an update of a game without a new drop.
+	 * @param nanos - The duration of {@link GameEngine#updateGame(ch.hszt.connectfour.model.game.Game)} in nanoseconds.
+	 */
+	public void recordUpdate(long nanos)
+	{
+		updateGameLatency.record(nanos);
+	}
+
+	/**
+	 * Records the publication of the events of a move to the {@link GameEventBus}.
+	 * @param nanos - The duration of the publication in nanoseconds.
+	 */
+	public void recordNotification(long nanos)
+	{
+		notificationLatency.record(nanos);
+	}
+
+	/**
+	 * Records the delivery of a {@link GameEvent} to an observer.
+	 * @param nanos - The duration of {@link GameEventListener#onEvent(GameEvent)} in nanoseconds.
+	 */
+	public void recordObserver(long nanos)
+	{
+		observerLatency.record(nanos);
+	}
+
+	/**
+	 * Records the time a CPU player spent determining a turn.
+	 * @param level - The {@link SkillLevel} of the CPU player.
+	 * @param nanos - The duration in nanoseconds.
+	 * @throws IllegalArgumentException Thrown, if no {@link SkillLevel} was specified.
+	 */
+	public void recordThinkTime(SkillLevel level, long nanos)
+	{
+		if (level == null)
+		{
+			throw new IllegalArgumentException("No skill level specified!");
+		}
+
+		thinkTimes.get(level).record(nanos);
+	}
+
+	/**
+	 * Records the start (or restart) of a game.
+	 */
+	public void recordGameStarted()
+	{
+		startedGames.incrementAndGet();
+	}
+
+	/**
+	 * Records a game ended by "ConnectFour" or a draw.
+	 */
+	public void recordGameFinished()
+	{
+		finishedGames.incrementAndGet();
+	}
+
+	/**
+	 * Records a game stopped or restarted before it was finished.
+	 */
+	public void recordGameAborted()
+	{
+		abortedGames.incrementAndGet();
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#getTotalMoves()
+	 */
+	public long getTotalMoves()
+	{
+		return totalMoves.get();
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#getMovesPerSecond()
+	 */
+	public double getMovesPerSecond()
+	{
+		long current = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+		long moves = 0;
+
+		// Only completed seconds => the current second would bias the rate downwards
+
+		for (long second = current - RATE_SECONDS; second < current; second++)
+		{
+			int index = getRateIndex(second);
+
+			if (moveSeconds.get(index) == second)
+			{
+				moves += moveCounts.get(index);
+			}
+		}
+
+		return (double) moves / RATE_SECONDS;
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#getSetDropLatency()
+	 */
+	public LatencySummary getSetDropLatency()
+	{
+		return LatencySummary.of(setDropLatency);
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#getUpdateGameLatency()
+	 */
+	public LatencySummary getUpdateGameLatency()
+	{
+		return LatencySummary.of(updateGameLatency);
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#getNotificationLatency()
+	 */
+	public LatencySummary getNotificationLatency()
+	{
+		return LatencySummary.of(notificationLatency);
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#getObserverLatency()
+	 */
+	public LatencySummary getObserverLatency()
+	{
+		return LatencySummary.of(observerLatency);
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#getThinkTimes()
+	 */
+	public Map<String, LatencySummary> getThinkTimes()
+	{
+		Map<String, LatencySummary> summaries = new LinkedHashMap<String, LatencySummary>();
+
+		for (Map.Entry<SkillLevel, LatencyHistogram> entry : thinkTimes.entrySet())
+		{
+			summaries.put(entry.getKey().name(), LatencySummary.of(entry.getValue()));
+		}
+
+		return summaries;
+	}
+
+	/**
+	 * Returns the {@link LatencyHistogram} of the think time of the CPU players with the specified {@link SkillLevel}.
+	 * @param level - The {@link SkillLevel} of the CPU players.
+	 * @return The {@link LatencyHistogram} in nanoseconds.
+	 */
+	public LatencyHistogram getThinkTime(SkillLevel level)
+	{
+		return thinkTimes.get(level);
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#getActiveGames()
+	 */
+	public long getActiveGames()
+	{
+		// Read the ends first => a game ending meanwhile is never subtracted without having been added
+
+		long ended = finishedGames.get() + abortedGames.get();
+
+		return Math.max(0L, startedGames.get() - ended);
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#getStartedGames()
+	 */
+	public long getStartedGames()
+	{
+		return startedGames.get();
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#getFinishedGames()
+	 */
+	public long getFinishedGames()
+	{
+		return finishedGames.get();
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#getAbortedGames()
+	 */
+	public long getAbortedGames()
+	{
+		return abortedGames.get();
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.EngineMetricsMXBean#reset()
+	 */
+	public void reset()
+	{
+		totalMoves.set(0L);
+
+		for (int i = 0; i < moveCounts.length(); i++)
+		{
+			moveCounts.set(i, 0L);
+		}
+
+		setDropLatency.reset();
+		updateGameLatency.reset();
+		notificationLatency.reset();
+		observerLatency.reset();
+
+		for (LatencyHistogram histogram : thinkTimes.values())
+		{
+			histogram.reset();
+		}
+	}
+
+	private int getRateIndex(long second)
+	{
+		int length = moveSeconds.length();
+
+		// System.nanoTime() may be negative => keep the index positive
+
+		return (int) (((second % length) + length) % length);
+	}
+
+	private void register()
+	{
+		try
+		{
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+
+			// Already registered, e.g. by another class loader of the same application server
+
+			if (!server.isRegistered(name))
+			{
+				server.registerMBean(this, name);
+			}
+		}
+		catch (JMException ex)
+		{
+			// The metrics are recorded anyway and remain accessible via getInstance()
+
+			ex.printStackTrace();
+		}
+		catch (SecurityException ex)
+		{
+			ex.printStackTrace();
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package ch.hszt.connectfour.control;
+
+import java.util.Map;
+
+import ch.hszt.connectfour.model.enumeration.SkillLevel;
+
+/**
+ * Defines the management interface of the {@link EngineMetrics}, which is registered on the platform MBean server
+ * under {@link EngineMetrics#OBJECT_NAME} and can be inspected by any JMX client, e.g. JConsole or VisualVM.
+ * All durations are reported in microseconds.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public interface EngineMetricsMXBean
+{
+	/**
+	 * Returns the number of drops inserted by the {@link GameEngine} since the start or last reset.
+	 * @return The number of moves.
+	 */
+	long getTotalMoves();
+
+	/**
+	 * Returns the average number of drops inserted per second during the last completed seconds.
+	 * @return The moves per second.
+	 */
+	double getMovesPerSecond();
+
+	/**
+	 * Returns the latency of {@link GameEngine#setDrop(ch.hszt.connectfour.model.game.Game, int)}
+	 * including the wait for the lock of the game, but without notifying the observers.
+	 * @return The {@link LatencySummary} of the inserted drops.
+	 */
+	LatencySummary getSetDropLatency();
+
+	/**
+	 * Returns the latency of {@link GameEngine#updateGame(ch.hszt.connectfour.model.game.Game)}
+	 * including the wait for the lock of the game, but without notifying the observers.
+	 * @return The {@link LatencySummary} of the updates.
+	 */
+	LatencySummary getUpdateGameLatency();
+
+	/**
+	 * Returns the time the {@link GameEngine} spends publishing the events of a move to the {@link GameEventBus}.
+	 * @return The {@link LatencySummary} of the notifications.
+	 */
+	LatencySummary getNotificationLatency();
+
+	/**
+	 * Returns the time the observers spend handling a single {@link GameEvent} on the delivery threads.
+	 * @return The {@link LatencySummary} of the delivered events.
+	 */
+	LatencySummary getObserverLatency();
+
+	/**
+	 * Returns the time the CPU players spend determining their turns.
+	 * @return The {@link LatencySummary} per name of the {@link SkillLevel}.
+	 */
+	Map<String, LatencySummary> getThinkTimes();
+
+	/**
+	 * Returns the number of games currently being played, i.e. started but neither finished nor aborted.
+	 * @return The number of active games.
+	 */
+	long getActiveGames();
+
+	/**
+	 * Returns the number of started games, including restarts.
+	 * @return The number of started games.
+	 */
+	long getStartedGames();
+
+	/**
+	 * Returns the number of games ended by "ConnectFour" or a draw.
+	 * @return The number of finished games.
+	 */
+	long getFinishedGames();
+
+	/**
+	 * Returns the number of games stopped or restarted before they were finished.
+	 * @return The number of aborted games.
+	 */
+	long getAbortedGames();
+
+	/**
+	 * Discards the recorded moves and durations - the numbers of games aren't affected, as games may still be active.
+	 */
+	void reset();
+}
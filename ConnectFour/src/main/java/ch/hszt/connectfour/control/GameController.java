@@ -1,10 +1,14 @@
 package ch.hszt.connectfour.control;
 
 import ch.hszt.connectfour.exception.GameException;
+import ch.hszt.connectfour.model.board.BoardSnapshot;
 import ch.hszt.connectfour.model.board.GameBoardSlot;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+import ch.hszt.connectfour.model.game.CpuPlayer;
 import ch.hszt.connectfour.model.game.Game;
 import ch.hszt.connectfour.model.game.GameStatistic;
 import ch.hszt.connectfour.model.game.GameStatus;
+import ch.hszt.connectfour.model.game.Player;
 
 /**
  * Handles and delegates communication between GUI and underlying model.
@@ -13,6 +17,8 @@ import ch.hszt.connectfour.model.game.GameStatus;
  */
 public abstract class GameController
 {
+	private volatile boolean pondering;
+	
 	// These methods fulfill general communication from user interface to the model
 	// such as (starting, stopping, restarting game, execution of single turn) and thus aren't declared abstract.
 	// Nevertheless, feel free to override the methods for additional logic to be accomplished.
@@ -26,9 +32,13 @@ public abstract class GameController
 	{
 		game.start();
 		
+		EngineMetrics.getInstance().recordGameStarted();
+		
 		printMessage("Game successfully started ...");
 		
 		GameEngine.getInstance().updateGame(game);
+		
+		startPondering(game);
 	}
 	
 	/**
@@ -38,7 +48,22 @@ public abstract class GameController
 	 */
 	public void stopGame(Game game) throws GameException
 	{
-		game.stop();
+		stopPondering(game);
+		
+		boolean running;
+		
+		// Atomic with the last drop => a game is never counted as finished and aborted
+		
+		synchronized (game.getLock())
+		{
+			running = isRunning(game);
+			game.stop();
+		}
+		
+		if (running)
+		{
+			EngineMetrics.getInstance().recordGameAborted();
+		}
 	}
 	
 	/**
@@ -48,8 +73,28 @@ public abstract class GameController
 	 */
 	public void restartGame(Game game) throws GameException
 	{
-		game.restart();
+		stopPondering(game);
+		
+		boolean running;
+		
+		synchronized (game.getLock())
+		{
+			running = isRunning(game);
+			game.restart();
+		}
+		
+		EngineMetrics metrics = EngineMetrics.getInstance();
+		
+		if (running)
+		{
+			metrics.recordGameAborted();
+		}
+		
+		metrics.recordGameStarted();
+		
 		GameEngine.getInstance().updateGame(game);
+		
+		startPondering(game);
 	}
 	
 	/**
@@ -60,7 +105,76 @@ public abstract class GameController
 	 */
 	public void executeTurn(Game game, String column) throws GameException
 	{
-		GameEngine.getInstance().setDrop(game, column);
+		stopPondering(game);
+		
+		try
+		{
+			GameEngine.getInstance().setDrop(game, column);
+		}
+		finally
+		{
+			startPondering(game);
+		}
+	}
+	
+	/**
+	 * Executes a turn on the column with specified index for the {@link Game}.
+	 * @param game - The corresponding {@link Game} to execute a turn for.
+	 * @param columnIndex - The 0-based index of the column to be affected by the turn.
+	 * @throws GameException Thrown, if any unexpected problem occurred during execution of the turn.
+	 */
+	public void executeTurn(Game game, int columnIndex) throws GameException
+	{
+		stopPondering(game);
+		
+		try
+		{
+			GameEngine.getInstance().setDrop(game, columnIndex);
+		}
+		finally
+		{
+			startPondering(game);
+		}
+	}
+	
+	/**
+	 * Lets the specified {@link CpuPlayer} determine its next turn and records the think time in the {@link EngineMetrics}.
+	 * @param game - The {@link Game} to determine the turn for.
+	 * @param player - The {@link CpuPlayer} in charge.
+	 * @return The column identifier of the turn.
+	 */
+	public String determineNextTurn(Game game, CpuPlayer player)
+	{
+		long start = System.nanoTime();
+		
+		try
+		{
+			return player.determineNextTurn(game);
+		}
+		finally
+		{
+			EngineMetrics.getInstance().recordThinkTime(player.getLevel(), System.nanoTime() - start);
+		}
+	}
+	
+	/**
+	 * Enables the {@link CpuPlayer} instances to search on the time of a human opponent, while the opponent decides about the turn.
+	 * The pondering is stopped, as soon as the turn of the opponent arrives via {@link GameController#executeTurn(Game, String)}.
+	 * Disabled by default, since every pondering {@link CpuPlayer} occupies a thread of its own.
+	 * @param pondering - <b>true</b> to enable pondering for all subsequent turns; otherwise <b>false</b>.
+	 */
+	public void setPondering(boolean pondering)
+	{
+		this.pondering = pondering;
+	}
+	
+	/**
+	 * Indicates, whether {@link CpuPlayer} instances ponder on the time of a human opponent.
+	 * @return <b>true</b>, if pondering is enabled; otherwise <b>false</b>.
+	 */
+	public boolean isPondering()
+	{
+		return pondering;
 	}
 	
 	/**
@@ -73,6 +187,53 @@ public abstract class GameController
 		refreshStatistic(game.getStatistic());
 	}
 	
+	/**
+	 * Stops the pondering of all {@link CpuPlayer} instances of the specified {@link Game}, e.g. if the {@link Game} is abandoned.
+	 * @param game - The {@link Game}, whose {@link CpuPlayer} instances are to stop pondering.
+	 */
+	public void stopPondering(Game game)
+	{
+		for (Player player : new Player[] { game.getStartPlayer(), game.getOtherPlayer() })
+		{
+			if (player instanceof CpuPlayer)
+			{
+				((CpuPlayer) player).stopPondering();
+			}
+		}
+	}
+	
+	private boolean isRunning(Game game)
+	{
+		GameStatus status = game.getStatus();
+		
+		return game.isStarted() && status != null && !status.isConnectFour() && !status.isDraw();
+	}
+	
+	private void startPondering(Game game)
+	{
+		if (!pondering || !game.isStarted())
+		{
+			return;
+		}
+		
+		// Only a human player in charge leaves idle time to the CPU player
+		
+		GameStatus status = game.getStatus();
+		
+		if (status == null || status.isConnectFour() || status.isDraw() || status.isCurrentCpuPlayer())
+		{
+			return;
+		}
+		
+		for (Player player : new Player[] { game.getStartPlayer(), game.getOtherPlayer() })
+		{
+			if (player instanceof CpuPlayer)
+			{
+				((CpuPlayer) player).startPondering(game);
+			}
+		}
+	}
+	
 	// These methods define communication from the model to the user interface
 	// and shall be implemented depending on the realization of the user interface.
 	// That's why they're declared abstract
@@ -90,10 +251,17 @@ public abstract class GameController
 	public abstract void refreshStatistic(GameStatistic statistic);
 	
 	/**
-	 * Refreshes the appearance of specified {@link GameBoardSlot}.
+	 * Refreshes the appearance of specified {@link GameBoardSlot} as it was at the time of the specified {@link BoardSnapshot}.
 	 * @param slot - The {@link GameBoardSlot} to be refreshed.
+	 * @param snapshot - The {@link BoardSnapshot} providing the {@link DropColor} of the slot.
+	 */
+	public abstract void refreshSlot(GameBoardSlot slot, BoardSnapshot snapshot);
+	
+	/**
+	 * Refreshes the appearance of all slots of the game board according to the specified {@link BoardSnapshot}.
+	 * @param snapshot - The {@link BoardSnapshot} providing the {@link DropColor} of each slot.
 	 */
-	public abstract void refreshSlot(GameBoardSlot slot);
+	public abstract void refreshBoard(BoardSnapshot snapshot);
 	
 	/**
 	 * Refreshes a set of {@link GameBoardSlot} instances, over which iteration is possible.
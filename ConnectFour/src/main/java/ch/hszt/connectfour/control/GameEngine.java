@@ -1,9 +1,13 @@
 
 package ch.hszt.connectfour.control;
 
+import java.util.List;
+
 import ch.hszt.connectfour.exception.GameException;
 
+import ch.hszt.connectfour.model.board.BoardSnapshot;
 import ch.hszt.connectfour.model.board.GameBoard;
+import ch.hszt.connectfour.model.board.GameBoardColumn;
 import ch.hszt.connectfour.model.board.GameBoardSlot;
 import ch.hszt.connectfour.model.game.Game;
 import ch.hszt.connectfour.model.game.GameStatistic;
@@ -12,6 +16,11 @@ import ch.hszt.connectfour.model.game.Player;
 
 /**
  * Encapsulates all the relevant game logic for inserting drops and for updating the {@link GameStatus} and {@link GameStatistic}.
+ * After each move, a {@link BoardSnapshot} of the position is published by {@link Game#getSnapshot()}.
+ * The engine is stateless => each update only holds the lock of the affected {@link Game} (see {@link Game#getLock()}),
+ * and observers are notified after the lock was released, so any number of games can be played concurrently.
+ * The notifications are published as {@link GameEvent} items and delivered asynchronously by the {@link GameEventBus} of the {@link Game}.
+ * Moves, latencies and finished games are recorded by the {@link EngineMetrics} exposed via JMX.
  * @author Markus Vetsch
  * @version 1.0, 13.10.2011
  */
@@ -42,34 +51,70 @@ public class GameEngine
 	 * @param column - The column identifier to set the drop into.
 	 * @throws GameException Thrown, if a drop can't be inserted into specified column at this moment.
 	 */
-	public synchronized void setDrop(Game game, String column) throws GameException
+	public void setDrop(Game game, String column) throws GameException
 	{
-		if (game.isStarted())
+		setDrop(game, GameBoardColumn.indexOfKey(column, game.getGeometry()));
+	}
+	
+	/**
+	 * Sets a drop in the column with specified index, if possible.
+	 * @param game - The associated {@link Game}.
+	 * @param columnIndex - The 0-based index of the column to set the drop into.
+	 * @throws GameException Thrown, if a drop can't be inserted into specified column at this moment.
+	 */
+	public void setDrop(Game game, int columnIndex) throws GameException
+	{
+		long start = System.nanoTime();
+		GameBoardSlot slot = null;
+		BoardSnapshot snapshot = null;
+		GameStatus updated = null;
+		boolean ended = false;
+		
+		synchronized (game.getLock())
 		{
+			if (!game.isStarted())
+			{
+				throw new GameException("Game is not started yet - no drops can be set!", game);
+			}
+			
 			GameStatus status = game.getStatus();
 			GameBoard board = game.getBoard();
 			Player current = status.getCurrentPlayer();
 			
 			try
 			{
-				GameBoardSlot slot = board.insertDrop(column, current.getDropColor());
+				slot = board.insertDrop(columnIndex, current.getDropColor());
 				
 				// Update drop count of player and update game status
 				
 				current.decrementDropCount();
 				
-				updateGame(game, slot);
+				ended = refreshGame(game, slot);
+				
+				// Captured under the lock => the notification matches the slot, even if the next move is faster
+				
+				snapshot = game.getSnapshot();
+				updated = game.getStatus();
 			}
 			catch (Exception ex)
 			{
-				throw new GameException(String.format("Drop couldn't be inserted into column %1$s! Reason: %2$s", column, ex.getMessage()),
+				throw new GameException(String.format("Drop couldn't be inserted into column %1$s! Reason: %2$s", 
+														GameBoardColumn.assignKeyById(columnIndex + 1), ex.getMessage()),
 										ex, game);
-			}			
+			}
 		}
-		else
+		
+		EngineMetrics metrics = EngineMetrics.getInstance();
+		metrics.recordMove(System.nanoTime() - start);
+		
+		if (ended)
 		{
-			throw new GameException("Game is not started yet - no drops can be set!", game);
+			metrics.recordGameFinished();
 		}
+		
+		// Observers may call back into the engine => never notify while holding the lock
+		
+		notifyGame(game, slot, snapshot, updated, ended);
 	}
 
 	/**
@@ -78,7 +123,7 @@ public class GameEngine
 	 *  but as no {@link GameBoardSlot} affected, the argument remains <b>null</b>
 	 * @param game - The {@link Game} to update.
 	 */
-	public synchronized void updateGame(Game game) 
+	public void updateGame(Game game) 
 	{
 		updateGame(game, null);
 	}
@@ -88,9 +133,67 @@ public class GameEngine
 	 * @param game - The {@link Game} to update.
 	 * @param slot - The {@link GameBoardSlot}, that was updated.
 	 */
-	public synchronized void updateGame(Game game, GameBoardSlot slot)
-	{		
-		GameStatus.update(game);
-		game.notifyChanged(slot);
+	public void updateGame(Game game, GameBoardSlot slot)
+	{
+		long start = System.nanoTime();
+		BoardSnapshot snapshot;
+		GameStatus status;
+		boolean ended;
+		
+		synchronized (game.getLock())
+		{
+			ended = refreshGame(game, slot);
+			snapshot = game.getSnapshot();
+			status = game.getStatus();
+		}
+		
+		EngineMetrics.getInstance().recordUpdate(System.nanoTime() - start);
+		
+		notifyGame(game, slot, snapshot, status, ended);
+	}
+	
+	private void notifyGame(Game game, GameBoardSlot slot, BoardSnapshot snapshot, GameStatus status, boolean ended)
+	{
+		long start = System.nanoTime();
+		
+		game.notifyChanged(slot, snapshot, status);
+		
+		if (ended)
+		{
+			game.notifyEnded(snapshot, status);
+		}
+		
+		EngineMetrics.getInstance().recordNotification(System.nanoTime() - start);
+	}
+	
+	/**
+	 * Publishes the position and updates the {@link GameStatus} - to be called while holding the lock of the {@link Game}.
+	 * @param game - The {@link Game} to update.
+	 * @param slot - The {@link GameBoardSlot}, that was updated, or <b>null</b>.
+	 * @return <b>true</b>, if the drop in the {@link GameBoardSlot} ended the {@link Game}; otherwise <b>false</b>.
+	 */
+	private boolean refreshGame(Game game, GameBoardSlot slot)
+	{
+		// Publish the position first => observers may read the snapshot from any thread
+		
+		game.publishSnapshot();
+		
+		if (slot != null)
+		{
+			// A new drop can only complete connect four through its own slot
+			
+			List<GameBoardSlot> connectFour = game.getBoard().getConnectFour(slot);
+			GameStatus.update(game, connectFour);
+		}
+		else
+		{
+			GameStatus.update(game);
+		}
+		
+		// Only the last drop ends the game => no further end notification on later updates
+		
+		GameStatus status = game.getStatus();
+		
+		return slot != null && (status.isConnectFour() || status.isDraw());
 	}
 }
@@ -0,0 +1,100 @@
+package ch.hszt.connectfour.control;
+
+import ch.hszt.connectfour.model.board.BoardSnapshot;
+import ch.hszt.connectfour.model.board.GameBoardSlot;
+import ch.hszt.connectfour.model.enumeration.GameEventType;
+import ch.hszt.connectfour.model.game.Game;
+import ch.hszt.connectfour.model.game.GameStatus;
+
+/**
+ * Represents an immutable event published by a {@link Game} via its {@link GameEventBus}.
+ * As events are delivered asynchronously, the {@link BoardSnapshot} of the position and the {@link GameStatus}
+ * at the time of the event are attached - the {@link Game} itself may have changed already, when the event is delivered.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class GameEvent
+{
+	private final GameEventType type;
+	private final Game game;
+	private final GameBoardSlot slot;
+	private final BoardSnapshot snapshot;
+	private final GameStatus status;
+
+	/**
+	 * Creates a new {@link GameEvent}.
+	 * @param type - The {@link GameEventType} of the event.
+	 * @param game - The {@link Game}, which published the event.
+	 * @param slot - The {@link GameBoardSlot} of the inserted drop for {@link GameEventType#DROP_INSERTED}; otherwise <b>null</b>.
+	 * @param snapshot - The {@link BoardSnapshot} of the position at the time of the event.
+	 * @param status - The immutable {@link GameStatus} at the time of the event.
+	 * @throws IllegalArgumentException Thrown, if type, game, snapshot or status is <b>null</b>.
+	 */
+	public GameEvent(GameEventType type, Game game, GameBoardSlot slot, BoardSnapshot snapshot, GameStatus status)
+	{
+		if (type == null || game == null || snapshot == null || status == null)
+		{
+			throw new IllegalArgumentException("Type, game, snapshot and status of a game event must be specified!");
+		}
+
+		this.type = type;
+		this.game = game;
+		this.slot = slot;
+		this.snapshot = snapshot;
+		this.status = status;
+	}
+
+	/**
+	 * Returns the {@link GameEventType} of this event.
+	 * @return The {@link GameEventType}.
+	 */
+	public GameEventType getType()
+	{
+		return type;
+	}
+
+	/**
+	 * Returns the {@link Game}, which published this event.
+	 * @return The {@link Game}.
+	 */
+	public Game getGame()
+	{
+		return game;
+	}
+
+	/**
+	 * Returns the {@link GameBoardSlot} of the inserted drop.
+	 * @return The {@link GameBoardSlot} for {@link GameEventType#DROP_INSERTED}; otherwise <b>null</b>.
+	 */
+	public GameBoardSlot getSlot()
+	{
+		return slot;
+	}
+
+	/**
+	 * Returns the {@link BoardSnapshot} of the position at the time of the event.
+	 * @return The {@link BoardSnapshot}.
+	 */
+	public BoardSnapshot getSnapshot()
+	{
+		return snapshot;
+	}
+
+	/**
+	 * Returns the {@link GameStatus} at the time of the event.
+	 * @return The {@link GameStatus}.
+	 */
+	public GameStatus getStatus()
+	{
+		return status;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return String.format("GameEvent [%1$s, %2$s]", type.toString(), (slot != null) ? slot.getKey() : "-");
+	}
+}
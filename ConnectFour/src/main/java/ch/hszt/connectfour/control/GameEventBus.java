@@ -0,0 +1,376 @@
+package ch.hszt.connectfour.control;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.hszt.connectfour.model.enumeration.GameEventType;
+import ch.hszt.connectfour.model.game.Game;
+
+/**
+ * Delivers the {@link GameEvent} items of a {@link Game} asynchronously to the subscribed {@link GameEventListener} instances.
+ * <p>
+ * Publishing never waits for any listener: each listener has its own bounded queue, which is drained one event after the other
+ * on the delivery threads shared by all games. So the order of the events is preserved per listener, while slow listeners
+ * (e.g. the GUI running animations) don't stall the thread executing the turns nor any other listener.
+ * </p>
+ * <p>
+ * Bursts are coalesced per listener: a pending {@link GameEventType#STATUS_CHANGED} is replaced by the next one.
+ * If a listener can't keep up and its queue is full, the backlog is collapsed into a single {@link GameEventType#STATUS_CHANGED},
+ * upon which the listener is to read the current state of the {@link Game}; {@link GameEventType#GAME_ENDED} is never discarded.
+ * </p>
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public class GameEventBus
+{
+	/**
+	 * The default number of pending events per listener.
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	/**
+	 * The maximum number of events delivered in a row, before the delivery thread is handed over to other listeners.
+	 */
+	private static final int DELIVERY_BATCH = 64;
+
+	/**
+	 * The delivery threads shared by the buses of all games.
+	 */
+	private static final ExecutorService deliveryExecutor =
+		Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), new ThreadFactory()
+	{
+		private final AtomicInteger count = new AtomicInteger();
+
+		public Thread newThread(Runnable task)
+		{
+			Thread thread = new Thread(task, String.format("GameEventThread-%d", count.incrementAndGet()));
+			thread.setDaemon(true);
+
+			return thread;
+		}
+	});
+
+	private final Executor executor;
+	private final int capacity;
+	private final List<Subscriber> subscribers = new CopyOnWriteArrayList<Subscriber>();
+	private final AtomicLong discardedEvents = new AtomicLong();
+
+	// Notified, whenever a listener has delivered all of its pending events
+
+	private final Object monitor = new Object();
+
+	/**
+	 * Creates a new {@link GameEventBus} delivering on the shared delivery threads with {@link GameEventBus#DEFAULT_CAPACITY}.
+	 */
+	public GameEventBus()
+	{
+		this(deliveryExecutor, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link GameEventBus}.
+	 * @param executor - The {@link Executor} to deliver the events on.
+	 * @param capacity - The maximum number of pending events per listener (>= 1).
+	 * @throws IllegalArgumentException Thrown, if no {@link Executor} was specified or the capacity is out of range.
+	 */
+	public GameEventBus(Executor executor, int capacity)
+	{
+		if (executor == null)
+		{
+			throw new IllegalArgumentException("No executor specified!");
+		}
+		if (capacity < 1)
+		{
+			throw new IllegalArgumentException(String.format("Invalid capacity of event queue: %d!", capacity));
+		}
+
+		this.executor = executor;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Subscribes the specified {@link GameEventListener} to all events published afterwards.
+	 * @param listener - The {@link GameEventListener} to be subscribed.
+	 * @throws IllegalArgumentException Thrown, if the {@link GameEventListener} is <b>null</b>.
+	 */
+	public void subscribe(GameEventListener listener)
+	{
+		if (listener == null)
+		{
+			throw new IllegalArgumentException("No event listener specified!");
+		}
+
+		subscribers.add(new Subscriber(listener));
+	}
+
+	/**
+	 * Unsubscribes the specified {@link GameEventListener} - pending events aren't delivered anymore.
+	 * @param listener - The {@link GameEventListener} to be unsubscribed.
+	 */
+	public void unsubscribe(GameEventListener listener)
+	{
+		for (Subscriber subscriber : subscribers)
+		{
+			if (subscriber.listener == listener)
+			{
+				subscriber.deactivate();
+				subscribers.remove(subscriber);
+			}
+		}
+	}
+
+	/**
+	 * Unsubscribes all {@link GameEventListener} instances - pending events aren't delivered anymore.
+	 */
+	public void unsubscribeAll()
+	{
+		for (Subscriber subscriber : subscribers)
+		{
+			subscriber.deactivate();
+		}
+
+		subscribers.clear();
+	}
+
+	/**
+	 * Returns the number of subscribed {@link GameEventListener} instances.
+	 * @return The number of listeners.
+	 */
+	public int countSubscribers()
+	{
+		return subscribers.size();
+	}
+
+	/**
+	 * Returns the number of events, which were discarded by coalescing or because of full queues.
+	 * @return The number of discarded events of all listeners.
+	 */
+	public long countDiscardedEvents()
+	{
+		return discardedEvents.get();
+	}
+
+	/**
+	 * Publishes the specified {@link GameEvent} to all subscribed listeners without waiting for the delivery.
+	 * @param event - The {@link GameEvent} to be published.
+	 * @throws IllegalArgumentException Thrown, if the {@link GameEvent} is <b>null</b>.
+	 */
+	public void publish(GameEvent event)
+	{
+		if (event == null)
+		{
+			throw new IllegalArgumentException("No event specified!");
+		}
+
+		for (Subscriber subscriber : subscribers)
+		{
+			subscriber.offer(event);
+		}
+	}
+
+	/**
+	 * Waits until all events published so far have been delivered to all listeners.
+	 * @param timeout - The maximum time to wait.
+	 * @param unit - The {@link TimeUnit} of the timeout.
+	 * @return <b>true</b>, if all events were delivered; otherwise <b>false</b>, if the timeout elapsed before.
+	 * @throws InterruptedException Thrown, if the current thread was interrupted while waiting.
+	 */
+	public boolean awaitDelivery(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+		synchronized (monitor)
+		{
+			while (!isIdle())
+			{
+				long remaining = deadline - System.nanoTime();
+
+				if (remaining <= 0)
+				{
+					return false;
+				}
+
+				TimeUnit.NANOSECONDS.timedWait(monitor, remaining);
+			}
+		}
+
+		return true;
+	}
+
+	private boolean isIdle()
+	{
+		for (Subscriber subscriber : subscribers)
+		{
+			if (subscriber.isBusy())
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * The queue of pending events of a {@link GameEventListener}, which is drained by a single delivery thread at once.
+	 */
+	private class Subscriber implements Runnable
+	{
+		private final GameEventListener listener;
+
+		// Guarded by this subscriber
+
+		private final LinkedList<GameEvent> queue = new LinkedList<GameEvent>();
+		private boolean scheduled;
+		private boolean active = true;
+
+		Subscriber(GameEventListener listener)
+		{
+			this.listener = listener;
+		}
+
+		void offer(GameEvent event)
+		{
+			synchronized (this)
+			{
+				if (!active)
+				{
+					return;
+				}
+
+				enqueue(event);
+
+				if (scheduled)
+				{
+					return;
+				}
+
+				scheduled = true;
+			}
+
+			// Outside of the lock => the delivery may start immediately on another thread
+
+			executor.execute(this);
+		}
+
+		synchronized void deactivate()
+		{
+			active = false;
+			queue.clear();
+		}
+
+		synchronized boolean isBusy()
+		{
+			return scheduled;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		public void run()
+		{
+			for (int delivered = 0; delivered < DELIVERY_BATCH; delivered++)
+			{
+				GameEvent event;
+
+				synchronized (this)
+				{
+					event = queue.poll();
+
+					if (event == null)
+					{
+						scheduled = false;
+						break;
+					}
+				}
+
+				long start = System.nanoTime();
+
+				try
+				{
+					listener.onEvent(event);
+				}
+				catch (RuntimeException ex)
+				{
+					// A failing listener mustn't stop the delivery of subsequent events
+
+					ex.printStackTrace();
+				}
+
+				EngineMetrics.getInstance().recordObserver(System.nanoTime() - start);
+			}
+
+			synchronized (this)
+			{
+				// Batch exhausted => continue later to give other listeners a chance
+
+				if (scheduled)
+				{
+					executor.execute(this);
+					return;
+				}
+			}
+
+			synchronized (monitor)
+			{
+				monitor.notifyAll();
+			}
+		}
+
+		private void enqueue(GameEvent event)
+		{
+			GameEventType type = event.getType();
+
+			if (type == GameEventType.STATUS_CHANGED)
+			{
+				// Only the latest status change is of interest
+
+				removePending(GameEventType.STATUS_CHANGED);
+				queue.add(event);
+			}
+			else if (queue.size() >= capacity)
+			{
+				// Listener can't keep up => collapse the backlog into a single status change
+
+				removePending(GameEventType.STATUS_CHANGED);
+				removePending(GameEventType.DROP_INSERTED);
+				queue.add(new GameEvent(GameEventType.STATUS_CHANGED, event.getGame(), null, event.getSnapshot(), event.getStatus()));
+
+				if (type == GameEventType.GAME_ENDED)
+				{
+					queue.add(event);
+				}
+				else
+				{
+					discardedEvents.incrementAndGet();
+				}
+			}
+			else
+			{
+				queue.add(event);
+			}
+		}
+
+		private void removePending(GameEventType type)
+		{
+			Iterator<GameEvent> it = queue.iterator();
+
+			while (it.hasNext())
+			{
+				if (it.next().getType() == type)
+				{
+					it.remove();
+					discardedEvents.incrementAndGet();
+				}
+			}
+		}
+	}
+}
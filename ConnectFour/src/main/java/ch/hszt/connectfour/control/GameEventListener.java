@@ -0,0 +1,19 @@
+package ch.hszt.connectfour.control;
+
+import ch.hszt.connectfour.model.game.Game;
+
+/**
+ * Defines a listener for the {@link GameEvent} items of a {@link Game}, subscribed via {@link GameEventBus#subscribe(GameEventListener)}.
+ * The events are delivered one after the other in the order of publication, but on a thread of the {@link GameEventBus},
+ * i.e. never on the thread, which executed the turn.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public interface GameEventListener
+{
+	/**
+	 * Handles the specified {@link GameEvent}.
+	 * @param event - The {@link GameEvent} to be handled.
+	 */
+	void onEvent(GameEvent event);
+}
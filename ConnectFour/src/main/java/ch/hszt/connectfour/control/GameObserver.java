@@ -3,24 +3,25 @@
  */
 package ch.hszt.connectfour.control;
 
-import java.util.Observable;
-import java.util.Observer;
-
-import ch.hszt.connectfour.exception.GameException;
 import ch.hszt.connectfour.model.board.GameBoardSlot;
+import ch.hszt.connectfour.model.enumeration.GameEventType;
 import ch.hszt.connectfour.model.game.CpuPlayer;
 import ch.hszt.connectfour.model.game.Game;
 
 /**
  * This class acts as main observer of the {@link Game} and is notified about changes within the associated {@link Game}.
+ * Each {@link GameEvent} except {@link GameEventType#GAME_ENDED} refreshes the {@link GameController} once;
+ * the end of the game is already reflected by the {@link ch.hszt.connectfour.model.game.GameStatus} refreshed for the last drop.
+ * Since events are delivered asynchronously, the board and the status are refreshed from the {@link GameEvent#getSnapshot()}
+ * and the {@link GameEvent#getStatus()} of the event, not from the {@link Game}, which may already have moved on.
  * @author Markus Vetsch
  * @version 1.0, 22.10.2011
  */
-public class GameObserver implements Observer
+public class GameObserver implements GameEventListener
 {
 	private final GameController controller;
 	
-	private GameBoardSlot updatedSlot;
+	private volatile GameBoardSlot updatedSlot;
 	
 	/**
 	 * Creates a new instance of the game controller.
@@ -42,33 +43,35 @@ public class GameObserver implements Observer
 	}
 	
 	/* (non-Javadoc)
-	 * @see java.util.Observer#update(java.util.Observable, java.lang.Object)
+	 * @see ch.hszt.connectfour.control.GameEventListener#onEvent(ch.hszt.connectfour.control.GameEvent)
 	 */
-	public void update(Observable o, Object arg)
+	public void onEvent(GameEvent event)
 	{
-		// now get the updated information
+		if (event.getType() == GameEventType.GAME_ENDED)
+		{
+			return;
+		}
 		
-		if (o instanceof Game)
+		// check for changed slot on the game board
+		
+		if (event.getType() == GameEventType.DROP_INSERTED)
 		{
-			Game game = (Game) o;
-			
-			// check for changed slot on the game board
+			// refresh slot via controller
 			
-			if (arg != null && arg instanceof GameBoardSlot)
-			{
-				// refresh slot via controller
-				
-				updatedSlot = (GameBoardSlot) arg;
-				controller.refreshSlot(updatedSlot);
-			}
-			else
-			{
-				updatedSlot = null;
-			}
-			
-			// refresh everything in any case
+			updatedSlot = event.getSlot();
+			controller.refreshSlot(updatedSlot, event.getSnapshot());
+		}
+		else
+		{
+			// Status changes may replace discarded drops => repaint the whole board
 			
-			controller.refreshAll(game);
-		}		
+			updatedSlot = null;
+			controller.refreshBoard(event.getSnapshot());
+		}
+		
+		// refresh status and statistic in any case
+		
+		controller.refreshStatus(event.getStatus());
+		controller.refreshStatistic(event.getGame().getStatistic());
 	}
 }
@@ -1,24 +1,63 @@
 /**
- * 
+ *
  */
 package ch.hszt.connectfour.control;
 
-import java.util.TimerTask;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import ch.hszt.connectfour.model.game.GameStatistic;
 
 /**
- * Represents the periodically executed task of updating the {@link GameStatistic}
+ * Represents the periodically executed task of updating the {@link GameStatistic}.
+ * The tasks of all games are executed by a single scheduler thread shared by the whole application:
+ * each tick runs after the previous one of the same task completed (i.e. late ticks are coalesced instead of queued up),
+ * the {@link GameController} is only called, if the displayed duration has changed, and the task cancels itself,
+ * as soon as the {@link GameStatistic} reports the end of the game.
  * @author Markus Vetsch
  * @version 1.0, 22.10.2011
  */
-public class GameStatisticUpdateTask extends TimerTask
+public class GameStatisticUpdateTask implements Runnable
 {
+	/**
+	 * The delay between two ticks in milliseconds - shorter than a second, so the displayed duration doesn't skip seconds.
+	 */
+	public static final long TICK_DELAY = 250;
+
+	/**
+	 * The scheduler shared by the tasks of all games.
+	 */
+	private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory()
+	{
+		public Thread newThread(Runnable task)
+		{
+			// Daemon thread => doesn't keep the application alive after the last window was closed
+
+			Thread thread = new Thread(task, "StatisticUpdateThread");
+			thread.setDaemon(true);
+
+			return thread;
+		}
+	});
+
 	private final GameController controller;
 	private final GameStatistic statistic;
-	
+
+	// Accessed by the scheduler thread only
+
+	private String lastDuration;
+
+	private volatile ScheduledFuture<?> future;
+	private volatile boolean cancelled;
+
 	/**
 	 * Creates a new {@link GameStatisticUpdateTask} for specified {@link GameStatistic}.
+	 * Use {@link GameStatisticUpdateTask#schedule(GameController, GameStatistic)} to create a running task.
+	 * @param controller - The {@link GameController} to refresh the {@link GameStatistic}.
+	 * @param statistic - The {@link GameStatistic} to be refreshed.
 	 */
 	public GameStatisticUpdateTask(final GameController controller, final GameStatistic statistic)
 	{
@@ -26,15 +65,81 @@ public class GameStatisticUpdateTask extends TimerTask
 		this.statistic = statistic;
 	}
 
+	/**
+	 * Creates a new {@link GameStatisticUpdateTask} and schedules it on the shared scheduler, starting immediately.
+	 * @param controller - The {@link GameController} to refresh the {@link GameStatistic}.
+	 * @param statistic - The {@link GameStatistic} to be refreshed.
+	 * @return The scheduled {@link GameStatisticUpdateTask}, which is to be cancelled by {@link GameStatisticUpdateTask#cancel()}.
+	 * @throws IllegalArgumentException Thrown, if the {@link GameStatistic} is <b>null</b>.
+	 */
+	public static GameStatisticUpdateTask schedule(final GameController controller, final GameStatistic statistic)
+	{
+		if (statistic == null)
+		{
+			throw new IllegalArgumentException("No game statistic specified!");
+		}
+
+		GameStatisticUpdateTask task = new GameStatisticUpdateTask(controller, statistic);
+
+		// Fixed delay => a late tick isn't followed by a burst of missed ticks
+
+		task.future = scheduler.scheduleWithFixedDelay(task, 0, TICK_DELAY, TimeUnit.MILLISECONDS);
+
+		// The first tick may have cancelled the task before the future was assigned
+
+		if (task.cancelled)
+		{
+			task.future.cancel(false);
+		}
+
+		return task;
+	}
+
+	/**
+	 * Cancels any further ticks of this task - a tick in progress is completed.
+	 */
+	public void cancel()
+	{
+		cancelled = true;
+
+		ScheduledFuture<?> current = future;
+
+		if (current != null)
+		{
+			current.cancel(false);
+		}
+	}
+
+	/**
+	 * Evaluates, if this task was cancelled explicitly or after the end of the game.
+	 * @return <b>true</b>, if no further ticks will be executed; otherwise <b>false</b>.
+	 */
+	public boolean isCancelled()
+	{
+		return cancelled;
+	}
+
 	/* (non-Javadoc)
-	 * @see java.util.TimerTask#run()
+	 * @see java.lang.Runnable#run()
 	 */
-	@Override
 	public void run()
 	{
-		// Refresh the associated statistic
-		
-		controller.refreshStatistic(statistic);
-	}
+		// No further refresh after the end of the game
+
+		if (cancelled || statistic.isEnded())
+		{
+			cancel();
+			return;
+		}
+
+		// Refresh the associated statistic only if the displayed duration changed
 
+		String duration = statistic.getDuration();
+
+		if (!duration.equals(lastDuration))
+		{
+			lastDuration = duration;
+			controller.refreshStatistic(statistic);
+		}
+	}
 }
@@ -0,0 +1,525 @@
+package ch.hszt.connectfour.control;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ch.hszt.connectfour.exception.GameException;
+import ch.hszt.connectfour.model.board.BoardSnapshot;
+import ch.hszt.connectfour.model.board.GameBoardSlot;
+import ch.hszt.connectfour.model.enumeration.PlayerType;
+import ch.hszt.connectfour.model.enumeration.ReplacementScheme;
+import ch.hszt.connectfour.model.enumeration.SkillLevel;
+import ch.hszt.connectfour.model.game.CpuPlayer;
+import ch.hszt.connectfour.model.game.Game;
+import ch.hszt.connectfour.model.game.GameStatistic;
+import ch.hszt.connectfour.model.game.GameStatus;
+import ch.hszt.connectfour.model.game.PerfectCpuPlayer;
+import ch.hszt.connectfour.model.game.Player;
+import ch.hszt.connectfour.model.game.PlayerFactory;
+import ch.hszt.connectfour.model.game.TranspositionTable;
+
+/**
+ * Concrete implementation of a {@link GameController} hosting any number of games without user interface,
+ * e.g. for games between {@link CpuPlayer} instances in load tests or on a server.
+ * <p>
+ * The turns of all hosted games are executed on a fixed number of threads: whenever a {@link CpuPlayer} is in charge,
+ * its turn is queued as a single task; the {@link GameEvent} of the inserted drop queues the next turn.
+ * So no thread is bound to any {@link Game} and games of human players just wait for
+ * {@link GameController#executeTurn(Game, String)} without occupying a thread.
+ * A {@link Game} is stopped and released, as soon as it ended with "ConnectFour" or a draw; it's aborted, 
+ * if the {@link CpuPlayer} in charge doesn't find a valid turn within {@link HeadlessGameController#MAX_TURN_ATTEMPTS}.
+ * </p>
+ * <p>
+ * Each thread of the host owns a single {@link TranspositionTable}, which it assigns to the {@link PerfectCpuPlayer} in charge
+ * before the turn; so the memory of the tables depends on the number of threads instead of the number of hosted games.
+ * </p>
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public class HeadlessGameController extends GameController
+{
+	/**
+	 * The number of attempts of a {@link CpuPlayer} to execute a valid turn, before the {@link Game} is aborted.
+	 */
+	public static final int MAX_TURN_ATTEMPTS = 10;
+
+	private final ExecutorService executor;
+
+	// One table per thread of the host => shared by the players of all games, whose turns the thread executes
+
+	private final ThreadLocal<TranspositionTable> tables = new ThreadLocal<TranspositionTable>()
+	{
+		@Override
+		protected TranspositionTable initialValue()
+		{
+			return new TranspositionTable(PerfectCpuPlayer.DEFAULT_TABLE_SIZE, ReplacementScheme.TWO_TIER);
+		}
+	};
+
+	private final Object monitor = new Object();
+
+	// Guarded by the monitor => each game is counted once, no matter how often it's released
+
+	private final Set<Game> runningGames = new HashSet<Game>();
+	private int finishedGames;
+	private int failedGames;
+
+	/**
+	 * Creates a new {@link HeadlessGameController} executing the turns on one thread per available processor.
+	 */
+	public HeadlessGameController()
+	{
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a new {@link HeadlessGameController}.
+	 * @param threadCount - The number of threads executing the turns of all hosted games (>= 1).
+	 * @throws IllegalArgumentException Thrown, if the number of threads is out of range.
+	 */
+	public HeadlessGameController(int threadCount)
+	{
+		if (threadCount < 1)
+		{
+			throw new IllegalArgumentException(String.format("Invalid number of threads: %d!", threadCount));
+		}
+
+		executor = Executors.newFixedThreadPool(threadCount, new HostThreadFactory());
+	}
+
+	/**
+	 * Starts the specified {@link Game} on this host.
+	 * If the start {@link GameStatus#getCurrentPlayer()} is a {@link CpuPlayer}, its first turn is queued immediately.
+	 * @param game - The {@link Game} to be hosted, which must not be started yet.
+	 * @throws GameException Thrown, if the {@link Game} was already started.
+	 * @throws IllegalStateException Thrown, if the host was shut down.
+	 */
+	public void host(Game game) throws GameException
+	{
+		if (executor.isShutdown())
+		{
+			throw new IllegalStateException("Host was shut down - no games can be started!");
+		}
+
+		synchronized (monitor)
+		{
+			runningGames.add(game);
+		}
+
+		game.getEvents().subscribe(new HostedGame(game));
+
+		try
+		{
+			startGame(game);
+		}
+		catch (GameException ex)
+		{
+			game.getEvents().unsubscribeAll();
+			countEnd(game, false);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Plays games between {@link CpuPlayer} instances from the command line, e.g. for load tests.
+	 * Arguments: number of games [number of threads (default: processors)] [skill level id (default 0)]
+	 * @param args - The command line arguments.
+	 * @throws Exception Thrown, if any game couldn't be started or the host was interrupted.
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		if (args.length < 1)
+		{
+			System.out.println("Usage: HeadlessGameController <games> [threads] [skill level id]");
+			return;
+		}
+
+		int games = Integer.parseInt(args[0]);
+		int threads = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		SkillLevel level = (args.length > 2) ? SkillLevel.parse(Integer.parseInt(args[2])) : SkillLevel.EASY;
+
+		HeadlessGameController host = new HeadlessGameController(threads);
+		long start = System.currentTimeMillis();
+
+		for (int i = 0; i < games; i++)
+		{
+			// Players keep their drop count => new players per game
+
+			Player first = PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, String.format("CPU %d-1", i), level);
+			Player second = PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, String.format("CPU %d-2", i), level);
+
+			host.host(new Game(first, second));
+		}
+
+		host.awaitGames(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		host.shutdown();
+
+		System.out.println(String.format("%d games finished, %d failed on %d threads in %d ms",
+											host.countFinishedGames(), host.countFailedGames(), threads,
+											System.currentTimeMillis() - start));
+	}
+
+	/**
+	 * Waits until all hosted games have ended.
+	 * @param timeout - The maximum time to wait.
+	 * @param unit - The {@link TimeUnit} of the timeout.
+	 * @return <b>true</b>, if all games have ended; otherwise <b>false</b>, if the timeout elapsed before.
+	 * @throws InterruptedException Thrown, if the current thread was interrupted while waiting.
+	 */
+	public boolean awaitGames(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+		synchronized (monitor)
+		{
+			while (!runningGames.isEmpty())
+			{
+				long remaining = deadline - System.nanoTime();
+
+				if (remaining <= 0)
+				{
+					return false;
+				}
+
+				TimeUnit.NANOSECONDS.timedWait(monitor, remaining);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the number of hosted games, that haven't ended yet.
+	 * @return The number of running games.
+	 */
+	public int countRunningGames()
+	{
+		synchronized (monitor)
+		{
+			return runningGames.size();
+		}
+	}
+
+	/**
+	 * Returns the number of hosted games, that ended with "ConnectFour" or a draw.
+	 * @return The number of finished games.
+	 */
+	public int countFinishedGames()
+	{
+		synchronized (monitor)
+		{
+			return finishedGames;
+		}
+	}
+
+	/**
+	 * Returns the number of hosted games, that were aborted because a turn couldn't be executed.
+	 * @return The number of failed games.
+	 */
+	public int countFailedGames()
+	{
+		synchronized (monitor)
+		{
+			return failedGames;
+		}
+	}
+
+	/**
+	 * Shuts the host down - queued turns are discarded and running games are stopped and counted as failed.
+	 */
+	public void shutdown()
+	{
+		executor.shutdownNow();
+
+		// Discarded turns never release their games => release all games still running
+
+		List<Game> games;
+
+		synchronized (monitor)
+		{
+			games = new ArrayList<Game>(runningGames);
+		}
+
+		for (Game game : games)
+		{
+			release(game, false);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.GameController#refreshStatus(ch.hszt.connectfour.model.game.GameStatus)
+	 */
+	@Override
+	public void refreshStatus(GameStatus status)
+	{
+		// Nothing to display
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.GameController#refreshStatistic(ch.hszt.connectfour.model.game.GameStatistic)
+	 */
+	@Override
+	public void refreshStatistic(GameStatistic statistic)
+	{
+		// Nothing to display
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.GameController#refreshSlot(ch.hszt.connectfour.model.board.GameBoardSlot, ch.hszt.connectfour.model.board.BoardSnapshot)
+	 */
+	@Override
+	public void refreshSlot(GameBoardSlot slot, BoardSnapshot snapshot)
+	{
+		// Nothing to display
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.GameController#refreshBoard(ch.hszt.connectfour.model.board.BoardSnapshot)
+	 */
+	@Override
+	public void refreshBoard(BoardSnapshot snapshot)
+	{
+		// Nothing to display
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.GameController#refreshSlots(java.lang.Iterable)
+	 */
+	@Override
+	public void refreshSlots(Iterable<GameBoardSlot> slots)
+	{
+		// Nothing to display
+	}
+
+	/**
+	 * Discards the message - thousands of games would flood any output.
+	 * @param message - The message to be printed.
+	 */
+	@Override
+	public void printMessage(String message)
+	{
+		// Nothing to display
+	}
+
+	/**
+	 * Stops the {@link Game} and removes it from the running games.
+	 * @param game - The {@link Game}, which has ended.
+	 * @param finished - <b>true</b>, if the {@link Game} ended regularly; <b>false</b>, if it was aborted.
+	 */
+	private void release(Game game, boolean finished)
+	{
+		try
+		{
+			stopGame(game);
+		}
+		catch (GameException ex)
+		{
+			// Already stopped => only counted, if it wasn't released before
+		}
+
+		game.getEvents().unsubscribeAll();
+		countEnd(game, finished);
+	}
+
+	private void countEnd(Game game, boolean finished)
+	{
+		synchronized (monitor)
+		{
+			if (!runningGames.remove(game))
+			{
+				return;
+			}
+
+			if (finished)
+			{
+				finishedGames++;
+			}
+			else
+			{
+				failedGames++;
+			}
+
+			monitor.notifyAll();
+		}
+	}
+
+	/**
+	 * Queues the specified turn - the {@link Game} is released as failed, if the host was shut down meanwhile.
+	 * @param turn - The {@link CpuPlayerTurn} to be executed on a thread of the host.
+	 */
+	private void queueTurn(CpuPlayerTurn turn)
+	{
+		try
+		{
+			executor.execute(turn);
+		}
+		catch (RejectedExecutionException ex)
+		{
+			release(turn.game, false);
+		}
+	}
+
+	/**
+	 * Follows the events of a hosted {@link Game}: releases it on its end and queues the turn of the {@link CpuPlayer} in charge.
+	 * As events are delivered asynchronously, the current state of the {@link Game} is evaluated instead of the event itself,
+	 * so each turn is queued only once, even if several events are delivered for the same position.
+	 */
+	private class HostedGame implements GameEventListener
+	{
+		private final Game game;
+
+		// Events of a listener are delivered one after the other => no synchronization needed
+
+		private int queuedTurn = -1;
+
+		HostedGame(Game game)
+		{
+			this.game = game;
+		}
+
+		/* (non-Javadoc)
+		 * @see ch.hszt.connectfour.control.GameEventListener#onEvent(ch.hszt.connectfour.control.GameEvent)
+		 */
+		public void onEvent(GameEvent event)
+		{
+			boolean ended;
+			boolean cpuTurn;
+			int turn;
+
+			synchronized (game.getLock())
+			{
+				GameStatus status = game.getStatus();
+
+				if (!game.isStarted() || status == null)
+				{
+					return;
+				}
+
+				ended = status.isConnectFour() || status.isDraw();
+				cpuTurn = status.isCurrentCpuPlayer();
+				turn = status.countCompletedTurns();
+			}
+
+			if (ended)
+			{
+				release(game, true);
+			}
+			else if (cpuTurn && turn != queuedTurn)
+			{
+				queuedTurn = turn;
+				queueTurn(new CpuPlayerTurn(game, turn, 1));
+			}
+		}
+	}
+
+	/**
+	 * Executes the turn of the current {@link CpuPlayer} of a {@link Game} on a thread of the host.
+	 */
+	private class CpuPlayerTurn implements Runnable
+	{
+		private final Game game;
+		private final int turn;
+		private final int attempt;
+
+		CpuPlayerTurn(Game game, int turn, int attempt)
+		{
+			this.game = game;
+			this.turn = turn;
+			this.attempt = attempt;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		public void run()
+		{
+			Player current;
+
+			synchronized (game.getLock())
+			{
+				GameStatus status = game.getStatus();
+
+				// The position has changed meanwhile (e.g. restarted or stopped) => the turn is obsolete
+
+				if (!game.isStarted() || status == null || status.countCompletedTurns() != turn)
+				{
+					return;
+				}
+
+				current = status.getCurrentPlayer();
+			}
+
+			try
+			{
+				CpuPlayer player = (CpuPlayer) current;
+
+				if (player instanceof PerfectCpuPlayer)
+				{
+					((PerfectCpuPlayer) player).setTranspositionTable(tables.get());
+				}
+
+				String column = determineNextTurn(game, player);
+
+				// Host shut down => the search was interrupted and the game is abandoned
+
+				if (Thread.currentThread().isInterrupted())
+				{
+					return;
+				}
+
+				if (column == null)
+				{
+					throw new GameException("CPU player didn't find any turn!", game);
+				}
+
+				// The notification of the drop queues the next turn
+
+				executeTurn(game, column);
+			}
+			catch (GameException ex)
+			{
+				// Retry like the GUI (e.g. a random turn of a heuristic player), but a game without progress would never end
+
+				if (attempt < MAX_TURN_ATTEMPTS && game.isStarted())
+				{
+					queueTurn(new CpuPlayerTurn(game, turn, attempt + 1));
+				}
+				else
+				{
+					release(game, false);
+				}
+			}
+			catch (RuntimeException ex)
+			{
+				release(game, false);
+			}
+		}
+	}
+
+	/**
+	 * Creates the daemon threads of the host, so hosted games don't keep the JVM alive.
+	 */
+	private static class HostThreadFactory implements ThreadFactory
+	{
+		private final AtomicInteger count = new AtomicInteger();
+
+		/* (non-Javadoc)
+		 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+		 */
+		public Thread newThread(Runnable task)
+		{
+			Thread thread = new Thread(task, String.format("GameHostThread-%d", count.incrementAndGet()));
+			thread.setDaemon(true);
+
+			return thread;
+		}
+	}
+}
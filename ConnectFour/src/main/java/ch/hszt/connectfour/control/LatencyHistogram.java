@@ -0,0 +1,169 @@
+package ch.hszt.connectfour.control;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records durations into a histogram without any lock, so it can be updated from any number of threads on the hot path.
+ * The buckets grow exponentially with four buckets per power of two, i.e. each percentile is accurate to 25 percent,
+ * while the size of the histogram is fixed independent of the number and range of the durations.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public class LatencyHistogram
+{
+	/**
+	 * The number of bits distinguishing the buckets within a power of two.
+	 */
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * The number of buckets => exact buckets for the smallest values, then four per power of two up to 2^63.
+	 */
+	private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong total = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records the specified duration.
+	 * @param nanos - The duration in nanoseconds; negative durations (e.g. of a clock adjustment) are recorded as 0.
+	 */
+	public void record(long nanos)
+	{
+		long value = Math.max(0L, nanos);
+
+		buckets.incrementAndGet(getBucket(value));
+		count.incrementAndGet();
+		total.addAndGet(value);
+
+		long current = max.get();
+
+		while (value > current && !max.compareAndSet(current, value))
+		{
+			current = max.get();
+		}
+	}
+
+	/**
+	 * Returns the number of recorded durations.
+	 * @return The number of durations.
+	 */
+	public long getCount()
+	{
+		return count.get();
+	}
+
+	/**
+	 * Returns the mean of the recorded durations.
+	 * @return The mean in nanoseconds or 0, if nothing was recorded.
+	 */
+	public long getMean()
+	{
+		long n = count.get();
+
+		return (n == 0) ? 0 : total.get() / n;
+	}
+
+	/**
+	 * Returns the longest recorded duration.
+	 * @return The maximum in nanoseconds or 0, if nothing was recorded.
+	 */
+	public long getMax()
+	{
+		return max.get();
+	}
+
+	/**
+	 * Returns the duration, which the specified share of the recorded durations doesn't exceed.
+	 * The upper bound of the bucket containing the percentile is returned, but never more than the maximum.
+	 * @param percentile - The percentile between 0 and 100, e.g. 99 for the 99th percentile.
+	 * @return The percentile in nanoseconds or 0, if nothing was recorded.
+	 * @throws IllegalArgumentException Thrown, if the percentile is out of range.
+	 */
+	public long getPercentile(double percentile)
+	{
+		if (percentile < 0 || percentile > 100)
+		{
+			throw new IllegalArgumentException(String.format("Invalid percentile: %f!", percentile));
+		}
+
+		// Buckets are read one after the other => concurrent records may be missing, but the result stays within the range
+
+		long[] counts = new long[BUCKETS];
+		long n = 0;
+
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			counts[i] = buckets.get(i);
+			n += counts[i];
+		}
+
+		if (n == 0)
+		{
+			return 0;
+		}
+
+		long rank = Math.max(1L, (long) Math.ceil(n * percentile / 100));
+		long seen = 0;
+
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			seen += counts[i];
+
+			if (seen >= rank)
+			{
+				return Math.min(getUpperBound(i), max.get());
+			}
+		}
+
+		return max.get();
+	}
+
+	/**
+	 * Discards all recorded durations - durations recorded concurrently may get lost partially.
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			buckets.set(i, 0L);
+		}
+
+		count.set(0L);
+		total.set(0L);
+		max.set(0L);
+	}
+
+	private static int getBucket(long value)
+	{
+		if (value < SUB_BUCKETS)
+		{
+			return (int) value;
+		}
+
+		// The highest bit selects the power of two, the bits below it the bucket within
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+		return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + sub;
+	}
+
+	private static long getUpperBound(int bucket)
+	{
+		if (bucket < SUB_BUCKETS)
+		{
+			return bucket;
+		}
+
+		int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+		int sub = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+		int shift = exponent - SUB_BUCKET_BITS;
+
+		return ((long) (SUB_BUCKETS + sub) << shift) + (1L << shift) - 1;
+	}
+}
@@ -0,0 +1,120 @@
+package ch.hszt.connectfour.control;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Represents the immutable summary of a {@link LatencyHistogram} in microseconds, as reported by {@link EngineMetricsMXBean}.
+ * JMX clients (e.g. JConsole or VisualVM) display it as composite data.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class LatencySummary
+{
+	private final long count;
+	private final long mean;
+	private final long median;
+	private final long percentile90;
+	private final long percentile99;
+	private final long max;
+
+	/**
+	 * Creates a new {@link LatencySummary}.
+	 * @param count - The number of recorded durations.
+	 * @param mean - The mean in microseconds.
+	 * @param median - The median in microseconds.
+	 * @param percentile90 - The 90th percentile in microseconds.
+	 * @param percentile99 - The 99th percentile in microseconds.
+	 * @param max - The maximum in microseconds.
+	 */
+	@ConstructorProperties({ "count", "mean", "median", "percentile90", "percentile99", "max" })
+	public LatencySummary(long count, long mean, long median, long percentile90, long percentile99, long max)
+	{
+		this.count = count;
+		this.mean = mean;
+		this.median = median;
+		this.percentile90 = percentile90;
+		this.percentile99 = percentile99;
+		this.max = max;
+	}
+
+	/**
+	 * Creates the {@link LatencySummary} of the current state of the specified {@link LatencyHistogram}.
+	 * @param histogram - The {@link LatencyHistogram} recording durations in nanoseconds.
+	 * @return The {@link LatencySummary} in microseconds.
+	 */
+	public static LatencySummary of(LatencyHistogram histogram)
+	{
+		return new LatencySummary(histogram.getCount(), toMicros(histogram.getMean()), toMicros(histogram.getPercentile(50)),
+									toMicros(histogram.getPercentile(90)), toMicros(histogram.getPercentile(99)),
+									toMicros(histogram.getMax()));
+	}
+
+	/**
+	 * Returns the number of recorded durations.
+	 * @return The number of durations.
+	 */
+	public long getCount()
+	{
+		return count;
+	}
+
+	/**
+	 * Returns the mean duration.
+	 * @return The mean in microseconds.
+	 */
+	public long getMean()
+	{
+		return mean;
+	}
+
+	/**
+	 * Returns the median duration.
+	 * @return The median in microseconds.
+	 */
+	public long getMedian()
+	{
+		return median;
+	}
+
+	/**
+	 * Returns the 90th percentile of the durations.
+	 * @return The 90th percentile in microseconds.
+	 */
+	public long getPercentile90()
+	{
+		return percentile90;
+	}
+
+	/**
+	 * Returns the 99th percentile of the durations.
+	 * @return The 99th percentile in microseconds.
+	 */
+	public long getPercentile99()
+	{
+		return percentile99;
+	}
+
+	/**
+	 * Returns the longest duration.
+	 * @return The maximum in microseconds.
+	 */
+	public long getMax()
+	{
+		return max;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return String.format("LatencySummary [count=%d, mean=%d us, p50=%d us, p90=%d us, p99=%d us, max=%d us]",
+								count, mean, median, percentile90, percentile99, max);
+	}
+
+	private static long toMicros(long nanos)
+	{
+		return nanos / 1000;
+	}
+}
@@ -7,11 +7,14 @@ import java.awt.Color;
 import java.util.List;
 import java.util.Random;
 
+import javax.swing.SwingUtilities;
+
 import ch.hszt.connectfour.exception.GameException;
 import ch.hszt.connectfour.gui.MainGameFrame;
 import ch.hszt.connectfour.gui.SetupFrame;
 import ch.hszt.connectfour.gui.SlotPanel;
 
+import ch.hszt.connectfour.model.board.BoardSnapshot;
 import ch.hszt.connectfour.model.board.GameBoardSlot;
 import ch.hszt.connectfour.model.enumeration.DialogResult;
 import ch.hszt.connectfour.model.enumeration.DropColor;
@@ -24,6 +27,9 @@ import ch.hszt.connectfour.util.GameStarter;
 
 /**
  * Concrete implementation of a {@link GameController} for a local game.
+ * The refresh methods are called on the delivery threads of the {@link GameEventBus} shared by all games,
+ * so they hand the work over to the event dispatch thread and return at once. Neither the animations nor the
+ * modal restart dialog block the delivery of other games this way.
  * @author Markus Vetsch
  * @version 1.0, 13.11.2011
  */
@@ -38,118 +44,186 @@ public class LocalGameController extends GameController
 	public LocalGameController(MainGameFrame frame)
 	{
 		this.frame = frame;
+		
+		// The GUI waits for the clicks of human players => idle time for the CPU player
+		
+		setPondering(true);
 	}
 
 	/* (non-Javadoc)
 	 * @see ch.hszt.connectfour.control.GameController#refreshStatus(ch.hszt.connectfour.model.game.GameStatus)
 	 */
 	@Override
-	public void refreshStatus(GameStatus status)
+	public void refreshStatus(final GameStatus status)
 	{
-		// Update game status for information section
-		
-		frame.setRemainingTurns(Integer.toString(status.countRemainingTurns()));
-		frame.setCompletedTurns(Integer.toString(status.countCompletedTurns()));
-		frame.setCurrentPlayer(String.format("%1$s [%2$s]",
-											status.getCurrentPlayer().getName(),
-											status.getCurrentPlayer().getDropColor().toString()));
-		frame.setYellowDrops(Integer.toString(status.countYellowDrops()));
-		frame.setRedDrops(Integer.toString(status.countRedDrops()));
-		
-		// Respect eventually connect four
-		
-		if (status.isConnectFour())
-		{			
-			handleConnectFour(status);
-			
-			// Important to call return here
-			// Otherwise CpuPlayer thread would be started once again
-			
-			return;
-		}
-		
-		// Respect eventually a draw otherwise
-		
-		else if (status.isDraw())
+		runOnEventDispatchThread(new Runnable()
 		{
-			handleDraw(status);
-			
-			// Important to call return here
-						// Otherwise CpuPlayer thread would be started once again
-			
-			return;
-		}
-		
-		// Update information about kind of current player => triggers CPU player turn
-		
-		frame.notifyIsCurrentCpuPlayer(status.isCurrentCpuPlayer());
+			public void run()
+			{
+				// Update game status for information section
+				
+				frame.setRemainingTurns(Integer.toString(status.countRemainingTurns()));
+				frame.setCompletedTurns(Integer.toString(status.countCompletedTurns()));
+				frame.setCurrentPlayer(String.format("%1$s [%2$s]",
+													status.getCurrentPlayer().getName(),
+													status.getCurrentPlayer().getDropColor().toString()));
+				frame.setYellowDrops(Integer.toString(status.countYellowDrops()));
+				frame.setRedDrops(Integer.toString(status.countRedDrops()));
+				
+				// Respect eventually connect four
+				
+				if (status.isConnectFour())
+				{
+					handleConnectFour(status);
+					
+					// Important to call return here
+					// Otherwise CpuPlayer thread would be started once again
+					
+					return;
+				}
+				
+				// Respect eventually a draw otherwise
+				
+				else if (status.isDraw())
+				{
+					handleDraw(status);
+					
+					// Important to call return here
+					// Otherwise CpuPlayer thread would be started once again
+					
+					return;
+				}
+				
+				// Update information about kind of current player => triggers CPU player turn
+				
+				frame.notifyIsCurrentCpuPlayer(status.isCurrentCpuPlayer());
+			}
+		});
 	}
 
 	/* (non-Javadoc)
 	 * @see ch.hszt.connectfour.control.GameController#refreshStatistic(ch.hszt.connectfour.model.game.GameStatistic)
 	 */
 	@Override
-	public void refreshStatistic(GameStatistic statistic)
+	public void refreshStatistic(final GameStatistic statistic)
 	{
-		frame.setDuration(statistic.getDuration());
+		runOnEventDispatchThread(new Runnable()
+		{
+			public void run()
+			{
+				frame.setDuration(statistic.getDuration());
+			}
+		});
 	}
 
 	/* (non-Javadoc)
-	 * @see ch.hszt.connectfour.control.GameController#refreshSlot(ch.hszt.connectfour.model.board.GameBoardSlot)
+	 * @see ch.hszt.connectfour.control.GameController#refreshSlot(ch.hszt.connectfour.model.board.GameBoardSlot, ch.hszt.connectfour.model.board.BoardSnapshot)
 	 */
 	@Override
-	public void refreshSlot(GameBoardSlot slot)
+	public void refreshSlot(final GameBoardSlot slot, final BoardSnapshot snapshot)
 	{
-		if (slot == null)
+		if (slot == null || snapshot == null)
 		{
-			throw new IllegalArgumentException("Specified GameBoardSlot was null!");
+			throw new IllegalArgumentException("Specified GameBoardSlot or BoardSnapshot was null!");
 		}
 		
-		SlotPanel panel = frame.getSlotPanel(slot.getKey());
-		
-		if (panel != null)
+		runOnEventDispatchThread(new Runnable()
 		{
-			if (slot.isEmpty())
+			public void run()
 			{
-				panel.setColor(Color.WHITE);
+				SlotPanel panel = frame.getSlotPanel(slot.getIndex());
+				
+				if (panel != null)
+				{
+					// The live slot may already have changed - the event's snapshot tells what to paint
+					
+					DropColor color = snapshot.getColor(slot.getIndex());
+					
+					if (color == DropColor.UNKNOWN)
+					{
+						panel.setColor(Color.WHITE);
+					}
+					else
+					{
+						// Run animation of drop sinking to target slot panel
+						
+						frame.runInsertAnimation(panel, color.toAwtColor());
+						
+						String player = frame.getGame().getPlayerByColor(color).getName();
+						
+						printMessage(String.format("%1$s inserted drop with %2$s color in slot %3$s ...",
+													player, color.toString(), slot.getKey()));
+					}
+				}
 			}
-			else
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.control.GameController#refreshBoard(ch.hszt.connectfour.model.board.BoardSnapshot)
+	 */
+	@Override
+	public void refreshBoard(final BoardSnapshot snapshot)
+	{
+		if (snapshot == null)
+		{
+			throw new IllegalArgumentException("Specified BoardSnapshot was null!");
+		}
+		
+		runOnEventDispatchThread(new Runnable()
+		{
+			public void run()
 			{
-				// Run animation of drop sinking to target slot panel
-				
-				frame.runInsertAnimation(panel, slot.getColor().toAwtColor());
-				
-				DropColor color = slot.getColor();
-				String player = frame.getGame().getPlayerByColor(color).getName();
+				// Paint every slot without animation - drops of discarded events are caught up this way
 				
-				printMessage(String.format("%1$s inserted drop with %2$s color in slot %3$s ...",
-											player, color.toString(), slot.getKey()));
+				for (int i = 0; i < snapshot.getGeometry().countSlots(); i++)
+				{
+					SlotPanel panel = frame.getSlotPanel(i);
+					
+					if (panel != null)
+					{
+						DropColor color = snapshot.getColor(i);
+						panel.setColor(color == DropColor.UNKNOWN ? Color.WHITE : color.toAwtColor());
+					}
+				}
 			}
-		}	
+		});
 	}
 
 	/* (non-Javadoc)
 	 * @see ch.hszt.connectfour.control.GameController#refreshSlots(java.lang.Iterable)
 	 */
 	@Override
-	public void refreshSlots(Iterable<GameBoardSlot> slots)
-	{		
-		// Set all panels to green color for connect four
-		
-		for (GameBoardSlot slot : slots)
+	public void refreshSlots(final Iterable<GameBoardSlot> slots)
+	{
+		runOnEventDispatchThread(new Runnable()
 		{
-			SlotPanel panel = frame.getSlotPanel(slot.getKey());
-			panel.setColor(Color.GREEN);
-		}
+			public void run()
+			{
+				// Set all panels to green color for connect four
+				
+				for (GameBoardSlot slot : slots)
+				{
+					SlotPanel panel = frame.getSlotPanel(slot.getIndex());
+					panel.setColor(Color.GREEN);
+				}
+			}
+		});
 	}
 
 	/* (non-Javadoc)
 	 * @see ch.hszt.connectfour.control.GameController#printMessage(java.lang.String)
 	 */
 	@Override
-	public void printMessage(String message)
+	public void printMessage(final String message)
 	{
-		frame.printMessage(message);
+		runOnEventDispatchThread(new Runnable()
+		{
+			public void run()
+			{
+				frame.printMessage(message);
+			}
+		});
 	}
 	
 	/**
@@ -249,6 +323,23 @@ public class LocalGameController extends GameController
 		}
 	}
 
+	/**
+	 * Runs the specified GUI work on the event dispatch thread. It runs at once, if called on the event dispatch thread,
+	 * otherwise it is queued behind the previous work, which keeps the refreshes of a game in order.
+	 * @param work - The GUI work to run.
+	 */
+	private void runOnEventDispatchThread(Runnable work)
+	{
+		if (SwingUtilities.isEventDispatchThread())
+		{
+			work.run();
+		}
+		else
+		{
+			SwingUtilities.invokeLater(work);
+		}
+	}
+
 	/**
 	 * Returns a {@link String} representation of the specified set of {@link GameBoardSlot}.
 	 * @param slots - The affected set of {@link GameBoardSlot}.
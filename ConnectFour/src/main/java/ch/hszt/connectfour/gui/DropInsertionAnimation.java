@@ -5,6 +5,8 @@ package ch.hszt.connectfour.gui;
 
 import java.awt.Color;
 
+import ch.hszt.connectfour.model.board.GameBoard;
+
 /**
  * Customized animation for drop insertion.
  * @author Markus Vetsch
@@ -33,16 +35,16 @@ class DropInsertionAnimation implements DropAnimation
 	 */
 	public void run()
 	{
-		String targetColumn = target.getColumn();
-		int targetRow = Integer.parseInt(target.getKey().substring(1));
+		int targetColumn = target.getColumnIndex();
+		int targetRow = target.getPosition();
 		
-		final int topRow = 6;
+		final int topRow = GameBoard.NUMBER_OF_SLOTS;
 		
 		SlotPanel current = null, previous = null;
 
 		for (int i = topRow; i >= targetRow; i--)
 		{
-			current = frame.getSlotPanel(targetColumn.concat(Integer.toString(i)));
+			current = frame.getSlotPanel(GameBoard.getSlotIndex(targetColumn, i));
 			current.setColor(color);
 			
 			if (previous != null)
@@ -4,6 +4,7 @@
 package ch.hszt.connectfour.gui;
 
 import ch.hszt.connectfour.control.GameController;
+import ch.hszt.connectfour.model.board.GameBoard;
 import ch.hszt.connectfour.model.game.Game;
 
 /**
@@ -26,12 +27,11 @@ public interface GameFrame
 	GameController getController();
 	
 	/**
-	 * Returns the {@link SlotPanel} for the given key or <b>null</b>, if there was no matching {@link SlotPanel} found.
-	 * @param key - The key of the {@link SlotPanel} to be found.
-	 * @throws IllegalArgumentException, if the key specified is <b>null</b>.
-	 * @return The corresponding {@link SlotPanel} or <b>null</b>, if there was no matching {@link SlotPanel}.
+	 * Returns the {@link SlotPanel} for the given slot index or <b>null</b>, if there was no matching {@link SlotPanel} found.
+	 * @param slotIndex - The slot index of the {@link SlotPanel} to be found (see {@link GameBoard#getSlotIndex(int, int)}).
+	 * @return The corresponding {@link SlotPanel} or <b>null</b>, if the slot index is out of range.
 	 */
-	SlotPanel getSlotPanel(String key);
+	SlotPanel getSlotPanel(int slotIndex);
 	
 	/**
 	 * Prints a message to a dedicated output device.
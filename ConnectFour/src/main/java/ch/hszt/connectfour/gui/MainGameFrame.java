@@ -22,20 +22,19 @@ import ch.hszt.connectfour.control.GameObserver;
 import ch.hszt.connectfour.control.GameStatisticUpdateTask;
 import ch.hszt.connectfour.control.LocalGameController;
 import ch.hszt.connectfour.exception.GameException;
+import ch.hszt.connectfour.model.board.GameBoard;
 import ch.hszt.connectfour.model.board.GameBoardColumn;
 import ch.hszt.connectfour.model.enumeration.DialogResult;
 import ch.hszt.connectfour.model.game.CpuPlayer;
 import ch.hszt.connectfour.model.game.Game;
 import ch.hszt.connectfour.model.game.Player;
-import ch.hszt.connectfour.util.DateHelper;
 import ch.hszt.connectfour.util.GuiHelper;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.Timer;
-import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import javax.swing.border.LineBorder;
 import javax.swing.text.DefaultCaret;
 import javax.swing.JTextArea;
@@ -64,6 +63,11 @@ public class MainGameFrame extends JDialog implements GameFrame
 	private static final int WIDTH = 1024;
 	private static final int HEIGHT = 768;
 	
+	/**
+	 * The number of attempts of a {@link CpuPlayer} to execute a valid turn, before it gives up.
+	 */
+	private static final int MAX_TURN_ATTEMPTS = 10;
+	
 	private JLabel lblYellowPlayer;
 	private JLabel lblRedPlayer;
 	private JLabel lblNextDrop;
@@ -77,11 +81,11 @@ public class MainGameFrame extends JDialog implements GameFrame
 	private JTextArea messageArea;
 	private JScrollPane scrollPane;
 	
-	private Timer timer;
+	private GameStatisticUpdateTask statisticTask;
 	
 	private AppImageCanvas canvas;
 	
-	private Map<String, List<SlotPanel>> slotPanels;
+	private SlotPanel[] slotPanels;
 	
 	private Game game;
 	private GameController controller;
@@ -95,6 +99,13 @@ public class MainGameFrame extends JDialog implements GameFrame
 	
 	private boolean isCurrentCpuPlayer;
 	
+	// The turns of the CPU player are owned by the frame => cancelled, as soon as the frame is closed
+	
+	private final Object cpuTurnMonitor = new Object();
+	private final ExecutorService cpuTurnExecutor = Executors.newSingleThreadExecutor(new CpuPlayerThreadFactory());
+	private Future<?> cpuTurn;
+	private int cpuTurnNumber = -1;
+	
 	/**
 	 * Creates the {@link MainGameFrame}.
 	 * @param owner - The owner {@link Window}.
@@ -130,10 +141,6 @@ public class MainGameFrame extends JDialog implements GameFrame
 		
 		addWindowListener(new GameFrameAdapter());
 		
-		// Create the timer
-		
-		timer = new Timer("UpdateTimer");
-		
 		initialize();
 	}
 	
@@ -165,27 +172,15 @@ public class MainGameFrame extends JDialog implements GameFrame
 	}
 	
 	/**
-	 * Returns the {@link SlotPanel} for the given key or <b>null</b>, if there was no matching {@link SlotPanel} found.
-	 * @param key - The key of the {@link SlotPanel} to be found.
-	 * @throws IllegalArgumentException, if the key specified is <b>null</b>.
-	 * @return The corresponding {@link SlotPanel} or <b>null</b>, if there was no matching {@link SlotPanel}.
+	 * Returns the {@link SlotPanel} for the given slot index or <b>null</b>, if there was no matching {@link SlotPanel} found.
+	 * @param slotIndex - The slot index of the {@link SlotPanel} to be found (see {@link GameBoard#getSlotIndex(int, int)}).
+	 * @return The corresponding {@link SlotPanel} or <b>null</b>, if the slot index is out of range.
 	 */
-	public SlotPanel getSlotPanel(String key)
+	public SlotPanel getSlotPanel(int slotIndex)
 	{
-		if (key == null)
+		if (slotIndex >= 0 && slotIndex < slotPanels.length)
 		{
-			throw new IllegalArgumentException("The specified key was null!");
-		}
-		
-		String keyUpper = key.toUpperCase();
-		String column = keyUpper.substring(0,1);
-		
-		for (SlotPanel panel : slotPanels.get(column))
-		{
-			if (panel.getKey().equals(keyUpper))
-			{
-				return panel;
-			}
+			return slotPanels[slotIndex];
 		}
 		
 		return null;
@@ -212,9 +207,13 @@ public class MainGameFrame extends JDialog implements GameFrame
 	
 	/**
 	 * Closes / hides this instance and releases allocated resources.
+	 * A {@link Game} still running is stopped, so it's neither counted as active nor notified anymore.
 	 */
 	public void close()
 	{
+		stopTimer();
+		cancelCpuTurn();
+		releaseGame();
 		setVisible(false);
 		dispose();
 	}
@@ -281,7 +280,7 @@ public class MainGameFrame extends JDialog implements GameFrame
 	
 	/**
 	 * Updates / notifies internally, whether current {@link Player} is a {@link CpuPlayer}.
-	 * @param isCurrentCpuPlayer - if <b>true</b>, the turn execution of the {@link CpuPlayer} is triggered in a separate thread;
+	 * @param isCurrentCpuPlayer - if <b>true</b>, the turn execution of the {@link CpuPlayer} is queued on the thread of the frame;
 	 * otherwise, the GUI waits for any click in a {@link SlotPanel} to execute the next turn.
 	 */
 	public void notifyIsCurrentCpuPlayer(boolean isCurrentCpuPlayer)
@@ -296,21 +295,67 @@ public class MainGameFrame extends JDialog implements GameFrame
 		{
 			// Turn execution of CPU player to take place in separate thread
 			
-			Thread cpuPlayerThread = new Thread(new CpuPlayerTurn(), "CpuPlayerThread");
-			cpuPlayerThread.start();
+			submitCpuTurn();
+		}
+	}
+	
+	/**
+	 * Cancels the running turn of the {@link CpuPlayer} and discards all further turns of this frame.
+	 * The search of a running turn is interrupted and stops within a fraction of a second without executing any turn.
+	 */
+	public void cancelCpuTurn()
+	{
+		synchronized (cpuTurnMonitor)
+		{
+			if (cpuTurn != null)
+			{
+				cpuTurn.cancel(true);
+				cpuTurn = null;
+			}
+			
+			cpuTurnExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Stops the {@link Game} of this frame, unless it was stopped before, and unsubscribes its observers.
+	 * Nothing happens, if the {@link Game} was released already.
+	 */
+	private void releaseGame()
+	{
+		if (game == null)
+		{
+			return;
+		}
+		
+		try
+		{
+			// Stopping also ends the pondering => no human turn is going to arrive anymore
+			
+			if (game.isStarted())
+			{
+				controller.stopGame(game);
+			}
+		}
+		catch (GameException ex)
+		{
+			printMessage("Game couldn't be stopped! Reason: " + ex.getMessage());
 		}
+		
+		game.getEvents().unsubscribeAll();
 	}
 
 	/**
-	 * Starts the timer, that periodically updates statistic information in the information section in a separate thread.
+	 * Starts the timer, that periodically updates statistic information in the information section.
+	 * The ticks are executed by the scheduler shared by all games (see {@link GameStatisticUpdateTask}).
 	 */
 	public void startTimer()
 	{
-		GameStatisticUpdateTask update = new GameStatisticUpdateTask(controller, game.getStatistic());
+		// At most one task per frame
 		
-		// Assign task, start immediately with a period of 1 second (1000 ms)
+		stopTimer();
 		
-		timer.schedule(update, DateHelper.now(), 1000);
+		statisticTask = GameStatisticUpdateTask.schedule(controller, game.getStatistic());
 	}
 	
 	/**
@@ -318,7 +363,11 @@ public class MainGameFrame extends JDialog implements GameFrame
 	 */
 	public void stopTimer()
 	{
-		timer.cancel();
+		if (statisticTask != null)
+		{
+			statisticTask.cancel();
+			statisticTask = null;
+		}
 	}
 	
 	/**
@@ -516,10 +565,12 @@ public class MainGameFrame extends JDialog implements GameFrame
 		
 		boolean rowLabelsCreated = false;						// Helper flag, to create row labels only once
 		
-		// Iterate all column keys in map
+		// Iterate all columns from left to right
 		
-		for (String columnKey : slotPanels.keySet())
+		for (int c = 0; c < COLUMNS; c++)
 		{
+			String columnKey = GameBoardColumn.assignKeyById(c + 1);
+			
 			// Define label position of column label
 			
 			int columnLabelPosX = positionX + (SlotPanel.DIAMETER / 2) - 10;
@@ -530,18 +581,14 @@ public class MainGameFrame extends JDialog implements GameFrame
 			BoardLabel columnLabel = new BoardLabel(columnKey, columnLabelPosX, columnLabelPosY, WIDTH, 50);
 			parent.add(columnLabel);
 			
-			// Get all the panels of current column
-			
-			List<SlotPanel> columnPanels = slotPanels.get(columnKey);
-
 			// Add slot panels per column from top to bottom
 			// iterate backwards => highest row number on top, lowest on bottom
 			
-			for (int i = columnPanels.size() - 1; i >= 0; i--)
+			for (int i = ROWS - 1; i >= 0; i--)
 			{
 				// Get panel, resize and add it to the container
 				
-				SlotPanel current = columnPanels.get(i);
+				SlotPanel current = slotPanels[GameBoard.getSlotIndex(c, i + 1)];
 				current.setBounds(positionX, positionY, current.getWidth(), current.getHeight());				
 				parent.add(current);
 				
@@ -579,36 +626,21 @@ public class MainGameFrame extends JDialog implements GameFrame
 	}
 
 	/**
-	 * Creates a {@link Map} of all {@link SlotPanel} for the {@link MainGameFrame}.
-	 * @return A {@link Map} of the {@link SlotPanel} to be drawn on the {@link MainGameFrame} using the column identifier
-	 *  as key and a {@link List} of associated {@link SlotPanel} as values.
+	 * Creates all {@link SlotPanel} for the {@link MainGameFrame}.
+	 * @return The array of the {@link SlotPanel} to be drawn on the {@link MainGameFrame} indexed by slot index
+	 *  (see {@link GameBoard#getSlotIndex(int, int)}).
 	 */
-	private Map<String, List<SlotPanel>> buildSlotPanels()
+	private SlotPanel[] buildSlotPanels()
 	{
-		// TreeMap to enable natural sorting by String
-		
-		Map<String, List<SlotPanel>> panels = new TreeMap<String, List<SlotPanel>>();
+		SlotPanel[] panels = new SlotPanel[COLUMNS * ROWS];
 		
-		for (int i = 1; i <= COLUMNS; i++)
+		for (int i = 0; i < COLUMNS; i++)
 		{
-			// Create column key by id
-			
-			String columnKey = GameBoardColumn.assignKeyById(i);
-			
-			// New column => new List of slot panels
-			
-			if (!panels.containsKey(columnKey))
-			{
-				panels.put(columnKey, new ArrayList<SlotPanel>());
-			}
-			
-			List<SlotPanel> panelList = panels.get(columnKey);
-			
 			// Add the slot panels and directly assign a event handler
 			
 			for (int j = 1; j <= ROWS; j++)
 			{
-				panelList.add(new SlotPanel(columnKey, j, new SlotPanelMouseAdapter()));
+				panels[GameBoard.getSlotIndex(i, j)] = new SlotPanel(i, j, new SlotPanelMouseAdapter());
 			}
 		}
 		
@@ -719,6 +751,8 @@ public class MainGameFrame extends JDialog implements GameFrame
 		public void windowClosed(WindowEvent e)
 		{
 			stopTimer();
+			cancelCpuTurn();
+			releaseGame();
 		}
 	}
 	
@@ -740,7 +774,7 @@ public class MainGameFrame extends JDialog implements GameFrame
 				
 				try
 				{
-					controller.executeTurn(game, panel.getColumn());
+					controller.executeTurn(game, panel.getColumnIndex());
 				}
 				catch (GameException ex)
 				{
@@ -755,47 +789,107 @@ public class MainGameFrame extends JDialog implements GameFrame
 	}
 	
 	/**
-	 * Implementation of separate thread to simulate turns for a {@link CpuPlayer}.
+	 * Queues the turn of the current {@link CpuPlayer}, unless it was queued before for the same position.
+	 */
+	private void submitCpuTurn()
+	{
+		int turn = game.getStatus().countCompletedTurns();
+		
+		synchronized (cpuTurnMonitor)
+		{
+			// Several notifications may arrive for the same position => a single turn only
+			
+			if (cpuTurnExecutor.isShutdown() || turn == cpuTurnNumber)
+			{
+				return;
+			}
+			
+			cpuTurnNumber = turn;
+			cpuTurn = cpuTurnExecutor.submit(new CpuPlayerTurn(turn));
+		}
+	}
+	
+	/**
+	 * Implementation of the task to simulate turns for a {@link CpuPlayer} on the thread of the frame.
+	 * The task ends without any turn, as soon as it's cancelled or the position has changed meanwhile.
 	 */
 	private class CpuPlayerTurn implements Runnable
-	{		
+	{
+		private final int turn;
+		
+		CpuPlayerTurn(int turn)
+		{
+			this.turn = turn;
+		}
+		
 		/* (non-Javadoc)
 		 * @see java.lang.Runnable#run()
 		 */
 		public void run()
-		{			
-			try
-			{				
-				CpuPlayer player = (CpuPlayer) game.getStatus().getCurrentPlayer();
-				
-				// Simulate CPU thinking time (1 to 5 seconds)
-				
-				final int thinkingTime = (1 + new Random().nextInt(5)) * 1000;				
-				controller.printMessage(String.format("CPU Player [%s] thinking about next turn ...",
-														player.getDropColor().toString()));
-				
-				Thread.sleep(thinkingTime);
-				
-				// Let the CPU player decide, which column to insert the drop into
-				
-				Game game = getGame();
-				String column = player.determineNextTurn(game);
-
-				// Finally execute the turn
-				
-				controller.executeTurn(game, column);
-			}
-			catch (GameException ex)
-			{
-				// TODO Auto-generated catch block
-				controller.printMessage("Last turn couldn't be executed! Reason: " + ex.getMessage());
-				notifyIsCurrentCpuPlayer(isCurrentCpuPlayer);
-			}
-			catch (InterruptedException ex)
+		{
+			for (int attempt = 1; attempt <= MAX_TURN_ATTEMPTS; attempt++)
 			{
-				// TODO Auto-generated catch block
-				ex.printStackTrace();
+				if (isObsolete())
+				{
+					return;
+				}
+				
+				try
+				{
+					CpuPlayer player = (CpuPlayer) game.getStatus().getCurrentPlayer();
+					
+					// The thinking time is bounded by the search budget of the CPU player
+					
+					controller.printMessage(String.format("CPU Player [%s] thinking about next turn ...",
+															player.getDropColor().toString()));
+					
+					// Let the CPU player decide, which column to insert the drop into
+					
+					String column = controller.determineNextTurn(game, player);
+					
+					// The search returns early, if it was cancelled => never insert the drop of an abandoned game
+					
+					if (isObsolete())
+					{
+						return;
+					}
+					
+					// Finally execute the turn
+					
+					controller.executeTurn(game, column);
+					
+					return;
+				}
+				catch (GameException ex)
+				{
+					controller.printMessage("Last turn couldn't be executed! Reason: " + ex.getMessage());
+				}
 			}
-		}		
+			
+			controller.printMessage("CPU player didn't find any valid turn - game can't be continued ...");
+		}
+		
+		private boolean isObsolete()
+		{
+			return Thread.currentThread().isInterrupted() || !game.isStarted() 
+					|| game.getStatus().countCompletedTurns() != turn;
+		}
+	}
+	
+	/**
+	 * Creates the daemon thread executing the turns of the {@link CpuPlayer} of a frame.
+	 */
+	private static class CpuPlayerThreadFactory implements ThreadFactory
+	{
+		/* (non-Javadoc)
+		 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+		 */
+		public Thread newThread(Runnable task)
+		{
+			Thread thread = new Thread(task, "CpuPlayerThread");
+			thread.setDaemon(true);
+			
+			return thread;
+		}
 	}
 }
@@ -9,6 +9,10 @@ import java.awt.geom.Ellipse2D;
 
 import javax.swing.JPanel;
 
+import ch.hszt.connectfour.model.board.GameBoard;
+import ch.hszt.connectfour.model.board.GameBoardColumn;
+import ch.hszt.connectfour.model.board.GameBoardSlot;
+
 /**
  * Customized panel for slot depiction on {@link MainGameFrame}
  * @author Markus Vetsch
@@ -22,7 +26,9 @@ public class SlotPanel extends JPanel
 	static final int DIAMETER = 90;
 	
 	private final String key;	
-	private final String column;
+	private final int index;
+	private final int columnIndex;
+	private final int position;
 	private final Ellipse2D.Double circle;
 	
 	private MouseAdapter adapter;			// reference to the assigned mouse adapter
@@ -31,17 +37,19 @@ public class SlotPanel extends JPanel
 
 	/**
 	 * Creates a new circle-shaped {@link SlotPanel}.
-	 * @param column - The column identifier of the column in game board, the {@link SlotPanel} belongs to.
+	 * @param columnIndex - The 0-based index of the column in game board, the {@link SlotPanel} belongs to.
 	 * @param position - The position of the {@link SlotPanel} within the column.
 	 * @param adapter - The associated {@link MouseAdapter} for event handling.
 	 */
-	public SlotPanel(String column, int position, MouseAdapter adapter) 
+	public SlotPanel(int columnIndex, int position, MouseAdapter adapter) 
 	{
 		setSize(DIAMETER, DIAMETER);
 		
 		this.circle = new Ellipse2D.Double(getX(), getY(), getWidth(), getHeight());
-		this.column = column;
-		this.key = column.concat(Integer.toString(position));
+		this.columnIndex = columnIndex;
+		this.position = position;
+		this.index = GameBoard.getSlotIndex(columnIndex, position);
+		this.key = GameBoardColumn.assignKeyById(columnIndex + 1).concat(Integer.toString(position));
 		
 		this.adapter = adapter;
 		
@@ -79,7 +87,7 @@ public class SlotPanel extends JPanel
 	}
 	
 	/**
-	 * Returns the key of the {@link SlotPanel}.
+	 * Returns the key of the {@link SlotPanel} for display.
 	 * @return The key of the {@link SlotPanel} assembled by column identfier and position.
 	 */
 	public String getKey()
@@ -88,12 +96,30 @@ public class SlotPanel extends JPanel
 	}
 	
 	/**
-	 * Returns the column identifier, the {@link SlotPanel} belongs to.
-	 * @return The column identifier the SlotPanel belongs to.
+	 * Returns the slot index of the {@link GameBoardSlot} depicted by the {@link SlotPanel}.
+	 * @return The 0-based slot index (see {@link GameBoard#getSlotIndex(int, int)}).
+	 */
+	public int getIndex()
+	{
+		return index;
+	}
+	
+	/**
+	 * Returns the index of the column, the {@link SlotPanel} belongs to.
+	 * @return The 0-based index of the column the SlotPanel belongs to.
+	 */
+	public int getColumnIndex()
+	{
+		return columnIndex;
+	}
+	
+	/**
+	 * Returns the position of the {@link SlotPanel} within its column.
+	 * @return The 1-based position of the SlotPanel.
 	 */
-	public String getColumn()
+	public int getPosition()
 	{
-		return column;
+		return position;
 	}
 	
 	/**
@@ -0,0 +1,189 @@
+package ch.hszt.connectfour.model.board;
+
+/**
+ * Defines the dimensions of a {@link GameBoard} and the number of drops in a row required to win,
+ * e.g. 7 x 6 slots with four in a row for the standard game or 20 x 20 slots with five in a row for large variants.
+ * <p>
+ * Slots are identified by their slot index, i.e. column by column from the first slot of column A (0-based):
+ * <code>slotIndex = columnIndex * slots + (position - 1)</code>.
+ * The drops are stored column by column in bitsets of 64 bit words with one spare bit on top of each column,
+ * i.e. the bitboard of the standard {@link GameBoard} fits into a single <code>long</code>.
+ * </p>
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class BoardGeometry
+{
+	/**
+	 * The maximum number of columns => column keys are the letters A - Z.
+	 */
+	public static final int MAX_COLUMNS = 26;
+
+	/**
+	 * The maximum number of slots per column.
+	 */
+	public static final int MAX_SLOTS = 100;
+
+	/**
+	 * The geometry of the standard game => 7 columns, 6 slots per column, four drops in a row.
+	 */
+	public static final BoardGeometry STANDARD = new BoardGeometry(GameBoard.NUMBER_OF_COLUMNS, GameBoard.NUMBER_OF_SLOTS, 4);
+
+	private final int columns;
+	private final int slots;
+	private final int connectLength;
+
+	/**
+	 * Creates a new {@link BoardGeometry}.
+	 * @param columns - The number of columns (1 - 26).
+	 * @param slots - The number of slots per column (1 - 100).
+	 * @param connectLength - The number of drops in a row required to win (>= 2),
+	 * which must fit into a column or row of the {@link GameBoard}.
+	 * @throws IllegalArgumentException Thrown, if any of the values is out of range.
+	 */
+	public BoardGeometry(int columns, int slots, int connectLength)
+	{
+		if (columns < 1 || columns > MAX_COLUMNS || slots < 1 || slots > MAX_SLOTS)
+		{
+			throw new IllegalArgumentException(String.format("Invalid size of the game board: %d x %d!", columns, slots));
+		}
+		if (connectLength < 2 || connectLength > Math.max(columns, slots))
+		{
+			throw new IllegalArgumentException(String.format("Invalid number of drops in a row: %d!", connectLength));
+		}
+
+		this.columns = columns;
+		this.slots = slots;
+		this.connectLength = connectLength;
+	}
+
+	/**
+	 * Returns the number of columns.
+	 * @return The number of columns.
+	 */
+	public int getColumns()
+	{
+		return columns;
+	}
+
+	/**
+	 * Returns the number of slots per column, i.e. the number of rows.
+	 * @return The number of slots per column.
+	 */
+	public int getSlots()
+	{
+		return slots;
+	}
+
+	/**
+	 * Returns the number of drops in a row required to win.
+	 * @return The number of drops in a row.
+	 */
+	public int getConnectLength()
+	{
+		return connectLength;
+	}
+
+	/**
+	 * Returns the total number of slots, i.e. the maximum number of turns of a game.
+	 * @return The number of slots on the {@link GameBoard}.
+	 */
+	public int countSlots()
+	{
+		return columns * slots;
+	}
+
+	/**
+	 * Evaluates, if this is the geometry of the standard game (see {@link BoardGeometry#STANDARD}).
+	 * Searches and opening books working on 64 bit bitboards are restricted to the standard geometry.
+	 * @return <b>true</b>, if the geometry matches the standard game; otherwise <b>false</b>.
+	 */
+	public boolean isStandard()
+	{
+		return equals(STANDARD);
+	}
+
+	/**
+	 * Returns the slot index of the specified slot.
+	 * @param columnIndex - The 0-based index of the column.
+	 * @param position - The 1-based position of the slot within the column.
+	 * @return The 0-based slot index, column by column from the first slot of column A.
+	 */
+	public int getSlotIndex(int columnIndex, int position)
+	{
+		return columnIndex * slots + position - 1;
+	}
+
+	/**
+	 * Returns the index of the specified slot in the bitsets of the drops.
+	 * @param columnIndex - The 0-based index of the column.
+	 * @param position - The 1-based position of the slot within the column.
+	 * @return The bit index of the slot, leaving one spare bit on top of each column.
+	 */
+	int getBitIndex(int columnIndex, int position)
+	{
+		return columnIndex * (slots + 1) + position - 1;
+	}
+
+	/**
+	 * Returns the index of the slot with specified slot index in the bitsets of the drops.
+	 * @param slotIndex - The 0-based slot index.
+	 * @return The bit index of the slot.
+	 */
+	int getBitIndex(int slotIndex)
+	{
+		return getBitIndex(slotIndex / slots, slotIndex % slots + 1);
+	}
+
+	/**
+	 * Returns the number of bits of the bitsets of the drops, including the spare bits.
+	 * @return The number of bits per {@link ch.hszt.connectfour.model.enumeration.DropColor}.
+	 */
+	int countBits()
+	{
+		return columns * (slots + 1);
+	}
+
+	/**
+	 * Returns the number of 64 bit words of the bitsets of the drops.
+	 * @return The number of words per {@link ch.hszt.connectfour.model.enumeration.DropColor}.
+	 */
+	int countWords()
+	{
+		return (countBits() + Long.SIZE - 1) / Long.SIZE;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (!(obj instanceof BoardGeometry))
+		{
+			return false;
+		}
+
+		BoardGeometry other = (BoardGeometry) obj;
+
+		return columns == other.columns && slots == other.slots && connectLength == other.connectLength;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode()
+	{
+		return (columns * 31 + slots) * 31 + connectLength;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return String.format("BoardGeometry [%d x %d, %d in a row]", columns, slots, connectLength);
+	}
+}
@@ -0,0 +1,340 @@
+package ch.hszt.connectfour.model.board;
+
+import java.util.Arrays;
+
+import ch.hszt.connectfour.model.enumeration.DropColor;
+
+/**
+ * Represents an immutable snapshot of the drops on a {@link GameBoard}, taken by {@link GameBoard#snapshot()}.
+ * The snapshot consists of the bitsets and Zobrist hashes of the position only (a few longs for the standard game), 
+ * so it's cheap to create and can be shared by any number of threads without locking, while the {@link GameBoard} itself keeps changing.
+ * Slots and columns are addressed by the same indices as on the {@link GameBoard}.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class BoardSnapshot
+{
+	/**
+	 * The snapshot of the empty standard {@link GameBoard}.
+	 */
+	public static final BoardSnapshot EMPTY = new GameBoard().snapshot();
+
+	private final BoardGeometry geometry;
+	private final long[] redDrops;
+	private final long[] yellowDrops;
+	private final long positionHash;
+	private final long mirrorHash;
+
+	/**
+	 * Creates a new snapshot - to be called via {@link GameBoard#snapshot()} only.
+	 * @param geometry - The {@link BoardGeometry} of the {@link GameBoard}.
+	 * @param redDrops - The bitset of all drops with {@link DropColor#RED}, which isn't modified afterwards.
+	 * @param yellowDrops - The bitset of all drops with {@link DropColor#YELLOW}, which isn't modified afterwards.
+	 * @param positionHash - The Zobrist hash of the position.
+	 * @param mirrorHash - The Zobrist hash of the left-right reflection of the position.
+	 */
+	BoardSnapshot(BoardGeometry geometry, long[] redDrops, long[] yellowDrops, long positionHash, long mirrorHash)
+	{
+		this.geometry = geometry;
+		this.redDrops = redDrops;
+		this.yellowDrops = yellowDrops;
+		this.positionHash = positionHash;
+		this.mirrorHash = mirrorHash;
+	}
+
+	/**
+	 * Returns the {@link BoardGeometry} of the {@link GameBoard} the snapshot was taken from.
+	 * @return The {@link BoardGeometry}.
+	 */
+	public BoardGeometry getGeometry()
+	{
+		return geometry;
+	}
+
+	/**
+	 * Returns the bitboard of all drops with specified {@link DropColor} on the standard {@link GameBoard} 
+	 * (see {@link GameBoard#getDrops(DropColor)}).
+	 * @param color - The {@link DropColor} to look up.
+	 * @return The bitmask of all slots occupied by the specified {@link DropColor}.
+	 * @throws IllegalStateException Thrown, if the snapshot wasn't taken from a standard {@link GameBoard}.
+	 */
+	public long getDrops(DropColor color)
+	{
+		if (!geometry.isStandard())
+		{
+			throw new IllegalStateException(String.format("No bitboard available for %s!", geometry.toString()));
+		}
+
+		switch (color)
+		{
+			case RED:
+				return redDrops[0];
+			case YELLOW:
+				return yellowDrops[0];
+			default:
+				return 0L;
+		}
+	}
+
+	/**
+	 * Returns the bitboard of all occupied slots on the standard {@link GameBoard}.
+	 * @return The bitmask of all slots occupied by either {@link DropColor}.
+	 * @throws IllegalStateException Thrown, if the snapshot wasn't taken from a standard {@link GameBoard}.
+	 */
+	public long getOccupied()
+	{
+		return getDrops(DropColor.RED) | getDrops(DropColor.YELLOW);
+	}
+
+	/**
+	 * Returns the {@link DropColor} of the drop in the slot with specified index.
+	 * @param slotIndex - The 0-based slot index (see {@link BoardGeometry#getSlotIndex(int, int)}).
+	 * @return The {@link DropColor} of the drop or {@link DropColor#UNKNOWN}, if the slot is empty.
+	 * @throws IllegalArgumentException Thrown, if the slot index is out of range.
+	 */
+	public DropColor getColor(int slotIndex)
+	{
+		if (slotIndex < 0 || slotIndex >= geometry.countSlots())
+		{
+			throw new IllegalArgumentException(String.format("Slot with index %d doesn't exist!", slotIndex));
+		}
+
+		int bit = geometry.getBitIndex(slotIndex);
+
+		if (isSet(redDrops, bit))
+		{
+			return DropColor.RED;
+		}
+
+		return isSet(yellowDrops, bit) ? DropColor.YELLOW : DropColor.UNKNOWN;
+	}
+
+	/**
+	 * Returns the number of drops in the column with specified index.
+	 * @param columnIndex - The 0-based index of the column.
+	 * @return The number of drops in the column, i.e. the position of the topmost drop or 0, if the column is empty.
+	 * @throws IllegalArgumentException Thrown, if the column index is out of range.
+	 */
+	public int getHeight(int columnIndex)
+	{
+		if (columnIndex < 0 || columnIndex >= geometry.getColumns())
+		{
+			throw new IllegalArgumentException(String.format("Column with index %d doesn't exist!", columnIndex));
+		}
+
+		// Columns are filled from the bottom => count up to the first empty slot
+
+		int height = 0;
+
+		while (height < geometry.getSlots() && isOccupied(geometry.getBitIndex(columnIndex, height + 1)))
+		{
+			height++;
+		}
+
+		return height;
+	}
+
+	/**
+	 * Evaluates, if a drop can be inserted into the column with specified index.
+	 * @param columnIndex - The 0-based index of the column.
+	 * @return <b>true</b>, if the column has empty slots left; otherwise <b>false</b>.
+	 * @throws IllegalArgumentException Thrown, if the column index is out of range.
+	 */
+	public boolean hasEmptySlots(int columnIndex)
+	{
+		return getHeight(columnIndex) < geometry.getSlots();
+	}
+
+	/**
+	 * Evaluates, if there is at least one empty slot left.
+	 * @return <b>true</b>, if further drops can be inserted; otherwise <b>false</b>.
+	 */
+	public boolean hasEmptySlots()
+	{
+		return countDrops() < geometry.countSlots();
+	}
+
+	/**
+	 * Returns the total number of drops.
+	 * @return The total number of drops.
+	 */
+	public int countDrops()
+	{
+		return countDrops(DropColor.RED) + countDrops(DropColor.YELLOW);
+	}
+
+	/**
+	 * Returns the number of drops with specified {@link DropColor}.
+	 * @param color - The {@link DropColor} to look up.
+	 * @return The number of drops with specified {@link DropColor} or 0 for {@link DropColor#UNKNOWN}.
+	 */
+	public int countDrops(DropColor color)
+	{
+		if (color == DropColor.UNKNOWN)
+		{
+			return 0;
+		}
+
+		int count = 0;
+
+		for (long word : (color == DropColor.RED) ? redDrops : yellowDrops)
+		{
+			count += Long.bitCount(word);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Determines, if there are enough drops of the specified {@link DropColor} in a row anywhere.
+	 * @param color - The {@link DropColor} to evaluate.
+	 * @return <b>true</b>, if the specified {@link DropColor} has "ConnectFour"; otherwise <b>false</b>.
+	 */
+	public boolean hasConnectFour(DropColor color)
+	{
+		if (color == DropColor.UNKNOWN)
+		{
+			return false;
+		}
+
+		if (geometry.isStandard())
+		{
+			return GameBoard.isConnectFour(getDrops(color));
+		}
+
+		// Any other geometry => check the windows of the shared table
+
+		long[] drops = (color == DropColor.RED) ? redDrops : yellowDrops;
+		WinningLines lines = WinningLines.forGeometry(geometry);
+
+		for (int window = 0; window < lines.countWindows(); window++)
+		{
+			int i = 0;
+
+			while (i < geometry.getConnectLength() && isSet(drops, geometry.getBitIndex(lines.getWindowSlot(window, i))))
+			{
+				i++;
+			}
+
+			if (i == geometry.getConnectLength())
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Evaluates, if a drop of the specified {@link DropColor} into the column with specified index would complete 
+	 * enough drops in a row to win, without modifying the snapshot.
+	 * @param columnIndex - The 0-based index of the column.
+	 * @param color - The {@link DropColor} of the drop.
+	 * @return <b>true</b>, if the column has empty slots left and the drop would win; otherwise <b>false</b>.
+	 * @throws IllegalArgumentException Thrown, if the column index is out of range.
+	 */
+	public boolean isWinningDrop(int columnIndex, DropColor color)
+	{
+		int height = getHeight(columnIndex);
+
+		if (height == geometry.getSlots() || color == DropColor.UNKNOWN)
+		{
+			return false;
+		}
+
+		// Only the windows through the slot of the drop are affected
+
+		long[] drops = (color == DropColor.RED) ? redDrops : yellowDrops;
+		int slotIndex = geometry.getSlotIndex(columnIndex, height + 1);
+		WinningLines lines = WinningLines.forGeometry(geometry);
+
+		for (int window : lines.getSlotWindows(slotIndex))
+		{
+			int i = 0;
+
+			while (i < geometry.getConnectLength() && (lines.getWindowSlot(window, i) == slotIndex
+					|| isSet(drops, geometry.getBitIndex(lines.getWindowSlot(window, i)))))
+			{
+				i++;
+			}
+
+			if (i == geometry.getConnectLength())
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the Zobrist hash of the position (see {@link GameBoard#getPositionHash()}).
+	 * @return The Zobrist hash of the position; 0 for the empty {@link GameBoard}.
+	 */
+	public long getPositionHash()
+	{
+		return positionHash;
+	}
+
+	/**
+	 * Returns the mirror-symmetric canonical hash of the position (see {@link GameBoard#getCanonicalHash()}).
+	 * @return The canonical Zobrist hash of the position.
+	 */
+	public long getCanonicalHash()
+	{
+		return Math.min(positionHash, mirrorHash);
+	}
+
+	/**
+	 * Evaluates, if the canonical hash was taken from the left-right reflection of the position.
+	 * @return <b>true</b>, if {@link BoardSnapshot#getCanonicalHash()} represents the reflected position; otherwise <b>false</b>.
+	 */
+	public boolean isCanonicalMirrored()
+	{
+		return mirrorHash < positionHash;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (!(obj instanceof BoardSnapshot))
+		{
+			return false;
+		}
+
+		BoardSnapshot other = (BoardSnapshot) obj;
+
+		return geometry.equals(other.geometry) && Arrays.equals(redDrops, other.redDrops) && Arrays.equals(yellowDrops, other.yellowDrops);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode()
+	{
+		return (int) (positionHash ^ (positionHash >>> 32));
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return String.format("BoardSnapshot [%s, %d drops]", geometry.toString(), countDrops());
+	}
+
+	private boolean isOccupied(int bit)
+	{
+		return isSet(redDrops, bit) || isSet(yellowDrops, bit);
+	}
+
+	private static boolean isSet(long[] drops, int bit)
+	{
+		return (drops[bit >>> 6] & (1L << bit)) != 0;
+	}
+}
@@ -4,43 +4,128 @@
 package ch.hszt.connectfour.model.board;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import ch.hszt.connectfour.io.Serial;
 import ch.hszt.connectfour.io.SerialObject;
 import ch.hszt.connectfour.model.enumeration.DropColor;
 /**
  * Represents model-based game board independent of the realization of the user interface.
+ * The size of the board and the number of drops in a row required to win are defined by its {@link BoardGeometry}.
  * @author Markus Vetsch
  * @version 1.0, 11.10.2011
  */
 public class GameBoard implements Serial
 {
 	/**
-	 * The maximum number of columns on the game board.
+	 * The number of columns on the standard game board (see {@link BoardGeometry#STANDARD}).
 	 */
 	public static final int NUMBER_OF_COLUMNS =  7;
 
 	/**
-	 * The maximum number of slots per column.
+	 * The number of slots per column on the standard game board (see {@link BoardGeometry#STANDARD}).
 	 */
 	public static final int NUMBER_OF_SLOTS =  6;
 	
+	/**
+	 * The number of bits reserved per column in the bitboard of the standard game board, i.e. the slots plus one sentinel bit on top.
+	 * The sentinel bit stays always empty and prevents sequences from wrapping into the adjacent column.
+	 */
+	static final int COLUMN_BITS = NUMBER_OF_SLOTS + 1;
+	
+	/**
+	 * The bitmask with all the slots of the standard {@link GameBoard} set.
+	 */
+	private static final long FULL_MASK = createFullMask();
+	
+	/**
+	 * The bit distances between adjacent slots => vertical, horizontal, down right diagonal, up right diagonal.
+	 */
+	private static final int[] DIRECTIONS = { 1, COLUMN_BITS, COLUMN_BITS - 1, COLUMN_BITS + 1 };
+	
+	/**
+	 * The fixed seed of the Zobrist keys => hash values remain stable between runs and may be persisted.
+	 */
+	private static final long ZOBRIST_SEED = 0x436F6E6E65637434L;
+	
+	/**
+	 * The Zobrist keys per {@link BoardGeometry}, {@link DropColor} (RED, YELLOW) and bit index of the bitsets.
+	 */
+	private static final Map<BoardGeometry, long[][]> ZOBRIST_KEYS = new Hashtable<BoardGeometry, long[][]>();
+	
+	private final BoardGeometry geometry;
+	private final WinningLines winningLines;
+	private final long[][] zobristKeys;
+	
 	private GameBoardLine[] columns;
 	private GameBoardLine[] rows;
 	private List<GameBoardDiagonal> diagonals;
-	private Map<Integer, String> columnMap;
+	
+	// Bitset representation of the drops => one bit per slot and color, column by column from bottom to top
+	
+	private final long[] redDrops;
+	private final long[] yellowDrops;
+	private final int[] heights;
+	
+	// Drop counters maintained on insertion / reset
+	
+	private int redCount;
+	private int yellowCount;
+	
+	// Number of drops per window and color => a window filled by a single color is "ConnectFour"
+	
+	private final int[][] windowCounts;
+	private final int[] connectCounts;
+	
+	// Zobrist hash of the position and of its left-right reflection
+	
+	private long positionHash;
+	private long mirrorHash;
 
 	/**
-   	* Creates a new instance of the {@link GameBoard}.
+   	* Creates a new instance of the standard {@link GameBoard} (see {@link BoardGeometry#STANDARD}).
    	*/
 	public GameBoard() 
   	{
-		// init game board structure => columns, rows, diagonals
+		this(BoardGeometry.STANDARD);
+  	}
+
+	/**
+   	* Creates a new instance of the {@link GameBoard} with specified {@link BoardGeometry}.
+   	* @param geometry - The {@link BoardGeometry} defining size and number of drops in a row to win.
+   	* @throws IllegalArgumentException Thrown, if no {@link BoardGeometry} was specified.
+   	*/
+	public GameBoard(BoardGeometry geometry) 
+  	{
+		if (geometry == null)
+		{
+			throw new IllegalArgumentException("No board geometry specified!");
+		}
+		
+		this.geometry = geometry;
+		this.winningLines = WinningLines.forGeometry(geometry);
+		this.zobristKeys = getZobristKeys(geometry);
+		
+		// init bitset state
+		
+		redDrops = new long[geometry.countWords()];
+		yellowDrops = new long[geometry.countWords()];
+		heights = new int[geometry.getColumns()];
 		
-		columnMap = new Hashtable<Integer, String>(NUMBER_OF_COLUMNS);
+		redCount = 0;
+		yellowCount = 0;
+		
+		windowCounts = new int[2][winningLines.countWindows()];
+		connectCounts = new int[2];
+		
+		positionHash = 0L;
+		mirrorHash = 0L;
+		
+		// init game board structure => columns, rows, diagonals
 		
 		columns = createColumns();		
 		rows = createRows();
@@ -132,11 +217,31 @@ public class GameBoard implements Serial
    	* @throws IllegalArgumentException Thrown, if either an invalid columnKey was passed as argument or 
    	* if the associated column is already full and doesn't allow insertion of further drops.
    	*/
-  	public synchronized GameBoardSlot insertDrop(String columnKey, DropColor color) 
+  	public GameBoardSlot insertDrop(String columnKey, DropColor color) 
+  	{
+  		int columnIndex = GameBoardColumn.indexOfKey(columnKey, geometry);
+  		
+  		if (columnIndex < 0)
+  		{
+  			throw new IllegalArgumentException(String.format("Column with key %s doesn't exist!", columnKey));
+  		}
+  		
+  		return insertDrop(columnIndex, color);
+  	}
+  	
+  	/**
+   	* Inserts a drop at the column with specified index, if possible.
+   	* @param columnIndex - The 0-based index of the column, which the drop shall be set for.
+   	* @param color - The {@link DropColor} of the drop.
+   	* @return The affected {@link GameBoardSlot}, if the drop was successfully inserted.
+   	* @throws IllegalArgumentException Thrown, if either the column index is out of range or 
+   	* if the associated column is already full and doesn't allow insertion of further drops.
+   	*/
+  	public synchronized GameBoardSlot insertDrop(int columnIndex, DropColor color) 
   	{
   		// get correct column
   		
-		GameBoardColumn column = getColumnByKey(columnKey);
+		GameBoardColumn column = getColumn(columnIndex);
 		
 		if (column != null)
 		{
@@ -144,7 +249,7 @@ public class GameBoard implements Serial
 			
 			GameBoardSlot slot = column.getNextEmptySlot();
 			
-			if (slot != null && slot.isEmpty())
+			if (slot != null)
 			{
 				// set the drop and return affected slot
 				
@@ -153,27 +258,312 @@ public class GameBoard implements Serial
 			}
 			else
 			{				
-				throw new IllegalArgumentException(String.format("Column %s is already full - can't insert further drops!", columnKey));
+				throw new IllegalArgumentException(String.format("Column %s is already full - can't insert further drops!", column.getKey()));
 			}
 		}
 		else
 		{
-			throw new IllegalArgumentException(String.format("Column with key %s doesn't exist!", columnKey));
+			throw new IllegalArgumentException(String.format("Column with index %d doesn't exist!", columnIndex));
 		}
   	}
   	
+  	/**
+   	* Takes back the topmost drop of the specified column.
+   	* @param columnKey - The column identifier, which the drop shall be removed from.
+   	* @return The {@link GameBoardSlot}, which is empty again.
+   	* @throws IllegalArgumentException Thrown, if either an invalid columnKey was passed as argument or 
+   	* if the associated column doesn't contain any drop.
+   	*/
+  	public GameBoardSlot undoDrop(String columnKey)
+  	{
+  		int columnIndex = GameBoardColumn.indexOfKey(columnKey, geometry);
+  		
+  		if (columnIndex < 0)
+  		{
+  			throw new IllegalArgumentException(String.format("Column with key %s doesn't exist!", columnKey));
+  		}
+  		
+  		return undoDrop(columnIndex);
+  	}
+  	
+  	/**
+   	* Takes back the topmost drop of the column with specified index.
+   	* Drop counters and hashes are restored to the state before the drop was inserted.
+   	* @param columnIndex - The 0-based index of the column, which the drop shall be removed from.
+   	* @return The {@link GameBoardSlot}, which is empty again.
+   	* @throws IllegalArgumentException Thrown, if either the column index is out of range or 
+   	* if the associated column doesn't contain any drop.
+   	*/
+  	public synchronized GameBoardSlot undoDrop(int columnIndex)
+  	{
+  		int position = getTopPosition(columnIndex);
+  		
+  		unmakeMove(columnIndex);
+  		
+  		return getSlot(geometry.getSlotIndex(columnIndex, position));
+  	}
+  	
+  	/**
+  	 * Inserts a drop into the column with specified index without resolving any {@link GameBoardSlot}.
+  	 * To be used by searches exploring a tree of positions on a single {@link GameBoard}; 
+  	 * each move is to be taken back by {@link GameBoard#unmakeMove(int)} in reverse order.
+  	 * @param columnIndex - The 0-based index of the column.
+  	 * @param color - The {@link DropColor} of the drop.
+  	 * @return <b>true</b>, if the specified {@link DropColor} has "ConnectFour" after the move; otherwise <b>false</b>.
+  	 * @throws IllegalArgumentException Thrown, if the column index is out of range, the column is full 
+  	 * or {@link DropColor#UNKNOWN} was specified.
+  	 */
+  	public synchronized boolean makeMove(int columnIndex, DropColor color)
+  	{
+  		if (columnIndex < 0 || columnIndex >= heights.length || heights[columnIndex] == geometry.getSlots())
+  		{
+  			throw new IllegalArgumentException(String.format("No drop can be inserted into column with index %d!", columnIndex));
+  		}
+  		if (color == DropColor.UNKNOWN)
+  		{
+  			throw new IllegalArgumentException(String.format("No drop to be set with undefined color %s!", color.toString()));
+  		}
+  		
+  		pushDrop(columnIndex, color);
+  		
+  		return hasConnectFour(color);
+  	}
+  	
+  	/**
+  	 * Takes back the topmost drop of the column with specified index, i.e. reverts {@link GameBoard#makeMove(int, DropColor)}.
+  	 * Drop counters and hashes are restored to the state before the move; the "ConnectFour" state follows from the drops.
+  	 * @param columnIndex - The 0-based index of the column.
+  	 * @throws IllegalArgumentException Thrown, if the column index is out of range or the column is empty.
+  	 */
+  	public synchronized void unmakeMove(int columnIndex)
+  	{
+  		if (getTopPosition(columnIndex) == 0)
+  		{
+  			throw new IllegalArgumentException(String.format("No drop to be removed from column with index %d!", columnIndex));
+  		}
+  		
+  		popDrop(columnIndex);
+  	}
+  	
   	/**
   	 * Resets the {@link GameBoard} into its original state, i.e. without any drops set.
   	 */
-  	public void reset()
+  	public synchronized void reset()
   	{
-  		for (GameBoardSlotCollection coll : getColumns())
+  		Arrays.fill(redDrops, 0L);
+  		Arrays.fill(yellowDrops, 0L);
+  		Arrays.fill(heights, 0);
+  		
+  		redCount = 0;
+  		yellowCount = 0;
+  		
+  		for (int[] counts : windowCounts)
   		{
-  			for (GameBoardSlot slot : coll)
+  			Arrays.fill(counts, 0);
+  		}
+  		
+  		Arrays.fill(connectCounts, 0);
+  		
+  		positionHash = 0L;
+  		mirrorHash = 0L;
+  	}
+  	
+  	/**
+  	 * Returns the {@link BoardGeometry} of the {@link GameBoard}.
+  	 * @return The {@link BoardGeometry} defining size and number of drops in a row to win.
+  	 */
+  	public BoardGeometry getGeometry()
+  	{
+  		return geometry;
+  	}
+  	
+  	/**
+  	 * Returns the table of lines and windows of the {@link BoardGeometry}.
+  	 * @return The {@link WinningLines} shared by all {@link GameBoard} instances of the same geometry.
+  	 */
+  	WinningLines getWinningLines()
+  	{
+  		return winningLines;
+  	}
+  	
+  	/**
+  	 * Returns the 64-bit Zobrist hash of the current position on the {@link GameBoard}.
+  	 * The hash is maintained incrementally on each drop insertion / removal and is identical for identical positions,
+  	 * regardless of the order the drops were inserted.
+  	 * @return The Zobrist hash of the current position; 0 for the empty {@link GameBoard}.
+  	 */
+  	public long getPositionHash()
+  	{
+  		return positionHash;
+  	}
+  	
+  	/**
+  	 * Returns the mirror-symmetric canonical hash of the current position, 
+  	 * i.e. the smaller one of {@link GameBoard#getPositionHash()} and the hash of the left-right reflection.
+  	 * A position and its reflection share the same canonical hash.
+  	 * @return The canonical Zobrist hash of the current position.
+  	 */
+  	public long getCanonicalHash()
+  	{
+  		return Math.min(positionHash, mirrorHash);
+  	}
+  	
+  	/**
+  	 * Evaluates, if the canonical hash was taken from the left-right reflection of the current position.
+  	 * In that case, column ids related to the canonical hash have to be mirrored by {@link GameBoard#mirrorColumnId(int)}.
+  	 * @return <b>true</b>, if {@link GameBoard#getCanonicalHash()} represents the reflected position; otherwise <b>false</b>.
+  	 */
+  	public boolean isCanonicalMirrored()
+  	{
+  		return mirrorHash < positionHash;
+  	}
+  	
+  	/**
+  	 * Returns the id of the column at the reflected position of the specified column on the standard {@link GameBoard}.
+  	 * @param columnId - The 1-based id of the column.
+  	 * @return The 1-based id of the reflected column, e.g. 7 for column 1.
+  	 */
+  	public static int mirrorColumnId(int columnId)
+  	{
+  		return NUMBER_OF_COLUMNS + 1 - columnId;
+  	}
+  	
+  	/**
+  	 * Returns the total number of drops on the {@link GameBoard}.
+  	 * @return The total number of drops.
+  	 */
+  	public int countDrops()
+  	{
+  		return redCount + yellowCount;
+  	}
+  	
+  	/**
+  	 * Returns the number of drops with specified {@link DropColor} on the {@link GameBoard}.
+  	 * @param color - The {@link DropColor} to look up.
+  	 * @return The number of drops with specified {@link DropColor} or 0 for {@link DropColor#UNKNOWN}.
+  	 */
+  	public int countDrops(DropColor color)
+  	{
+  		switch (color)
+  		{
+  			case RED:
+  				return redCount;
+  			case YELLOW:
+  				return yellowCount;
+  			default:
+  				return 0;
+  		}
+  	}
+  	
+  	/**
+  	 * Returns the number of empty {@link GameBoardSlot} instances, i.e. the number of drops, which can still be inserted.
+  	 * @return The number of empty slots on the {@link GameBoard}.
+  	 */
+  	public int countEmptySlots()
+  	{
+  		return geometry.countSlots() - countDrops();
+  	}
+  	
+  	/**
+  	 * Evaluates, if there is at least one empty {@link GameBoardSlot} left on the {@link GameBoard}.
+  	 * @return <b>true</b>, if further drops can be inserted; otherwise <b>false</b>.
+  	 */
+  	public boolean hasEmptySlots()
+  	{
+  		return countDrops() < geometry.countSlots();
+  	}
+  	
+  	/**
+  	 * Determines, if there are four (resp. the number required by the {@link BoardGeometry}) drops of the specified {@link DropColor} 
+  	 * in a row anywhere on the {@link GameBoard}, i.e. in any column, row or diagonal.
+  	 * The number of complete windows is maintained on each drop, so the cost doesn't depend on the size of the {@link GameBoard}.
+  	 * @param color - The {@link DropColor} to evaluate.
+  	 * @return <b>true</b>, if the specified {@link DropColor} has "ConnectFour"; otherwise <b>false</b>.
+  	 */
+  	public boolean hasConnectFour(DropColor color)
+  	{
+  		return color != DropColor.UNKNOWN && connectCounts[color.ordinal()] > 0;
+  	}
+  	
+  	/**
+  	 * Determines, if there are enough drops of the specified {@link DropColor} in a row on the specified line.
+  	 * @param color - The {@link DropColor} to evaluate.
+  	 * @param line - The index of the line in the {@link WinningLines} table.
+  	 * @return <b>true</b>, if any window of the line is filled by the specified {@link DropColor}; otherwise <b>false</b>.
+  	 */
+  	boolean hasConnectFour(DropColor color, int line)
+  	{
+  		if (color == DropColor.UNKNOWN)
+  		{
+  			return false;
+  		}
+  		
+  		int[] counts = windowCounts[color.ordinal()];
+  		
+  		for (int window = winningLines.getFirstWindow(line); window < winningLines.getEndWindow(line); window++)
+  		{
+  			if (counts[window] == geometry.getConnectLength())
+  			{
+  				return true;
+  			}
+  		}
+  		
+  		return false;
+  	}
+
+  	/**
+  	 * Evaluates, if the drop in the specified {@link GameBoardSlot} completes "ConnectFour".
+  	 * Only the windows through the specified {@link GameBoardSlot} are inspected,
+  	 * so the cost doesn't depend on the number of lines on the {@link GameBoard}.
+  	 * @param slot - The {@link GameBoardSlot}, which a drop was recently inserted to.
+  	 * @return The {@link List} of the {@link GameBoardSlot} instances building "ConnectFour" through the specified slot 
+  	 * or <b>null</b>, if the slot is empty or the drop isn't part of "ConnectFour".
+  	 */
+  	public synchronized List<GameBoardSlot> getConnectFour(GameBoardSlot slot)
+  	{
+  		DropColor color = slot.getColor();
+  		
+  		if (color == DropColor.UNKNOWN)
+  		{
+  			return null;
+  		}
+  		
+  		int[] counts = windowCounts[color.ordinal()];
+  		
+  		for (int window : winningLines.getSlotWindows(slot.getIndex()))
+  		{
+  			if (counts[window] == geometry.getConnectLength())
   			{
-  				slot.clear();
+  				return getWindowSlots(window);
   			}
   		}
+  		
+  		return null;
+  	}
+  	
+  	/**
+  	 * Searches the {@link GameBoard} for "ConnectFour" of any {@link DropColor}.
+  	 * The windows of slots in a row are taken from the shared {@link WinningLines} table 
+  	 * in the order of the columns, rows and diagonals.
+  	 * @return The {@link List} of the first {@link GameBoardSlot} instances building "ConnectFour" or <b>null</b>, if there is none.
+  	 */
+  	public synchronized List<GameBoardSlot> findConnectFour()
+  	{
+  		if (connectCounts[DropColor.RED.ordinal()] == 0 && connectCounts[DropColor.YELLOW.ordinal()] == 0)
+  		{
+  			return null;
+  		}
+  		
+  		for (int window = 0; window < winningLines.countWindows(); window++)
+  		{
+  			if (windowCounts[DropColor.RED.ordinal()][window] == geometry.getConnectLength()
+  					|| windowCounts[DropColor.YELLOW.ordinal()][window] == geometry.getConnectLength())
+  			{
+  				return getWindowSlots(window);
+  			}
+  		}
+  		
+  		return null;
   	}
 
   	/**
@@ -183,14 +573,29 @@ public class GameBoard implements Serial
    	*/
   	public GameBoardColumn getColumnById(int id) 
   	{
-		if (columnMap.containsKey(id))
+		if (id > 0 && id <= columns.length)
 		{
-			return getColumnByKey(columnMap.get(id));
+			return (GameBoardColumn) columns[id - 1];
 		}
 		
 		return null;
   	}
 
+  	/**
+   	* Returns the corresponding {@link GameBoardColumn} by the 0-based index.
+   	* @param columnIndex - The index of the {@link GameBoardColumn} (0 - 6 on the standard {@link GameBoard}).
+   	* @return The associated {@link GameBoardColumn} or <b>null</b>, if the index is out of range.
+   	*/
+  	public GameBoardColumn getColumn(int columnIndex)
+  	{
+  		if (columnIndex >= 0 && columnIndex < columns.length)
+  		{
+  			return (GameBoardColumn) columns[columnIndex];
+  		}
+  		
+  		return null;
+  	}
+
   	/**
    	* Returns the corresponding {@link GameBoardColumn} by the associated key.
    	* @param columnName - The key of the {@link GameBoardColumn} as {@link String}.
@@ -198,117 +603,254 @@ public class GameBoard implements Serial
    	*/
   	public GameBoardColumn getColumnByKey(String columnName) 
   	{
-		for (GameBoardLine line : columns)
-		{
-			if (line.isColumn())
-			{
-				GameBoardColumn column = (GameBoardColumn)line;
-				
-				if (column.getKey().equals(columnName.toUpperCase()))
-				{
-					return column;
-				}
-			}
-		}
-		
-		return null;
+		return getColumn(GameBoardColumn.indexOfKey(columnName, geometry));
   	}
-
-  	private GameBoardLine[] createColumns() 
+  	
+  	/**
+  	 * Returns the {@link GameBoardSlot} by its slot index (see {@link BoardGeometry#getSlotIndex(int, int)}).
+  	 * @param slotIndex - The 0-based slot index, column by column from the first slot of column A.
+  	 * @return The associated {@link GameBoardSlot} or <b>null</b>, if the index is out of range.
+  	 */
+  	public GameBoardSlot getSlot(int slotIndex)
   	{
-		GameBoardLine[] cols = new GameBoardColumn[GameBoard.NUMBER_OF_COLUMNS];
-		
-		for (int i = 0; i < cols.length; i++)
-		{
-			int columnId = i+1;
-			
-			GameBoardColumn column = new GameBoardColumn(columnId, this);
-			cols[i] = column;
-			
-			if (!columnMap.containsKey(columnId))
-			{
-				columnMap.put(columnId, column.getKey());
-			}
-		}
-
-		return cols;
+  		if (slotIndex >= 0 && slotIndex < geometry.countSlots())
+  		{
+  			int slots = geometry.getSlots();
+  			
+  			return ((GameBoardColumn) columns[slotIndex / slots]).getSlot(slotIndex % slots + 1);
+  		}
+  		
+  		return null;
   	}
-
-  	private GameBoardLine[] createRows() 
+  	
+  	/**
+  	 * Returns the slot index of the specified slot on the standard {@link GameBoard}, i.e. the primary address of a {@link GameBoardSlot}.
+  	 * Use {@link BoardGeometry#getSlotIndex(int, int)} for any other {@link BoardGeometry}.
+  	 * @param columnIndex - The 0-based index of the column (0 - 6).
+  	 * @param position - The 1-based position of the slot within the column (1 - 6).
+  	 * @return The 0-based slot index (0 - 41), column by column from the first slot of column A.
+  	 */
+  	public static int getSlotIndex(int columnIndex, int position)
   	{
-		GameBoardLine[] rows = new GameBoardRow[GameBoard.NUMBER_OF_SLOTS];
-		
-		for (int i = 0; i < rows.length; i++)
-		{
-			int rowId = i+1;
-			rows[i] = new GameBoardRow(rowId, this);
-		}
-		
-		return rows;
+  		return BoardGeometry.STANDARD.getSlotIndex(columnIndex, position);
   	}
-
-  	private List<GameBoardDiagonal> createDiagonals() 
+  	
+  	/**
+  	 * Returns the bitboard of all drops with specified {@link DropColor} on the standard {@link GameBoard}.
+  	 * The bit of a slot is located by {@link GameBoard#getSlotMask(int, int)}.
+  	 * @param color - The {@link DropColor} to look up.
+  	 * @return The bitmask of all slots occupied by the specified {@link DropColor}.
+  	 * @throws IllegalStateException Thrown, if the {@link GameBoard} doesn't have the standard {@link BoardGeometry}.
+  	 */
+  	public long getDrops(DropColor color)
   	{
-		List<GameBoardDiagonal> diagonalList = new ArrayList<GameBoardDiagonal>();
-		
-		diagonalList.addAll(createDownRightDiagonals());
-		diagonalList.addAll(createUpRightDiagonals());
-		
-		return diagonalList;
+  		if (!geometry.isStandard())
+  		{
+  			throw new IllegalStateException(String.format("No bitboard available for %s!", geometry.toString()));
+  		}
+  		
+  		switch (color)
+  		{
+  			case RED:
+  				return redDrops[0];
+  			case YELLOW:
+  				return yellowDrops[0];
+  			default:
+  				return 0L;
+  		}
+  	}
+  	
+  	/**
+  	 * Creates a new {@link GameBoard} with the position of the specified {@link BoardSnapshot}.
+  	 * The {@link GameBoard} is owned by the caller, so it can be analyzed without holding the lock of the {@link GameBoard}
+  	 * the snapshot was taken from, while that one keeps changing.
+  	 * @param snapshot - The {@link BoardSnapshot} of the position.
+  	 * @return The new {@link GameBoard} with the same {@link BoardGeometry} and drops.
+  	 * @throws IllegalArgumentException Thrown, if no {@link BoardSnapshot} was specified.
+  	 */
+  	public static GameBoard fromSnapshot(BoardSnapshot snapshot)
+  	{
+  		if (snapshot == null)
+  		{
+  			throw new IllegalArgumentException("No board snapshot specified!");
+  		}
+  		
+  		BoardGeometry geometry = snapshot.getGeometry();
+  		GameBoard board = new GameBoard(geometry);
+  		
+  		// Hashes and counters don't depend on the order of the drops => fill column by column
+  		
+  		for (int i = 0; i < geometry.getColumns(); i++)
+  		{
+  			for (int position = 1; position <= snapshot.getHeight(i); position++)
+  			{
+  				board.makeMove(i, snapshot.getColor(geometry.getSlotIndex(i, position)));
+  			}
+  		}
+  		
+  		return board;
+  	}
+  	
+  	/**
+  	 * Takes an immutable snapshot of the current position, which can be read by other threads without locking.
+  	 * @return The {@link BoardSnapshot} of the current position.
+  	 */
+  	public synchronized BoardSnapshot snapshot()
+  	{
+  		return new BoardSnapshot(geometry, redDrops.clone(), yellowDrops.clone(), positionHash, mirrorHash);
+  	}
+  	
+  	/**
+  	 * Returns the {@link DropColor} of the drop in the specified slot.
+  	 * @param columnIndex - The 0-based index of the column.
+  	 * @param position - The 1-based position of the slot within the column.
+  	 * @return The {@link DropColor} of the drop or {@link DropColor#UNKNOWN}, if the slot is empty.
+  	 */
+  	DropColor getColor(int columnIndex, int position)
+  	{
+  		int bit = geometry.getBitIndex(columnIndex, position);
+  		long mask = 1L << bit;
+  		
+  		if ((redDrops[bit >>> 6] & mask) != 0)
+  		{
+  			return DropColor.RED;
+  		}
+  		
+  		return ((yellowDrops[bit >>> 6] & mask) != 0) ? DropColor.YELLOW : DropColor.UNKNOWN;
   	}
 
-  	private List<GameBoardDiagonal> createDownRightDiagonals() 
+  	/**
+  	 * Returns the number of drops in the column with specified id.
+  	 * @param columnId - The 1-based id of the column.
+  	 * @return The number of drops in the column, i.e. the position of the topmost drop or 0, if the column is empty.
+  	 */
+  	int getHeight(int columnId)
   	{
-		List<GameBoardDiagonal> rightOnes = new ArrayList<GameBoardDiagonal>();
-		
-		// Search by upmost slots in all columns, i.e in first row
-		
-		for (GameBoardLine column : columns)
-		{
-			GameBoardSlot start = ((GameBoardColumn) column).getSlot(1);
-			
-			if (GameBoardDiagonal.isValid(start, true))
-			{
-				GameBoardDiagonal diagonal = new GameBoardDiagonal(start, true);
-			
-				// evaluate validity and uniqueness of diagonal
-				
-				if (!isDuplicate(diagonal, rightOnes))
-				{
-					rightOnes.add(new GameBoardDiagonal(start, true));
-				}				
-			}
-		}
-		
-		// Now search by all slots downwards in first column
-		
-		GameBoardColumn leftMost = getColumnByKey("A");
-		
-		for (int i = 1; i <= NUMBER_OF_SLOTS; i++)
-		{
-			GameBoardSlot start = leftMost.getSlot(i);
-			
-			// evaluate validity and uniqueness of diagonal
-			
-			if (GameBoardDiagonal.isValid(start, true))
-			{
-				GameBoardDiagonal diagonal = new GameBoardDiagonal(start, true);
-				
-				if (!isDuplicate(diagonal, rightOnes))
-				{
-					rightOnes.add(new GameBoardDiagonal(start, true));
-				}	
-			}
-		}
-		
-		return rightOnes;
+  		return heights[columnId - 1];
   	}
   	
-  	private boolean isDuplicate(GameBoardDiagonal diagonal, List<GameBoardDiagonal> diagonals)
+  	/**
+  	 * Sets the bit of the specified {@link GameBoardSlot} for the {@link DropColor}.
+  	 * @param slot - The {@link GameBoardSlot} to be occupied, which must be the next empty slot of its column.
+  	 * @param color - The {@link DropColor} of the drop.
+  	 * @throws IllegalStateException Thrown, if the {@link GameBoardSlot} isn't the next empty slot of its column.
+  	 */
+  	synchronized void setDrop(GameBoardSlot slot, DropColor color)
   	{
-  		for (GameBoardDiagonal d : diagonals)
+  		int columnIndex = slot.getColumn().getIndex();
+  		
+  		if (heights[columnIndex] + 1 != slot.getPosition())
   		{
-  			if (diagonal.IsIdenticalWith(d))
+  			throw new IllegalStateException(String.format("%s isn't the next empty slot of its column!", slot.toString()));
+  		}
+  		
+  		pushDrop(columnIndex, color);
+  	}
+  	
+  	/**
+  	 * Occupies the next empty slot of the column and updates counters, windows and hashes.
+  	 * @param columnIndex - The 0-based index of the column, which must have empty slots.
+  	 * @param color - The {@link DropColor} of the drop.
+  	 */
+  	private void pushDrop(int columnIndex, DropColor color)
+  	{
+  		int position = heights[columnIndex] + 1;
+  		int bit = geometry.getBitIndex(columnIndex, position);
+  		
+  		if (color == DropColor.RED)
+  		{
+  			redDrops[bit >>> 6] |= 1L << bit;
+  			redCount++;
+  		}
+  		else
+  		{
+  			yellowDrops[bit >>> 6] |= 1L << bit;
+  			yellowCount++;
+  		}
+  		
+  		heights[columnIndex] = position;
+  		
+  		// Only the windows through the slot are affected
+  		
+  		int[] counts = windowCounts[color.ordinal()];
+  		
+  		for (int window : winningLines.getSlotWindows(geometry.getSlotIndex(columnIndex, position)))
+  		{
+  			if (++counts[window] == geometry.getConnectLength())
+  			{
+  				connectCounts[color.ordinal()]++;
+  			}
+  		}
+  		
+  		toggleHash(columnIndex, position, color);
+  	}
+  	
+  	/**
+  	 * Clears the topmost slot of the column and updates counters, windows and hashes.
+  	 * @param columnIndex - The 0-based index of the column, which must contain a drop.
+  	 */
+  	private void popDrop(int columnIndex)
+  	{
+  		int position = heights[columnIndex];
+  		int bit = geometry.getBitIndex(columnIndex, position);
+  		DropColor color = getColor(columnIndex, position);
+  		
+  		if (color == DropColor.RED)
+  		{
+  			redDrops[bit >>> 6] &= ~(1L << bit);
+  			redCount--;
+  		}
+  		else
+  		{
+  			yellowDrops[bit >>> 6] &= ~(1L << bit);
+  			yellowCount--;
+  		}
+  		
+  		heights[columnIndex] = position - 1;
+  		
+  		int[] counts = windowCounts[color.ordinal()];
+  		
+  		for (int window : winningLines.getSlotWindows(geometry.getSlotIndex(columnIndex, position)))
+  		{
+  			if (counts[window]-- == geometry.getConnectLength())
+  			{
+  				connectCounts[color.ordinal()]--;
+  			}
+  		}
+  		
+  		// Toggling the same key again removes it from the hashes
+  		
+  		toggleHash(columnIndex, position, color);
+  	}
+  	
+  	/**
+  	 * Returns the position of the topmost drop in the column with specified index.
+  	 * @param columnIndex - The 0-based index of the column.
+  	 * @return The 1-based position of the topmost drop or 0, if the column is empty.
+  	 * @throws IllegalArgumentException Thrown, if the column index is out of range.
+  	 */
+  	private int getTopPosition(int columnIndex)
+  	{
+  		if (columnIndex < 0 || columnIndex >= heights.length)
+  		{
+  			throw new IllegalArgumentException(String.format("Column with index %d doesn't exist!", columnIndex));
+  		}
+  		
+  		return heights[columnIndex];
+  	}
+  	
+  	/**
+  	 * Evaluates, if the specified bitboard of the standard {@link GameBoard} contains four bits in a row in any direction.
+  	 * @param drops - The bitboard of a single color.
+  	 * @return <b>true</b>, if four drops are connected vertically, horizontally or diagonally.
+  	 */
+  	public static boolean isConnectFour(long drops)
+  	{
+  		for (int shift : DIRECTIONS)
+  		{
+  			long pairs = drops & (drops >> shift);
+  			
+  			if ((pairs & (pairs >> (2 * shift))) != 0)
   			{
   				return true;
   			}
@@ -316,53 +858,153 @@ public class GameBoard implements Serial
   		
   		return false;
   	}
-
+  	
   	/**
-  	 * Creates the <code>List<GameBoardDiagonal></code> in up right direction (bottom left to top right)
-  	 * @return The entire list of {@link GameBoardDiagonal}.
+  	 * Determines all empty slots, which would complete "ConnectFour" for the specified bitboard of the standard {@link GameBoard}, 
+  	 * if a drop was inserted.
+  	 * The slots don't need to be playable immediately, i.e. they may lie above the next empty slot of a column.
+  	 * @param drops - The bitboard of a single color.
+  	 * @param occupied - The bitboard of all occupied slots (both colors).
+  	 * @return The bitmask of all empty slots completing "ConnectFour".
   	 */
-  	private List<GameBoardDiagonal> createUpRightDiagonals() 
+  	public static long findWinningSlots(long drops, long occupied)
+  	{
+  		// Vertical => only three drops below an empty slot
+  		
+  		long winning = (drops << 1) & (drops << 2) & (drops << 3);
+  		
+  		// Horizontal and both diagonals => the empty slot may lie at any place of the four
+  		
+  		for (int i = 1; i < DIRECTIONS.length; i++)
+  		{
+  			int shift = DIRECTIONS[i];
+  			
+  			long pairs = (drops << shift) & (drops << (2 * shift));
+  			winning |= pairs & (drops << (3 * shift));
+  			winning |= pairs & (drops >>> shift);
+  			
+  			pairs = (drops >>> shift) & (drops >>> (2 * shift));
+  			winning |= pairs & (drops << shift);
+  			winning |= pairs & (drops >>> (3 * shift));
+  		}
+  		
+  		return winning & (FULL_MASK ^ occupied);
+  	}
+  	
+  	/**
+  	 * Returns the bitmask of a single slot in the bitboard of the standard {@link GameBoard}.
+  	 * @param columnId - The 1-based id of the column.
+  	 * @param position - The 1-based position of the slot within the column.
+  	 * @return The bitmask with only the bit of the slot set.
+  	 */
+  	public static long getSlotMask(int columnId, int position)
+  	{
+  		return 1L << ((columnId - 1) * COLUMN_BITS + position - 1);
+  	}
+  	
+  	/**
+  	 * Toggles the Zobrist keys of a slot in the position hash and in the mirrored hash.
+  	 * Toggling the same slot and {@link DropColor} twice restores the previous hash values.
+  	 * @param columnIndex - The 0-based index of the column.
+  	 * @param position - The 1-based position of the slot within the column.
+  	 * @param color - The {@link DropColor} of the drop.
+  	 */
+  	private void toggleHash(int columnIndex, int position, DropColor color)
+  	{
+  		long[] keys = zobristKeys[color.ordinal()];
+  		
+  		positionHash ^= keys[geometry.getBitIndex(columnIndex, position)];
+  		mirrorHash ^= keys[geometry.getBitIndex(heights.length - 1 - columnIndex, position)];
+  	}
+  	
+  	private List<GameBoardSlot> getWindowSlots(int window)
+  	{
+  		List<GameBoardSlot> slots = new ArrayList<GameBoardSlot>(geometry.getConnectLength());
+  		
+  		for (int i = 0; i < geometry.getConnectLength(); i++)
+  		{
+  			slots.add(getSlot(winningLines.getWindowSlot(window, i)));
+  		}
+  		
+  		return slots;
+  	}
+  	
+  	private static long createFullMask()
   	{
-		List<GameBoardDiagonal> leftOnes = new ArrayList<GameBoardDiagonal>();
+  		// The bottom row mask multiplied by (2^NUMBER_OF_SLOTS - 1) fills each column except the sentinel bit
+  		
+  		long bottom = 0L;
+  		
+  		for (int i = 1; i <= NUMBER_OF_COLUMNS; i++)
+  		{
+  			bottom |= getSlotMask(i, 1);
+  		}
+  		
+  		return bottom * ((1L << NUMBER_OF_SLOTS) - 1);
+  	}
+
+  	private static long[][] getZobristKeys(BoardGeometry geometry)
+  	{
+  		long[][] keys = ZOBRIST_KEYS.get(geometry);
+  		
+  		if (keys == null)
+  		{
+  			// Same seed for all geometries => the keys of the standard board remain stable
+  			
+  			Random random = new Random(ZOBRIST_SEED);
+  			keys = new long[2][geometry.countBits()];
+  			
+  			for (long[] colorKeys : keys)
+  			{
+  				for (int i = 0; i < colorKeys.length; i++)
+  				{
+  					colorKeys[i] = random.nextLong();
+  				}
+  			}
+  			
+  			ZOBRIST_KEYS.put(geometry, keys);
+  		}
+  		
+  		return keys;
+  	}
+
+  	private GameBoardLine[] createColumns() 
+  	{
+		GameBoardLine[] cols = new GameBoardColumn[geometry.getColumns()];
 		
-		// Search by lower most slots in column
+		for (int i = 0; i < cols.length; i++)
+		{
+			cols[i] = new GameBoardColumn(i+1, this);
+		}
+
+		return cols;
+  	}
+
+  	private GameBoardLine[] createRows() 
+  	{
+		GameBoardLine[] rows = new GameBoardRow[geometry.getSlots()];
 		
-		for (GameBoardLine column : columns)
+		for (int i = 0; i < rows.length; i++)
 		{
-			GameBoardSlot start = ((GameBoardColumn) column).getSlot(GameBoard.NUMBER_OF_SLOTS);
-			
-			if (GameBoardDiagonal.isValid(start, false))
-			{
-				GameBoardDiagonal diagonal = new GameBoardDiagonal(start, false);
-				diagonal.toString();
-				
-				if (!isDuplicate(diagonal, leftOnes))
-				{
-					leftOnes.add(new GameBoardDiagonal(start, false));
-				}				
-			}
+			int rowId = i+1;
+			rows[i] = new GameBoardRow(rowId, this);
 		}
 		
-		// Now search by all slots in first column
+		return rows;
+  	}
+
+  	private List<GameBoardDiagonal> createDiagonals() 
+  	{
+		List<GameBoardDiagonal> diagonalList = new ArrayList<GameBoardDiagonal>();
 		
-		GameBoardColumn leftMost = getColumnByKey("A");
+		// Down right and up right diagonals are precomputed by the shared table
 		
-		for (int i = 1; i <= GameBoard.NUMBER_OF_SLOTS; i++)
+		for (int line = winningLines.getFirstDiagonal(); line < winningLines.countLines(); line++)
 		{
-			GameBoardSlot start = leftMost.getSlot(i);
-			
-			if (GameBoardDiagonal.isValid(start, false))
-			{
-				GameBoardDiagonal diagonal = new GameBoardDiagonal(start, false);
-				
-				if (!isDuplicate(diagonal, leftOnes))
-				{
-					leftOnes.add(new GameBoardDiagonal(start, false));
-				}	
-			}
+			diagonalList.add(new GameBoardDiagonal(this, line));
 		}
 		
-		return leftOnes;
+		return diagonalList;
   	}
 
 	public void save(SerialObject obj)
@@ -30,25 +30,53 @@ public class GameBoardColumn extends GameBoardLine
 	 */
 	public static String assignKeyById(int columnId) 
 	{
-		switch (columnId)
+		// Column keys are consecutive letters => A - G on the standard board, up to Z on large boards
+		
+		if (columnId < 1 || columnId > BoardGeometry.MAX_COLUMNS)
 		{
-			case 1:
-				return "A";
-			case 2:
-				return "B";
-			case 3:
-				return "C";
-			case 4:
-				return "D";
-			case 5:
-				return "E";
-			case 6:
-				return "F";
-			case 7:
-				return "G";
-			default:
-				return null;
+			return null;
 		}
+		
+		return String.valueOf((char) ('A' + columnId - 1));
+	}
+
+	/**
+	 * Returns the 0-based index by specified column key on the standard {@link GameBoard}.
+	 * @param columnKey - The key of the column (A - G), case insensitive.
+	 * @return The index (0 - 6) matching the specified column key or -1, if there is no such column.
+	 */
+	public static int indexOfKey(String columnKey)
+	{
+		return indexOfKey(columnKey, BoardGeometry.STANDARD);
+	}
+	
+	/**
+	 * Returns the 0-based index by specified column key on a {@link GameBoard} with specified {@link BoardGeometry}.
+	 * @param columnKey - The key of the column (A - Z), case insensitive.
+	 * @param geometry - The {@link BoardGeometry} of the {@link GameBoard}.
+	 * @return The index matching the specified column key or -1, if there is no such column.
+	 */
+	public static int indexOfKey(String columnKey, BoardGeometry geometry)
+	{
+		if (columnKey == null || columnKey.length() != 1)
+		{
+			return -1;
+		}
+		
+		// Column keys are consecutive letters => derive the index directly from the character
+		
+		int index = Character.toUpperCase(columnKey.charAt(0)) - 'A';
+		
+		return (index >= 0 && index < geometry.getColumns()) ? index : -1;
+	}
+	
+	/**
+	 * Returns the 0-based index of the {@link GameBoardColumn}, i.e. its primary address on the {@link GameBoard}.
+	 * @return The index (0 - 6 on the standard {@link GameBoard}) of the {@link GameBoardColumn}.
+	 */
+	public int getIndex()
+	{
+		return id - 1;
 	}
 
 	/**
@@ -107,11 +135,9 @@ public class GameBoardColumn extends GameBoardLine
 	{
 		int count = 0;
 		
-		for (int i = 0; i < slots.length; i++)
+		for (int position = 1; position <= getHeight(); position++)
 		{
-			GameBoardSlot slot = getSlot(i);
-			
-			if (!slot.isEmpty() && slot.getColor() == color)
+			if (board.getColor(getIndex(), position) == color)
 			{
 				count++;
 			}
@@ -119,25 +145,25 @@ public class GameBoardColumn extends GameBoardLine
 		
 		return count;
 	}
+	
+	/**
+	 * Returns the number of drops in this {@link GameBoardColumn}.
+	 * @return The number of drops, which is equal to the position of the topmost drop or 0, if the column is empty.
+	 */
+	int getHeight()
+	{
+		return board.getHeight(id);
+	}
 
 	/**
-	 * Returns the next empty {@link GameBoardSlot} in ascending sequence (1-7).
+	 * Returns the next empty {@link GameBoardSlot} in ascending sequence (1-6).
 	 * @return The next empty {@link GameBoardSlot} or <b>NULL</b> if none is empty.
 	 */
 	GameBoardSlot getNextEmptySlot() 
 	{
-		if (hasEmptySlots())
-		{
-			for (int i = 1; i <= slots.length; i++)
-			{
-				if (getSlot(i).isEmpty())
-				{
-					return slots[i-1];
-				}
-			}
-		}	
+		// The column height directly points to the next empty slot (1-based)
 		
-		return null;
+		return getSlot(getHeight() + 1);
 	}
 
 	/**
@@ -148,7 +174,7 @@ public class GameBoardColumn extends GameBoardLine
 	{	
 		if (id > 0)
 		{
-			if (id == GameBoard.NUMBER_OF_COLUMNS)
+			if (id == board.getGeometry().getColumns())
 			{
 				return null;
 			}
@@ -192,20 +218,21 @@ public class GameBoardColumn extends GameBoardLine
 	 */
 	public boolean hasEmptySlots() 
 	{
-		for (int i = 1; i <= slots.length; i++)
-		{
-			if (getSlot(i).isEmpty())
-			{
-				return true;
-			}
-		}
-		
-		return false;
+		return getHeight() < slots.length;
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.model.board.GameBoardSlotCollection#getLine()
+	 */
+	@Override
+	int getLine()
+	{
+		return WinningLines.FIRST_COLUMN + id - 1;
 	}
 
 	protected final GameBoardSlot[] createSlots() 
 	{
-		GameBoardSlot[] slotArr = new GameBoardSlot[GameBoard.NUMBER_OF_SLOTS];
+		GameBoardSlot[] slotArr = new GameBoardSlot[board.getGeometry().getSlots()];
 		
 		for (int i = 0; i < slotArr.length; i++)
 		{
@@ -58,6 +58,15 @@ public abstract class GameBoardLine extends GameBoardSlotCollection
 		return (this instanceof GameBoardRow);
 	}
 
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.model.board.GameBoardSlotCollection#getBoard()
+	 */
+	@Override
+	GameBoard getBoard()
+	{
+		return board;
+	}
+
 	/**
 	 * To be implemented by subclasses. Define the logic of building the underlying array of {@link GameBoardSlot}.
 	 * @return An array of {@link GameBoardSlot} instances.
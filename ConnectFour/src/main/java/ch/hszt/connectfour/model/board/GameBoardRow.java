@@ -36,7 +36,16 @@ public class GameBoardRow extends GameBoardLine
 	public String toString()
 	{
 		return String.format("GameBoardRow [%1$s-%2$s]",
-							slots[0].getKey(), slots[GameBoard.NUMBER_OF_COLUMNS - 1].getKey());
+							slots[0].getKey(), slots[slots.length - 1].getKey());
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.model.board.GameBoardSlotCollection#getLine()
+	 */
+	@Override
+	int getLine()
+	{
+		return board.getWinningLines().getFirstRow() + id - 1;
 	}
 
 	/* (non-Javadoc)
@@ -45,22 +54,15 @@ public class GameBoardRow extends GameBoardLine
 	@Override
 	protected GameBoardSlot[] createSlots()
 	{
-		GameBoardSlot[] slots = new GameBoardSlot[GameBoard.NUMBER_OF_COLUMNS];
-		GameBoardColumn current = board.getColumnByKey("A");
-		int i = 0;
+		// The row is a view on the slots of the columns => slot indices from the shared table
+		
+		WinningLines lines = board.getWinningLines();
+		GameBoardSlot[] slots = new GameBoardSlot[lines.getLineLength(getLine())];
 		
-		do
+		for (int i = 0; i < slots.length; i++)
 		{
-			GameBoardSlot slot = current.getSlot(id);
-			
-			if (slot != null)
-			{
-				slots[i] = slot;
-			}
-			
-			i++;
-			
-		} while ((current = current.getRight()) != null);
+			slots[i] = board.getSlot(lines.getLineSlot(getLine(), i));
+		}
 		
 		return slots;
 	}
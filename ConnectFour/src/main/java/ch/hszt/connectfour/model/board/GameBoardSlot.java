@@ -5,16 +5,16 @@ import ch.hszt.connectfour.io.SerialObject;
 import ch.hszt.connectfour.model.enumeration.DropColor;
 /**
  * Encapsulates a single slot on the game board, which drops can be inserted to.
+ * The {@link GameBoardSlot} doesn't hold any state itself, but represents a view on the bitboard of the {@link GameBoard}.
  * @author Markus Vetsch
  * @version 1.0, 11.10.2011
  */
 public class GameBoardSlot implements Comparable<GameBoardSlot>, Serial
 {
 	private final int id;
+	private final int index;
+	private final String key;
 	private transient final GameBoardColumn column;
-	
-	private boolean isEmpty;
-	private DropColor color;
 
 	/**
 	* Creates a new {@link GameBoardSlot} instance on associated {@link GameBoardColumn}.
@@ -23,18 +23,31 @@ public class GameBoardSlot implements Comparable<GameBoardSlot>, Serial
 	GameBoardSlot(final int id, final GameBoardColumn column) 
 	{
 		this.id = id;
-		this.column = column;		
-		this.isEmpty = true;
-		this.color = DropColor.UNKNOWN;
+		this.column = column;
+		this.index = column.board.getGeometry().getSlotIndex(column.getIndex(), id);
+		
+		// The key of the column isn't assigned yet, while the column creates its slots
+		
+		this.key = GameBoardColumn.assignKeyById(column.getId()).concat(Integer.toString(id));
 	}
 	
 	/**
 	 * Gets the key of the current instance, the is build by the column identifier and the row index.
+	 * The key is meant for display and notation only - use {@link GameBoardSlot#getIndex()} to address the slot.
 	 * @return The unique key as {@link String} of this instance.
 	 */
 	public String getKey()
 	{
-		return column.getKey().concat(Integer.toString(id));
+		return key;
+	}
+	
+	/**
+	 * Returns the slot index of the current instance, i.e. its primary address on the {@link GameBoard}.
+	 * @return The 0-based slot index (0 - 41 on the standard {@link GameBoard}), see {@link BoardGeometry#getSlotIndex(int, int)}.
+	 */
+	public int getIndex()
+	{
+		return index;
 	}
 
 	/**
@@ -52,19 +65,20 @@ public class GameBoardSlot implements Comparable<GameBoardSlot>, Serial
 	*/
 	public DropColor getColor() 
 	{
-		return color;
+		return column.board.getColor(column.getIndex(), id);
 	}
 	
 	/**
 	* Sets a drop with specified color for this {@link GameBoardSlot}.
 	* @param color - the {@link DropColor} to be used.
+	* @throws IllegalArgumentException Thrown, if {@link DropColor#UNKNOWN} was specified.
+	* @throws IllegalStateException Thrown, if this {@link GameBoardSlot} isn't the next empty slot of its {@link GameBoardColumn}.
 	*/
-	public synchronized void setDrop(DropColor color) 
+	public void setDrop(DropColor color) 
 	{
 		if (color != DropColor.UNKNOWN)
 		{			
-			this.color = color;
-			this.isEmpty = false;
+			column.board.setDrop(this, color);
 		}
 		else
 		{
@@ -78,7 +92,7 @@ public class GameBoardSlot implements Comparable<GameBoardSlot>, Serial
 	*/
 	public boolean isEmpty() 
 	{
-		return isEmpty;
+		return column.getHeight() < id;
 	}
 	
 	/**
@@ -150,7 +164,7 @@ public class GameBoardSlot implements Comparable<GameBoardSlot>, Serial
 	{
 		// Search slot in higher row index
 		
-		return (id == GameBoard.NUMBER_OF_SLOTS) ? null : column.getSlot(id + 1);
+		return column.getSlot(id + 1);
 	}
 	
 	/**
@@ -202,12 +216,7 @@ public class GameBoardSlot implements Comparable<GameBoardSlot>, Serial
 		{
 			return null;
 		}
-		if (id == GameBoard.NUMBER_OF_SLOTS)
-		{
-			return null;
-		}
-		
-		// Search slot in right column and higher row index
+		// Search slot in right column and higher row index (null on top edge)
 		
 		return rightColumn.getSlot(id + 1);
 	}
@@ -250,34 +259,17 @@ public class GameBoardSlot implements Comparable<GameBoardSlot>, Serial
 		{
 			return null;
 		}
-		if (id == GameBoard.NUMBER_OF_SLOTS)
-		{
-			return null;
-		}
-		
-		// Search slot in left column and higher row index
+		// Search slot in left column and higher row index (null on top edge)
 		
 		return leftColumn.getSlot(id + 1);
 	}
 	
-	/**
-	 * Clears the content of current {@link GameBoardSlot}.
-	 */
-	void clear()
-	{
-		if (!isEmpty())
-		{
-			color = DropColor.UNKNOWN;
-			isEmpty = true;
-		}
-	}	
-
 	public void save(SerialObject obj)
 	{
 		obj.saveInt(id, "id");
 		obj.saveString(column.getKey(), "column");
-		obj.saveBoolean(isEmpty, "isEmpty");
-		obj.saveString(color.toString(), "color");
+		obj.saveBoolean(isEmpty(), "isEmpty");
+		obj.saveString(getColor().toString(), "color");
 	}
 
 	public Serial load(SerialObject obj)
@@ -21,11 +21,13 @@ public abstract class GameBoardSlotCollection implements Iterable<GameBoardSlot>
 	
 	/**
 	 * Returns the exact {@link List} of {@link GameBoardSlot}, that builds the "ConnectFour".
+	 * The number of drops in a row is defined by the {@link BoardGeometry} of the {@link GameBoard}.
 	 * @return The {@link List} of {@link GameBoardSlot} building the "ConnectFour" in a row.
 	 */
 	public List<GameBoardSlot> getConnectFourList()
 	{
 		List<GameBoardSlot> sourceList = asList();
+		int connectLength = getBoard().getGeometry().getConnectLength();
 		
 		int startIndex = 0;
 		int endIndex = 0;
@@ -40,13 +42,13 @@ public abstract class GameBoardSlotCollection implements Iterable<GameBoardSlot>
 			
 			// Continue search for next elements, if they contain drops of the same color
 			
-			while (!isFourInRow && sourceList.get(endIndex).getColor() == start.getColor())
+			while (!isFourInRow && endIndex < sourceList.size() && sourceList.get(endIndex).getColor() == start.getColor())
 			{				
 				endIndex++;
 
-				// Condition for four drops of same color in a row
+				// Condition for the required number of drops of same color in a row
 				
-				if ((endIndex - startIndex) == 4)
+				if ((endIndex - startIndex) == connectLength)
 				{
 					isFourInRow = true;
 				}
@@ -72,39 +74,23 @@ public abstract class GameBoardSlotCollection implements Iterable<GameBoardSlot>
 	 */
 	public boolean hasConnectFour(DropColor color) 
   	{
-		boolean test = false;
-		List<GameBoardSlot> slots = asList();
+		// All slots lie on a straight line => only the windows along this line are checked
 		
-		int i = 0;
-		
-		do
-		{
-			// Set boolean flag to true and get the first slot
-			
-			test = true;
-			GameBoardSlot current = slots.get(i);
-			
-			int j = i + 1;
-			
-			// Investigate in maximum the following 3 slots
-			
-			while (test && j < i + 4 && j < slots.size())
-			{
-				GameBoardSlot next = slots.get(j);
-		
-				// Check, if slots are not empty and if they equal in terms of the drop color
-				
-				test &= (!current.isEmpty()) && (!next.isEmpty()) && (current.getColor() == next.getColor());
-				j++;
-			}
-			
-			i++;
-		}
-		while (!test && i < slots.size() - 3);	// Outer loop condition; four in a row not found and <= 4 slots left
-		
-		return test;
+		return getBoard().hasConnectFour(color, getLine());
   	}
 	
+	/**
+	 * To be implemented by subclasses. Returns the index of this collection in the {@link WinningLines} table.
+	 * @return The index of the line in the {@link WinningLines} table.
+	 */
+	abstract int getLine();
+	
+	/**
+	 * To be implemented by subclasses. Returns the {@link GameBoard} containing this collection.
+	 * @return The associated {@link GameBoard}.
+	 */
+	abstract GameBoard getBoard();
+	
 	public void save(SerialObject obj)
 	{
 		obj.saveList(asList());
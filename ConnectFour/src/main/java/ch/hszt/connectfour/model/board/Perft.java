@@ -0,0 +1,328 @@
+package ch.hszt.connectfour.model.board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import ch.hszt.connectfour.model.enumeration.DropColor;
+
+/**
+ * Walks the game tree from a position of a {@link GameBoard} up to a given depth and counts the positions ("perft").
+ * All turns into columns with empty slots are legal; a turn completing "ConnectFour" or filling the board ends the game, 
+ * so no further turns are walked below it. The counts of a position are fixed, which makes the walk
+ * a correctness check for any implementation of the {@link GameBoard} as well as a benchmark of its turns.
+ * <p>
+ * The tree is walked on a copy of the {@link GameBoard} by {@link GameBoard#makeMove(int, DropColor)} and
+ * {@link GameBoard#unmakeMove(int)}; the parallel mode walks the subtree of each turn of the position on a separate copy.
+ * </p>
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class Perft
+{
+	private final GameBoard board;
+	private final int columns;
+	private final int slots;
+
+	private long wins;
+	private long draws;
+	private long visitedNodes;
+
+	private Perft(GameBoard board)
+	{
+		this.board = board;
+
+		columns = board.getGeometry().getColumns();
+		slots = board.getGeometry().getSlots();
+	}
+
+	/**
+	 * Walks the game tree from the position of the specified {@link GameBoard} on the calling thread.
+	 * @param board - The {@link GameBoard} of the position, which isn't modified.
+	 * @param color - The {@link DropColor} in charge to execute the next turn.
+	 * @param depth - The number of turns to walk (>= 0).
+	 * @return The {@link PerftResult} of the walk.
+	 * @throws IllegalArgumentException Thrown, if any of the arguments is invalid or the game of the position has ended already.
+	 */
+	public static PerftResult run(GameBoard board, DropColor color, int depth)
+	{
+		validate(board, color, depth);
+
+		long start = System.nanoTime();
+		Perft perft = new Perft(copy(board));
+		long[] divide = new long[perft.columns];
+		long nodes = perft.walkRoot(color, depth, divide);
+
+		return new PerftResult(depth, nodes, perft.wins, perft.draws, perft.visitedNodes, divide, System.nanoTime() - start);
+	}
+
+	/**
+	 * Walks the game tree from the position of the specified {@link GameBoard} on several threads, 
+	 * each of which walks the subtrees of one turn of the position after the other.
+	 * The counts are equal to the ones of {@link Perft#run(GameBoard, DropColor, int)}.
+	 * @param board - The {@link GameBoard} of the position, which isn't modified.
+	 * @param color - The {@link DropColor} in charge to execute the next turn.
+	 * @param depth - The number of turns to walk (>= 0).
+	 * @param threads - The number of threads (> 0).
+	 * @return The {@link PerftResult} of the walk.
+	 * @throws IllegalArgumentException Thrown, if any of the arguments is invalid or the game of the position has ended already.
+	 * @throws InterruptedException Thrown, if the calling thread was interrupted while waiting for the threads.
+	 */
+	public static PerftResult runParallel(GameBoard board, DropColor color, int depth, int threads) throws InterruptedException
+	{
+		validate(board, color, depth);
+
+		if (threads < 1)
+		{
+			throw new IllegalArgumentException(String.format("Invalid number of threads: %d!", threads));
+		}
+
+		// Nothing to split below the position itself
+
+		if (depth == 0)
+		{
+			return run(board, color, depth);
+		}
+
+		long start = System.nanoTime();
+		GameBoard position = copy(board);
+		int columns = position.getGeometry().getColumns();
+		List<RootTurn> turns = new ArrayList<RootTurn>();
+
+		for (int i = 0; i < columns; i++)
+		{
+			if (position.getHeight(i + 1) < position.getGeometry().getSlots())
+			{
+				turns.add(new RootTurn(position, i, color, depth));
+			}
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, turns.size())));
+		long[] divide = new long[columns];
+		long nodes = 0;
+		long wins = 0;
+		long draws = 0;
+		long visitedNodes = 0;
+
+		try
+		{
+			List<Future<Perft>> results = executor.invokeAll(turns);
+
+			for (int i = 0; i < turns.size(); i++)
+			{
+				Perft perft = results.get(i).get();
+				long turnNodes = turns.get(i).nodes;
+
+				divide[turns.get(i).columnIndex] = turnNodes;
+				nodes += turnNodes;
+				wins += perft.wins;
+				draws += perft.draws;
+				visitedNodes += perft.visitedNodes;
+			}
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException) ex.getCause();
+			}
+
+			throw new IllegalStateException("Walk of the game tree failed!", ex.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		return new PerftResult(depth, nodes, wins, draws, visitedNodes, divide, System.nanoTime() - start);
+	}
+
+	/**
+	 * Walks the game tree from the command line and prints the number of leaf positions per column ("divide") and in total.
+	 * Arguments: depth [columns of the drops of the position, starting with red (default: empty board)] [threads (default 1)]
+	 * @param args - The command line arguments.
+	 * @throws InterruptedException Thrown, if the walk was interrupted.
+	 */
+	public static void main(String[] args) throws InterruptedException
+	{
+		if (args.length < 1)
+		{
+			System.out.println("Usage: Perft <depth> [columns of the position, e.g. DDC] [threads]");
+			return;
+		}
+
+		int depth = Integer.parseInt(args[0]);
+		String position = (args.length > 1) ? args[1].trim().toUpperCase() : "";
+		int threads = (args.length > 2) ? Integer.parseInt(args[2]) : 1;
+
+		GameBoard board = new GameBoard();
+		DropColor color = DropColor.RED;
+
+		for (char column : position.toCharArray())
+		{
+			board.insertDrop(String.valueOf(column), color);
+			color = (color == DropColor.RED) ? DropColor.YELLOW : DropColor.RED;
+		}
+
+		PerftResult result = (threads > 1) ? runParallel(board, color, depth, threads) : run(board, color, depth);
+
+		for (int i = 0; i < board.getGeometry().getColumns() && depth > 0; i++)
+		{
+			System.out.println(String.format("%s: %d", GameBoardColumn.assignKeyById(i + 1), result.getNodes(i)));
+		}
+
+		System.out.println(result.toString());
+	}
+
+	private long walkRoot(DropColor color, int depth, long[] divide)
+	{
+		if (depth == 0)
+		{
+			return 1;
+		}
+
+		long nodes = 0;
+
+		for (int i = 0; i < columns; i++)
+		{
+			if (board.getHeight(i + 1) < slots)
+			{
+				divide[i] = walkTurn(i, color, depth);
+				nodes += divide[i];
+			}
+		}
+
+		return nodes;
+	}
+
+	/**
+	 * Executes the turn into the specified column, walks the subtree below and takes the turn back.
+	 * @param columnIndex - The 0-based index of a column with empty slots.
+	 * @param color - The {@link DropColor} of the turn.
+	 * @param depth - The number of turns left including this one (> 0).
+	 * @return The number of leaf positions of the subtree.
+	 */
+	private long walkTurn(int columnIndex, DropColor color, int depth)
+	{
+		long nodes = 0;
+
+		visitedNodes++;
+
+		// The start position is free of "ConnectFour" => only the turn itself can complete it
+
+		boolean won = board.makeMove(columnIndex, color);
+
+		if (depth == 1)
+		{
+			nodes = 1;
+		}
+
+		if (won)
+		{
+			wins++;
+		}
+		else if (!board.hasEmptySlots())
+		{
+			draws++;
+		}
+		else if (depth > 1)
+		{
+			nodes = walk((color == DropColor.RED) ? DropColor.YELLOW : DropColor.RED, depth - 1);
+		}
+
+		board.unmakeMove(columnIndex);
+
+		return nodes;
+	}
+
+	private long walk(DropColor color, int depth)
+	{
+		long nodes = 0;
+
+		for (int i = 0; i < columns; i++)
+		{
+			if (board.getHeight(i + 1) < slots)
+			{
+				nodes += walkTurn(i, color, depth);
+			}
+		}
+
+		return nodes;
+	}
+
+	private static void validate(GameBoard board, DropColor color, int depth)
+	{
+		if (board == null || color == null || color == DropColor.UNKNOWN)
+		{
+			throw new IllegalArgumentException("Game board and drop color in charge must be specified!");
+		}
+		if (depth < 0)
+		{
+			throw new IllegalArgumentException(String.format("Invalid depth: %d!", depth));
+		}
+		if (board.hasConnectFour(DropColor.RED) || board.hasConnectFour(DropColor.YELLOW))
+		{
+			throw new IllegalArgumentException("Game of the position has ended with ConnectFour already!");
+		}
+	}
+
+	/**
+	 * Creates a copy of the position of the specified {@link GameBoard} with the same {@link BoardGeometry}.
+	 * @param board - The {@link GameBoard} to be copied.
+	 * @return The new {@link GameBoard} with the same drops.
+	 */
+	private static GameBoard copy(GameBoard board)
+	{
+		BoardGeometry geometry = board.getGeometry();
+		GameBoard copy = new GameBoard(geometry);
+
+		synchronized (board)
+		{
+			for (int i = 0; i < geometry.getColumns(); i++)
+			{
+				for (int position = 1; position <= board.getHeight(i + 1); position++)
+				{
+					copy.makeMove(i, board.getSlot(geometry.getSlotIndex(i, position)).getColor());
+				}
+			}
+		}
+
+		return copy;
+	}
+
+	/**
+	 * Implementation of the walk of the subtree below a single turn of the position on a copy of the {@link GameBoard}.
+	 */
+	private static class RootTurn implements Callable<Perft>
+	{
+		private final GameBoard position;
+		private final int columnIndex;
+		private final DropColor color;
+		private final int depth;
+
+		private long nodes;
+
+		RootTurn(GameBoard position, int columnIndex, DropColor color, int depth)
+		{
+			this.position = position;
+			this.columnIndex = columnIndex;
+			this.color = color;
+			this.depth = depth;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.concurrent.Callable#call()
+		 */
+		public Perft call()
+		{
+			Perft perft = new Perft(copy(position));
+			nodes = perft.walkTurn(columnIndex, color, depth);
+
+			return perft;
+		}
+	}
+}
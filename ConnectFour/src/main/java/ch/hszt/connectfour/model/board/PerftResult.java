@@ -0,0 +1,149 @@
+package ch.hszt.connectfour.model.board;
+
+import java.util.Arrays;
+
+/**
+ * Represents the immutable result of a {@link Perft} run, i.e. the counters of the walked game tree.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class PerftResult
+{
+	private final int depth;
+	private final long nodes;
+	private final long wins;
+	private final long draws;
+	private final long visitedNodes;
+	private final long[] divide;
+	private final long duration;
+
+	PerftResult(int depth, long nodes, long wins, long draws, long visitedNodes, long[] divide, long duration)
+	{
+		this.depth = depth;
+		this.nodes = nodes;
+		this.wins = wins;
+		this.draws = draws;
+		this.visitedNodes = visitedNodes;
+		this.divide = divide.clone();
+		this.duration = duration;
+	}
+
+	/**
+	 * Returns the number of turns the game tree was walked to.
+	 * @return The depth of the run.
+	 */
+	public int getDepth()
+	{
+		return depth;
+	}
+
+	/**
+	 * Returns the number of leaf positions, i.e. of turn sequences with exactly {@link PerftResult#getDepth()} turns,
+	 * where the game didn't end before the last turn.
+	 * @return The number of leaf positions.
+	 */
+	public long getNodes()
+	{
+		return nodes;
+	}
+
+	/**
+	 * Returns the number of turn sequences ending the game with "ConnectFour" within the depth.
+	 * @return The number of wins.
+	 */
+	public long getWins()
+	{
+		return wins;
+	}
+
+	/**
+	 * Returns the number of turn sequences ending the game with a full board without "ConnectFour" within the depth.
+	 * @return The number of draws.
+	 */
+	public long getDraws()
+	{
+		return draws;
+	}
+
+	/**
+	 * Returns the number of turns executed on the board while walking the game tree, i.e. of all positions visited.
+	 * @return The number of visited positions.
+	 */
+	public long getVisitedNodes()
+	{
+		return visitedNodes;
+	}
+
+	/**
+	 * Returns the number of leaf positions below the turn into the column with specified index ("divide"),
+	 * which allows to narrow down differences between board implementations.
+	 * @param columnIndex - The 0-based index of the first column of the turn sequences.
+	 * @return The number of leaf positions below the column or 0, if the column was full.
+	 * @throws IllegalArgumentException Thrown, if the column index is out of range.
+	 */
+	public long getNodes(int columnIndex)
+	{
+		if (columnIndex < 0 || columnIndex >= divide.length)
+		{
+			throw new IllegalArgumentException(String.format("Column with index %d doesn't exist!", columnIndex));
+		}
+
+		return divide[columnIndex];
+	}
+
+	/**
+	 * Returns the duration of the run.
+	 * @return The duration in nanoseconds.
+	 */
+	public long getDuration()
+	{
+		return duration;
+	}
+
+	/**
+	 * Returns the throughput of the run.
+	 * @return The number of visited positions per second.
+	 */
+	public long getNodesPerSecond()
+	{
+		return (duration == 0) ? 0 : (long) (visitedNodes * 1e9 / duration);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj)
+	{
+		// Results of different runs are equal, if they counted the same tree => duration not respected
+
+		if (!(obj instanceof PerftResult))
+		{
+			return false;
+		}
+
+		PerftResult other = (PerftResult) obj;
+
+		return depth == other.depth && nodes == other.nodes && wins == other.wins && draws == other.draws
+				&& visitedNodes == other.visitedNodes && Arrays.equals(divide, other.divide);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode()
+	{
+		return (int) (nodes ^ (nodes >>> 32)) * 31 + depth;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return String.format("Perft [depth=%d, nodes=%d, wins=%d, draws=%d, visited=%d, %d ms, %d nodes/s]",
+								depth, nodes, wins, draws, visitedNodes, duration / 1000000, getNodesPerSecond());
+	}
+}
@@ -0,0 +1,324 @@
+package ch.hszt.connectfour.model.board;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides the precomputed table of all lines (columns, rows, diagonals) of a {@link BoardGeometry} and of all windows
+ * of slots in a row along these lines, i.e. of all possible "ConnectFour" (resp. connect-N).
+ * The table is built once per {@link BoardGeometry} and shared by all {@link GameBoard} instances of that geometry;
+ * {@link GameBoardLine} and {@link GameBoardDiagonal} instances are views on the lines of the table.
+ * <p>
+ * Slots are identified by their slot index (see {@link BoardGeometry#getSlotIndex(int, int)}).
+ * Besides the windows per line, the table provides the windows containing each slot, so the {@link GameBoard} can
+ * keep the number of drops per window up to date on each drop instead of scanning the board for "ConnectFour".
+ * </p>
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class WinningLines
+{
+	/**
+	 * The index of the first column in the table of lines.
+	 */
+	static final int FIRST_COLUMN = 0;
+
+	/**
+	 * The tables created so far per {@link BoardGeometry}.
+	 */
+	private static final Map<BoardGeometry, WinningLines> TABLES = new Hashtable<BoardGeometry, WinningLines>();
+
+	private final BoardGeometry geometry;
+
+	/**
+	 * The slot indices of all lines => columns, rows, down right diagonals, up right diagonals.
+	 */
+	private final int[][] lines;
+
+	/**
+	 * The index of the first window per line plus the total number of windows at the end;
+	 * the windows of a line end at the first window of the next line.
+	 */
+	private final int[] firstWindows;
+
+	/**
+	 * The slot indices of all windows of slots in a row.
+	 */
+	private final int[][] windows;
+
+	/**
+	 * The indices of all windows containing a slot per slot index.
+	 */
+	private final int[][] slotWindows;
+
+	private WinningLines(BoardGeometry geometry)
+	{
+		this.geometry = geometry;
+		this.lines = createLines();
+		this.firstWindows = createFirstWindows();
+		this.windows = createWindows();
+		this.slotWindows = createSlotWindows();
+	}
+
+	/**
+	 * Returns the table of the specified {@link BoardGeometry}, which is created on first use.
+	 * @param geometry - The {@link BoardGeometry} of the {@link GameBoard}.
+	 * @return The {@link WinningLines} shared by all {@link GameBoard} instances of the geometry.
+	 */
+	public static WinningLines forGeometry(BoardGeometry geometry)
+	{
+		WinningLines table = TABLES.get(geometry);
+
+		if (table == null)
+		{
+			// Concurrent creation only builds an identical table twice
+
+			table = new WinningLines(geometry);
+			TABLES.put(geometry, table);
+		}
+
+		return table;
+	}
+
+	/**
+	 * Returns the {@link BoardGeometry} of this table.
+	 * @return The {@link BoardGeometry}.
+	 */
+	public BoardGeometry getGeometry()
+	{
+		return geometry;
+	}
+
+	/**
+	 * Returns the number of windows of slots in a row on the {@link GameBoard}.
+	 * @return The number of windows, i.e. of all possible "ConnectFour".
+	 */
+	public int countWindows()
+	{
+		return windows.length;
+	}
+
+	/**
+	 * Returns the slot index of the specified slot within the window.
+	 * @param window - The index of the window (0-based).
+	 * @param slot - The index of the slot within the window (0 - connect length - 1).
+	 * @return The slot index on the {@link GameBoard}.
+	 */
+	public int getWindowSlot(int window, int slot)
+	{
+		return windows[window][slot];
+	}
+
+	/**
+	 * Returns the number of lines, i.e. the columns, rows and diagonals containing at least one window.
+	 * Columns and rows are always contained, even if they are shorter than a window.
+	 * @return The number of lines.
+	 */
+	int countLines()
+	{
+		return lines.length;
+	}
+
+	/**
+	 * Returns the index of the first row in the table of lines.
+	 * @return The index of the first row, following the columns.
+	 */
+	int getFirstRow()
+	{
+		return FIRST_COLUMN + geometry.getColumns();
+	}
+
+	/**
+	 * Returns the index of the first diagonal in the table of lines.
+	 * @return The index of the first diagonal, following the rows.
+	 */
+	int getFirstDiagonal()
+	{
+		return getFirstRow() + geometry.getSlots();
+	}
+
+	/**
+	 * Returns the number of slots on the specified line.
+	 * @param line - The index of the line (0-based).
+	 * @return The number of slots.
+	 */
+	int getLineLength(int line)
+	{
+		return lines[line].length;
+	}
+
+	/**
+	 * Returns the slot index of the specified slot on the line.
+	 * @param line - The index of the line (0-based).
+	 * @param slot - The index of the slot on the line (0-based), from left to right resp. from bottom to top.
+	 * @return The slot index on the {@link GameBoard}.
+	 */
+	int getLineSlot(int line, int slot)
+	{
+		return lines[line][slot];
+	}
+
+	/**
+	 * Returns the index of the first window on the specified line.
+	 * @param line - The index of the line (0-based).
+	 * @return The index of the first window.
+	 */
+	int getFirstWindow(int line)
+	{
+		return firstWindows[line];
+	}
+
+	/**
+	 * Returns the index following the last window on the specified line.
+	 * @param line - The index of the line (0-based).
+	 * @return The index of the first window of the next line.
+	 */
+	int getEndWindow(int line)
+	{
+		return firstWindows[line + 1];
+	}
+
+	/**
+	 * Returns the indices of all windows containing the specified slot.
+	 * @param slotIndex - The slot index (0-based).
+	 * @return The indices of the windows in ascending order; the array mustn't be modified.
+	 */
+	int[] getSlotWindows(int slotIndex)
+	{
+		return slotWindows[slotIndex];
+	}
+
+	private int[][] createLines()
+	{
+		List<int[]> lineList = new ArrayList<int[]>();
+		int columns = geometry.getColumns();
+		int slots = geometry.getSlots();
+
+		for (int c = 0; c < columns; c++)
+		{
+			lineList.add(createLine(c, 0, 0, 1));
+		}
+
+		for (int p = 0; p < slots; p++)
+		{
+			lineList.add(createLine(0, p, 1, 0));
+		}
+
+		// Diagonals start at the first (down right) resp. last (up right) slot of a column or in column A
+
+		for (int step : new int[] { 1, -1 })
+		{
+			int edge = (step > 0) ? 0 : slots - 1;
+
+			for (int c = 0; c < columns; c++)
+			{
+				if (getDiagonalLength(c, edge, step) >= geometry.getConnectLength())
+				{
+					lineList.add(createLine(c, edge, 1, step));
+				}
+			}
+
+			for (int p = 0; p < slots; p++)
+			{
+				if (p != edge && getDiagonalLength(0, p, step) >= geometry.getConnectLength())
+				{
+					lineList.add(createLine(0, p, 1, step));
+				}
+			}
+		}
+
+		return lineList.toArray(new int[lineList.size()][]);
+	}
+
+	private int getDiagonalLength(int column, int position, int step)
+	{
+		int remainingSlots = (step > 0) ? geometry.getSlots() - position : position + 1;
+
+		return Math.min(geometry.getColumns() - column, remainingSlots);
+	}
+
+	private int[] createLine(int column, int position, int columnStep, int positionStep)
+	{
+		int length = 0;
+
+		// Walk until the edge of the board
+
+		while (column + length * columnStep < geometry.getColumns()
+				&& position + length * positionStep >= 0 && position + length * positionStep < geometry.getSlots())
+		{
+			length++;
+		}
+
+		int[] line = new int[length];
+
+		for (int i = 0; i < length; i++)
+		{
+			line[i] = geometry.getSlotIndex(column + i * columnStep, position + i * positionStep + 1);
+		}
+
+		return line;
+	}
+
+	private int[] createFirstWindows()
+	{
+		int[] first = new int[lines.length + 1];
+
+		for (int line = 0; line < lines.length; line++)
+		{
+			// Lines shorter than a window don't contain any window
+
+			first[line + 1] = first[line] + Math.max(0, lines[line].length - geometry.getConnectLength() + 1);
+		}
+
+		return first;
+	}
+
+	private int[][] createWindows()
+	{
+		int[][] windowSlots = new int[firstWindows[lines.length]][geometry.getConnectLength()];
+
+		for (int line = 0; line < lines.length; line++)
+		{
+			for (int window = getFirstWindow(line); window < getEndWindow(line); window++)
+			{
+				int start = window - getFirstWindow(line);
+				System.arraycopy(lines[line], start, windowSlots[window], 0, geometry.getConnectLength());
+			}
+		}
+
+		return windowSlots;
+	}
+
+	private int[][] createSlotWindows()
+	{
+		int[] counts = new int[geometry.countSlots()];
+
+		for (int[] window : windows)
+		{
+			for (int slotIndex : window)
+			{
+				counts[slotIndex]++;
+			}
+		}
+
+		int[][] result = new int[counts.length][];
+
+		for (int slotIndex = 0; slotIndex < counts.length; slotIndex++)
+		{
+			result[slotIndex] = new int[counts[slotIndex]];
+			counts[slotIndex] = 0;
+		}
+
+		for (int window = 0; window < windows.length; window++)
+		{
+			for (int slotIndex : windows[window])
+			{
+				result[slotIndex][counts[slotIndex]++] = window;
+			}
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,45 @@
+/**
+ *
+ */
+package ch.hszt.connectfour.model.enumeration;
+
+import ch.hszt.connectfour.model.game.Game;
+
+/**
+ * Represents the type of an event published by a {@link Game} to its listeners.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public enum GameEventType
+{
+	/**
+	 * A drop was inserted into a slot of the game board - never coalesced with other events.
+	 */
+	DROP_INSERTED("Drop inserted"),
+	/**
+	 * The status of the game changed without a new drop, e.g. on start or restart of the game.
+	 * Consecutive events of this type are coalesced; it's also published instead of events discarded
+	 * for a slow listener, so the listener is to repaint the board from the snapshot of the event.
+	 */
+	STATUS_CHANGED("Status changed"),
+	/**
+	 * The game ended with "ConnectFour" or a draw - never coalesced with other events.
+	 */
+	GAME_ENDED("Game ended");
+
+	private String niceName;
+
+	private GameEventType(String niceName)
+	{
+		this.niceName = niceName;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Enum#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return niceName;
+	}
+}
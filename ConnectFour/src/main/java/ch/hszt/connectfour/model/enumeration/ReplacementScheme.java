@@ -0,0 +1,27 @@
+/**
+ * 
+ */
+package ch.hszt.connectfour.model.enumeration;
+
+import ch.hszt.connectfour.model.game.TranspositionTable;
+
+/**
+ * Represents the scheme of a {@link TranspositionTable} to decide, which entry is to be overwritten on collisions.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public enum ReplacementScheme
+{
+	/**
+	 * Keeps the entry with the deeper search - a new entry only replaces entries searched with the same or lower depth.
+	 */
+	DEPTH_PREFERRED,
+	/**
+	 * Always replaces the existing entry with the most recent one.
+	 */
+	ALWAYS_REPLACE,
+	/**
+	 * Uses buckets of two entries - one entry kept by {@link #DEPTH_PREFERRED} and one entry kept by {@link #ALWAYS_REPLACE}.
+	 */
+	TWO_TIER
+}
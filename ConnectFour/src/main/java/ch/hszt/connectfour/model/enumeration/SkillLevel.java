@@ -21,7 +21,11 @@ public enum SkillLevel
 	/**
 	 * Represents the hard {@link SkillLevel}.
 	 */
-	HARD(2, "Hard");
+	HARD(2, "Hard"),
+	/**
+	 * Represents the perfect {@link SkillLevel} based on a game tree search.
+	 */
+	PERFECT(3, "Perfect");
 	
 	private final int id;
 	private final String name;
@@ -51,6 +55,8 @@ public enum SkillLevel
 				return ADVANCED;
 			case 2:
 				return HARD;
+			case 3:
+				return PERFECT;
 			default:
 				return EASY;
 		}
@@ -0,0 +1,186 @@
+package ch.hszt.connectfour.model.game;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import ch.hszt.connectfour.model.board.GameBoard;
+import ch.hszt.connectfour.model.board.GameBoardSlot;
+import ch.hszt.connectfour.model.board.GameBoardSlotCollection;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+import ch.hszt.connectfour.model.enumeration.DropSequenceDirection;
+
+/**
+ * Represents a snapshot of the {@link DropSequence} items of both {@link DropColor} values on a {@link GameBoard}.
+ * All rows, columns and diagonals are searched in a single pass, when the snapshot is created;
+ * the {@link CpuPlayer} implementations then select their turn from the snapshot instead of searching the {@link GameBoard} again.
+ * The snapshot isn't updated, if the {@link GameBoard} changes afterwards.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class BoardAnalysis
+{
+	/**
+	 * The colors of the drops on the board => {@link DropColor#UNKNOWN} never forms a sequence.
+	 */
+	private static final DropColor[] COLORS = { DropColor.RED, DropColor.YELLOW };
+
+	private final GameBoard board;
+
+	/**
+	 * All sequences of 2 - 3 drops per {@link DropColor}, excluding sequences of 2 drops contained in a sequence of 3 drops.
+	 */
+	private final Map<DropColor, List<DropSequence>> allSequences;
+
+	/**
+	 * The sequences allowing a drop before / after the sequence per {@link DropColor}, indexed by {@link DropSequenceDirection}.
+	 */
+	private final Map<DropColor, Map<DropSequenceDirection, List<DropSequence>>> possibleSequences;
+
+	/**
+	 * Creates the snapshot of the current situation on the specified {@link GameBoard}.
+	 * @param board - The {@link GameBoard} to be analyzed.
+	 */
+	BoardAnalysis(GameBoard board)
+	{
+		this.board = board;
+		this.allSequences = new EnumMap<DropColor, List<DropSequence>>(DropColor.class);
+		this.possibleSequences = new EnumMap<DropColor, Map<DropSequenceDirection, List<DropSequence>>>(DropColor.class);
+
+		analyze();
+	}
+
+	/**
+	 * Returns the {@link DropSequence} items of specified {@link DropColor}, that could be supplemented by inserting a drop in
+	 *  an adjacent {@link GameBoardSlot} before or after the sequence.
+	 * @param color - The {@link DropColor} to be respected.
+	 * @param directions - The {@link DropSequenceDirection} values to be respected in the order of the result.
+	 * @return A new {@link List} of {@link DropSequence} items with a length of 2 - 3 drops matching the specified directions.
+	 */
+	List<DropSequence> getSequences(DropColor color, DropSequenceDirection... directions)
+	{
+		Map<DropSequenceDirection, List<DropSequence>> byDirection = possibleSequences.get(color);
+		List<DropSequence> sequences = new ArrayList<DropSequence>();
+
+		for (DropSequenceDirection direction : directions)
+		{
+			List<DropSequence> matching = byDirection.get(direction);
+
+			if (matching != null)
+			{
+				sequences.addAll(matching);
+			}
+		}
+
+		return sequences;
+	}
+
+	/**
+	 * Returns the drops of specified {@link DropColor}, that aren't part of any sequence of 2 - 3 drops.
+	 * @param color - The {@link DropColor} to be respected.
+	 * @return A new {@link List} of {@link SingleDropSequence} items.
+	 */
+	List<SingleDropSequence> getSingleSequences(DropColor color)
+	{
+		List<DropSequence> all = allSequences.get(color);
+		List<SingleDropSequence> singles = new ArrayList<SingleDropSequence>();
+
+		// Each slot is contained in exactly one column
+
+		for (GameBoardSlotCollection column : board.getColumns())
+		{
+			for (GameBoardSlot slot : column)
+			{
+				if (!slot.isEmpty() && slot.getColor() == color && !isPartOfSequence(slot, all))
+				{
+					singles.add(new SingleDropSequence(slot));
+				}
+			}
+		}
+
+		return singles;
+	}
+
+	private void analyze()
+	{
+		Map<DropColor, List<DropSequence>> seqOfThree = new EnumMap<DropColor, List<DropSequence>>(DropColor.class);
+		Map<DropColor, List<DropSequence>> seqOfTwo = new EnumMap<DropColor, List<DropSequence>>(DropColor.class);
+
+		for (DropColor color : COLORS)
+		{
+			seqOfThree.put(color, new ArrayList<DropSequence>());
+			seqOfTwo.put(color, new ArrayList<DropSequence>());
+		}
+
+		// Single pass through all rows / columns / diagonals for both colors
+
+		for (GameBoardSlotCollection coll : board.getAll())
+		{
+			List<GameBoardSlot> slots = coll.asList();
+
+			for (DropColor color : COLORS)
+			{
+				addSequence(seqOfThree.get(color), GameAnalyzer.searchDropSequence(slots, color, 3), 3);
+				addSequence(seqOfTwo.get(color), GameAnalyzer.searchDropSequence(slots, color, 2), 2);
+			}
+		}
+
+		for (DropColor color : COLORS)
+		{
+			List<DropSequence> all = GameAnalyzer.mergeSequences(seqOfThree.get(color), seqOfTwo.get(color));
+
+			allSequences.put(color, all);
+			possibleSequences.put(color, indexPossibleSequences(all));
+		}
+	}
+
+	private void addSequence(List<DropSequence> sequences, DropSequence sequence, int length)
+	{
+		// Only respect the sequence, if its length is > 0 and matching the specified length
+
+		if (sequence.length() > 0 && sequence.length() == length)
+		{
+			sequences.add(sequence);
+		}
+	}
+
+	private Map<DropSequenceDirection, List<DropSequence>> indexPossibleSequences(List<DropSequence> all)
+	{
+		Map<DropSequenceDirection, List<DropSequence>> byDirection =
+			new EnumMap<DropSequenceDirection, List<DropSequence>>(DropSequenceDirection.class);
+
+		for (DropSequence sequence : all)
+		{
+			// Respect a sequence, if it's possible to set a drop in adjacent slots before / after the sequence
+
+			if (sequence.getSlotBefore() != null || sequence.getSlotAfter() != null)
+			{
+				List<DropSequence> sequences = byDirection.get(sequence.getDirection());
+
+				if (sequences == null)
+				{
+					sequences = new ArrayList<DropSequence>();
+					byDirection.put(sequence.getDirection(), sequences);
+				}
+
+				sequences.add(sequence);
+			}
+		}
+
+		return byDirection;
+	}
+
+	private boolean isPartOfSequence(GameBoardSlot slot, List<DropSequence> sequences)
+	{
+		for (DropSequence sequence : sequences)
+		{
+			if (sequence.contains(slot))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -5,6 +5,7 @@ package ch.hszt.connectfour.model.game;
 
 import java.util.List;
 
+import ch.hszt.connectfour.model.board.GameBoard;
 import ch.hszt.connectfour.model.enumeration.PlayerType;
 import ch.hszt.connectfour.model.enumeration.SkillLevel;
 
@@ -32,6 +33,46 @@ public abstract class CpuPlayer extends Player
 	 */
 	public abstract String determineNextTurn(Game game);
 	
-	protected abstract List<DropSequence> gatherOwnSequences(Game game);
-	protected abstract List<DropSequence> gatherOpponentSequences(Game game);
+	/**
+	 * Starts to search speculatively on the time of the opponent, while the opponent is in charge of the next turn ("pondering").
+	 * The results are reused by the next call of {@link CpuPlayer#determineNextTurn(Game)}.
+	 * The default implementation doesn't ponder at all.
+	 * @param game - The {@link Game}, whose opponent of this {@link CpuPlayer} is in charge to execute the next turn.
+	 */
+	public void startPondering(Game game)
+	{
+		// Nothing to search ahead
+	}
+	
+	/**
+	 * Stops the pondering started by {@link CpuPlayer#startPondering(Game)} without waiting for its end.
+	 * The default implementation doesn't ponder at all.
+	 */
+	public void stopPondering()
+	{
+		// Nothing to stop
+	}
+	
+	/**
+	 * Indicates, whether this {@link CpuPlayer} is pondering on the time of the opponent.
+	 * @return <b>true</b>, if the pondering is in progress; otherwise <b>false</b>.
+	 */
+	public boolean isPondering()
+	{
+		return false;
+	}
+	
+	/**
+	 * Selects the own {@link DropSequence} items to be supplemented by the next turn.
+	 * @param analysis - The {@link BoardAnalysis} of the current situation on the {@link GameBoard}.
+	 * @return The {@link List} of own {@link DropSequence} items respected by this {@link CpuPlayer}.
+	 */
+	protected abstract List<DropSequence> gatherOwnSequences(BoardAnalysis analysis);
+	
+	/**
+	 * Selects the {@link DropSequence} items of the opponent to be blocked by the next turn.
+	 * @param analysis - The {@link BoardAnalysis} of the current situation on the {@link GameBoard}.
+	 * @return The {@link List} of opponent {@link DropSequence} items respected by this {@link CpuPlayer}.
+	 */
+	protected abstract List<DropSequence> gatherOpponentSequences(BoardAnalysis analysis);
 }
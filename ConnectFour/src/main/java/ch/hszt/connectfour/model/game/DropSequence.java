@@ -65,6 +65,11 @@ public class DropSequence
 		return other.slots.containsAll(this.slots);
 	}
 	
+	boolean contains(GameBoardSlot slot)
+	{
+		return slots.contains(slot);
+	}
+	
 	DropSequenceDirection getDirection()
 	{
 		return direction;
@@ -72,19 +77,26 @@ public class DropSequence
 	
 	String getTurn()
 	{
-		if (after != null && before != null)
+		// Only adjacent slots accepting a drop => a blocked slot may be part of a full column
+		
+		GameBoardSlot slotBefore = getSlotBefore();
+		GameBoardSlot slotAfter = getSlotAfter();
+		
+		if (slotAfter != null && slotBefore != null)
 		{
 			int random = new Random().nextInt(2);
-			return (random == 0) ? after.getColumn().getKey() : before.getColumn().getKey();
+			return (random == 0) ? slotAfter.getColumn().getKey() : slotBefore.getColumn().getKey();
 		}
-		else if (after != null && before == null)
+		else if (slotAfter != null)
 		{
-			return after.getColumn().getKey();
+			return slotAfter.getColumn().getKey();
 		}
-		else
+		else if (slotBefore != null)
 		{
-			return before.getColumn().getKey();
+			return slotBefore.getColumn().getKey();
 		}
+		
+		return null;
 	}
 
 	void evaluate()
@@ -1,55 +1,105 @@
 
 package ch.hszt.connectfour.model.game;
 
-import java.util.Observable;
 import ch.hszt.connectfour.control.GameEngine;
+import ch.hszt.connectfour.control.GameEvent;
+import ch.hszt.connectfour.control.GameEventBus;
 import ch.hszt.connectfour.control.GameObserver;
 import ch.hszt.connectfour.exception.GameException;
 import ch.hszt.connectfour.io.Serial;
 import ch.hszt.connectfour.io.SerialObject;
+import ch.hszt.connectfour.model.board.BoardGeometry;
+import ch.hszt.connectfour.model.board.BoardSnapshot;
 import ch.hszt.connectfour.model.board.GameBoard;
 import ch.hszt.connectfour.model.board.GameBoardSlot;
 import ch.hszt.connectfour.model.enumeration.DropColor;
+import ch.hszt.connectfour.model.enumeration.GameEventType;
 import ch.hszt.connectfour.util.DateHelper;
 
 /**
  * Represents the abstract definition of a game.
- * Extends {@link Observable} to offer observers notifications about changes on a {@link Game} instance.
+ * Changes on a {@link Game} instance are published as {@link GameEvent} items via its {@link GameEventBus}.
  * @author Markus Vetsch
  * @version 1.0, 11.10.2011 
  */
-public class Game extends Observable implements Serial
+public class Game implements Serial
 {
-	private boolean isStarted;
+	// Guards all changes of the game state => each game is locked on its own
+	
+	private final Object lock = new Object();
+	
+	private volatile boolean isStarted;
 	
   	private final GameBoard board;  
   	
-  	private GameStatus status;
+  	// Published after each move => read by other threads without locking the board
+  	
+  	private volatile BoardSnapshot snapshot;
+  	
+  	private final GameEventBus events;
+  	
+  	// Replaced with every update => read by other threads without locking the game
+  	
+  	private volatile GameStatus status;
   	private GameStatistic statistic;
   	private GameSettings settings;
 
   	/**
-  	 * Creates an instance of a {@link Game} with associated pair of {@link Player}.
+  	 * Creates an instance of a {@link Game} on the standard {@link GameBoard} with associated pair of {@link Player}.
   	 * @param firstPlayer - The first {@link Player}, i.e. not necessarily the {@link Player} defined by {@link Game#getStartPlayer()}.
   	 * @param secondPlayer - The first {@link Player}, i.e. not necessarily the {@link Player} defined by {@link Game#getOtherPlayer()}.
   	 */
   	public Game(final Player firstPlayer, final Player secondPlayer) 
+  	{
+  		this(firstPlayer, secondPlayer, BoardGeometry.STANDARD);
+  	}
+  	
+  	/**
+  	 * Creates an instance of a {@link Game} with associated pair of {@link Player} on a {@link GameBoard} with specified {@link BoardGeometry}.
+  	 * @param firstPlayer - The first {@link Player}, i.e. not necessarily the {@link Player} defined by {@link Game#getStartPlayer()}.
+  	 * @param secondPlayer - The first {@link Player}, i.e. not necessarily the {@link Player} defined by {@link Game#getOtherPlayer()}.
+  	 * @param geometry - The {@link BoardGeometry} defining width, height and number of drops in a row to win.
+  	 * @throws IllegalArgumentException Thrown, if no {@link BoardGeometry} was specified.
+  	 */
+  	public Game(final Player firstPlayer, final Player secondPlayer, final BoardGeometry geometry) 
   	{
   		// initialization of game board and game settings
   		
   		isStarted = false;
   		
-		board = new GameBoard();
-		settings = new GameSettings(firstPlayer, secondPlayer);
+		board = new GameBoard(geometry);
+		snapshot = board.snapshot();
+		events = new GameEventBus();
+		settings = new GameSettings(firstPlayer, secondPlayer, geometry);
   	}
   	
   	/**
   	 * Sets an observer to watch this instance for any modifications.
-  	 * @param observer - The {@link GameObserver} for surveillance.
+  	 * @param observer - The {@link GameObserver} for surveillance, which is subscribed to the {@link GameEventBus}.
   	 */
   	public void setObserver(GameObserver observer)
   	{
-  		addObserver(observer);
+  		events.subscribe(observer);
+  	}
+  	
+  	/**
+  	 * Grants access to the {@link GameEventBus} publishing the {@link GameEvent} items of this {@link Game}.
+  	 * @return The {@link GameEventBus} to subscribe listeners to.
+  	 */
+  	public GameEventBus getEvents()
+  	{
+  		return events;
+  	}
+  	
+  	/**
+  	 * Returns the monitor guarding the state of this {@link Game}.
+  	 * The {@link GameEngine} holds it while inserting a drop and updating the {@link GameStatus}; 
+  	 * observers are notified after it was released, so games don't block each other.
+  	 * @return The lock object of this {@link Game}.
+  	 */
+  	public Object getLock()
+  	{
+  		return lock;
   	}
   	
   	/**
@@ -69,6 +119,34 @@ public class Game extends Observable implements Serial
   	{
 		return board;
   	}
+  	
+  	/**
+  	 * Returns the {@link BoardSnapshot} published after the last move on the {@link GameBoard}.
+  	 * Unlike {@link Game#getBoard()}, the snapshot is immutable and can be read by any thread without locking.
+  	 * @return The {@link BoardSnapshot} of the last published position.
+  	 */
+  	public BoardSnapshot getSnapshot()
+  	{
+  		return snapshot;
+  	}
+  	
+  	/**
+  	 * Publishes a new {@link BoardSnapshot} of the current position on the {@link GameBoard}.
+  	 * To be called by the {@link GameEngine} after each move, before any observer is notified.
+  	 */
+  	public void publishSnapshot()
+  	{
+  		snapshot = board.snapshot();
+  	}
+
+  	/**
+  	 * Returns the {@link BoardGeometry} of the {@link GameBoard}.
+  	 * @return The {@link BoardGeometry} defining width, height and number of drops in a row to win.
+  	 */
+  	public BoardGeometry getGeometry()
+  	{
+  		return settings.getGeometry();
+  	}
 
   	/**
   	 * Returns the {@link Player} opening the {@link Game} with the first turn.
@@ -135,12 +213,49 @@ public class Game extends Observable implements Serial
   	
   	/**
   	 * Notifies any associated {@link GameObserver} about changes within the game model.
+  	 * The notification is delivered asynchronously (see {@link GameEventBus}) along with the position and status
+  	 * published last; use {@link Game#notifyChanged(GameBoardSlot, BoardSnapshot, GameStatus)} to pass the state of a move.
   	 * @param slot - If not <b>null</b>, this specifies an update of the corresponding {@link GameBoardSlot}.
   	 */
   	public void notifyChanged(GameBoardSlot slot)
-  	{  		
-  		setChanged();
-  		notifyObservers(slot);
+  	{
+  		BoardSnapshot published;
+  		GameStatus current;
+  		
+  		synchronized (lock)
+  		{
+  			published = snapshot;
+  			current = status;
+  		}
+  		
+  		notifyChanged(slot, published, current);
+  	}
+  	
+  	/**
+  	 * Notifies any associated {@link GameObserver} about changes within the game model.
+  	 * The notification is delivered asynchronously (see {@link GameEventBus}); the {@link GameEngine} captures
+  	 * the {@link BoardSnapshot} and the {@link GameStatus} while holding the lock of the {@link Game}, so they match the slot,
+  	 * even if the next move is executed before the notification.
+  	 * @param slot - If not <b>null</b>, this specifies an update of the corresponding {@link GameBoardSlot}.
+  	 * @param snapshot - The {@link BoardSnapshot} of the position after the change.
+  	 * @param status - The {@link GameStatus} after the change.
+  	 */
+  	public void notifyChanged(GameBoardSlot slot, BoardSnapshot snapshot, GameStatus status)
+  	{
+  		GameEventType type = (slot != null) ? GameEventType.DROP_INSERTED : GameEventType.STATUS_CHANGED;
+  		
+  		events.publish(new GameEvent(type, this, slot, snapshot, status));
+  	}
+  	
+  	/**
+  	 * Notifies any associated {@link GameObserver} about the end of the game with "ConnectFour" or a draw.
+  	 * To be called by the {@link GameEngine} after the notification about the last drop.
+  	 * @param snapshot - The {@link BoardSnapshot} of the final position.
+  	 * @param status - The final {@link GameStatus}.
+  	 */
+  	public void notifyEnded(BoardSnapshot snapshot, GameStatus status)
+  	{
+  		events.publish(new GameEvent(GameEventType.GAME_ENDED, this, null, snapshot, status));
   	}
 
   	/**
@@ -150,16 +265,19 @@ public class Game extends Observable implements Serial
   	 */
   	public void start() throws GameException
   	{
-  		if (isStarted())
+  		synchronized (lock)
   		{
-  			throw new GameException("Game can't be started, as it was already started before!", this);
-  		}
-  		
-  		isStarted = true;
-  		
-  		// Create game statistic
+	  		if (isStarted())
+	  		{
+	  			throw new GameException("Game can't be started, as it was already started before!", this);
+	  		}
 	  		
-		statistic = new GameStatistic(this);
+	  		isStarted = true;
+	  		
+	  		// Create game statistic
+		  		
+			statistic = new GameStatistic(this);
+  		}
   	}
 
   	/**
@@ -169,14 +287,17 @@ public class Game extends Observable implements Serial
   	 */
   	public void stop() throws GameException
   	{
-  		if (!isStarted())
+  		synchronized (lock)
   		{
-  			throw new GameException("Game can't be stopped, as it wasn't started yet!", this);
+	  		if (!isStarted())
+	  		{
+	  			throw new GameException("Game can't be stopped, as it wasn't started yet!", this);
+	  		}
+	  		
+	  		isStarted = false;
+	  		
+	  		statistic.setEndTime(DateHelper.now());
   		}
-  		
-  		isStarted = false;
-  		
-  		statistic.setEndTime(DateHelper.now());
 		
   		//TODO serialization of game  		
   	}
@@ -188,32 +309,36 @@ public class Game extends Observable implements Serial
   	 */
   	public void restart() throws GameException
   	{
-  		// perform reset only, if game was started
-  		
-  		if (isStarted())
-  		{ 
-  			// Clear status and statistics
-  			
-  			status = null;
-  			statistic = null;
-  			
-  			isStarted = false;
-  			
-  			// reset the game board
-  			
-  			board.reset();
-  			
-  			// reevaluate the start player
-  			
-  			settings.reEvaluateStartPlayer();
-  			
-  			// finally restart the game
-  			
-  			start();
-  		}
-  		else
+  		synchronized (lock)
   		{
-  			throw new GameException("Game can't be restarted, as it wasn't started before!", this);
+	  		// perform reset only, if game was started
+	  		
+	  		if (isStarted())
+	  		{ 
+	  			// Clear status and statistics
+	  			
+	  			status = null;
+	  			statistic = null;
+	  			
+	  			isStarted = false;
+	  			
+	  			// reset the game board
+	  			
+	  			board.reset();
+	  			publishSnapshot();
+	  			
+	  			// reevaluate the start player
+	  			
+	  			settings.reEvaluateStartPlayer();
+	  			
+	  			// finally restart the game
+	  			
+	  			start();
+	  		}
+	  		else
+	  		{
+	  			throw new GameException("Game can't be restarted, as it wasn't started before!", this);
+	  		}
   		}
   	}
 
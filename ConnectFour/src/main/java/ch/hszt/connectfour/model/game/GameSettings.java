@@ -7,6 +7,7 @@ import java.util.Random;
 
 import ch.hszt.connectfour.io.Serial;
 import ch.hszt.connectfour.io.SerialObject;
+import ch.hszt.connectfour.model.board.BoardGeometry;
 import ch.hszt.connectfour.model.enumeration.DropColor;
 
 /**
@@ -17,12 +18,13 @@ import ch.hszt.connectfour.model.enumeration.DropColor;
 public class GameSettings implements Serial
 {
 	/**
-	 * Defines the initial count of drops per player.
+	 * Defines the initial count of drops per player on the standard game board (see {@link BoardGeometry#STANDARD}).
 	 */
 	public final static int NUMBER_OF_DROPS = 21;
 	
 	private final Player firstPlayer;
 	private final Player secondPlayer;
+	private final BoardGeometry geometry;
 	
 	private Player startPlayer;
 	
@@ -30,21 +32,44 @@ public class GameSettings implements Serial
 	 * Creates the game settings.
 	 * @param firstPlayer - The first {@link Player} not necessarily being Player represented by {@link GameSettings#getStartPlayer()}.
 	 * @param secondPlayer - The second {@link Player} not necessarily being Player represented by {@link GameSettings#getOtherPlayer()()}.
+	 * @param geometry - The {@link BoardGeometry} defining width, height and number of drops in a row to win.
 	 */
-	GameSettings(final Player firstPlayer, final Player secondPlayer)
+	GameSettings(final Player firstPlayer, final Player secondPlayer, final BoardGeometry geometry)
 	{
 		this.firstPlayer = firstPlayer;
 		this.secondPlayer = secondPlayer;
+		this.geometry = geometry;
 		
-		// Assign drop color
+		// Assign drop color and drop count
 		
 		assignDropColor();
 		
+		firstPlayer.assignDropCount(getNumberOfDrops());
+		secondPlayer.assignDropCount(getNumberOfDrops());
+		
 		// Determine start player randomly
 		
 		startPlayer = evaluateStartPlayer();
 	}
 	
+	/**
+	 * Returns the {@link BoardGeometry} of the game.
+	 * @return The {@link BoardGeometry} defining width, height and number of drops in a row to win.
+	 */
+	public BoardGeometry getGeometry()
+	{
+		return geometry;
+	}
+	
+	/**
+	 * Returns the initial count of drops per player, i.e. half of the slots on the game board (rounded up).
+	 * @return The number of drops per {@link Player}; {@link GameSettings#NUMBER_OF_DROPS} for the standard game board.
+	 */
+	public int getNumberOfDrops()
+	{
+		return (geometry.countSlots() + 1) / 2;
+	}
+	
 	/**
 	 * Returns the {@link Player} opening the game with the first turn.
 	 * @return The {@link Player} opening the game.
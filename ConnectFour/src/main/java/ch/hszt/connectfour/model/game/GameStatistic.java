@@ -22,7 +22,7 @@ public class GameStatistic implements Serial
 	
 	private Date startTime;
 	private Date continuedTime;
-	private Date endTime;
+	private volatile Date endTime;
 	
 	/**
 	 * Creates a new instance of {@link GameStatistic} linked to the specified {@link Game}.
@@ -76,6 +76,15 @@ public class GameStatistic implements Serial
 		return DateHelper.getFormattedDate(endTime);
 	}
 	
+	/**
+	 * Evaluates, if the end date and time of the associated {@link Game} was set.
+	 * @return <b>true</b>, if the {@link Game} has ended; otherwise <b>false</b>.
+	 */
+	public boolean isEnded()
+	{
+		return endTime != null;
+	}
+	
 	/**
 	 * Sets the date / time, at which a {@link Game} ended.
 	 * @param endTime The date / time, at which a {@link Game} ended.
@@ -1,13 +1,13 @@
 
 package ch.hszt.connectfour.model.game;
 
+import java.util.Collections;
 import java.util.List;
 
 import ch.hszt.connectfour.io.Serial;
 import ch.hszt.connectfour.io.SerialObject;
 import ch.hszt.connectfour.model.board.GameBoard;
 import ch.hszt.connectfour.model.board.GameBoardSlot;
-import ch.hszt.connectfour.model.board.GameBoardSlotCollection;
 import ch.hszt.connectfour.model.enumeration.DropColor;
 
 /**
@@ -17,58 +17,88 @@ import ch.hszt.connectfour.model.enumeration.DropColor;
  */
 public class GameStatus implements Serial
 {
-	private boolean isConnectFour = false;
+	private final boolean isConnectFour;
 	
-	private transient GameBoardSlotCollection connectFour;
-	private transient List<GameBoardSlot> winnerSlots;
-	private transient DropColor winnerColor;
+	private transient final List<GameBoardSlot> winnerSlots;
+	private transient final DropColor winnerColor;
 	
-	private int turnsRemaining =  0;
-	private int turnsCompleted =  0;
-	private int yellowDrops =  0;
-	private int redDrops =  0;
+	private final int turnsRemaining;
+	private final int turnsCompleted;
+	private final int yellowDrops;
+	private final int redDrops;
 	
-	private Player currentPlayer;
-	private transient Game game;
+	private final Player currentPlayer;
+	private transient final Game game;
 
 	/**
 	 * Creates a new instance of the {@link GameStatus}.
 	 * Use static method {@link GameStatus#update(Game)} to update the {@link GameStatus} for specified {@link Game}.
 	 * @param game - The {@link Game}, for which the {@link GameStatus} will be created.
+	 * @param connectFour - The {@link GameBoardSlot} instances building "ConnectFour" or <b>null</b>, if there is none.
 	 */
-	private GameStatus(Game game) 
+	private GameStatus(Game game, List<GameBoardSlot> connectFour) 
 	{
 		this.game = game;
 		
-		winnerColor = DropColor.UNKNOWN;
-		evaluate(game);
+		// Drop counters are maintained by the board => O(1), and consistent, as the caller holds the lock of the game
+		
+		GameBoard board = game.getBoard();
+		
+		turnsCompleted = board.countDrops();
+		turnsRemaining = board.countEmptySlots();
+		yellowDrops = board.countDrops(DropColor.YELLOW);
+		redDrops = board.countDrops(DropColor.RED);
+		
+		// Evaluate current player by number of completed turns
+		// Even number => start player; odd number => second player
+		
+		currentPlayer = (turnsCompleted % 2 == 0) ? game.getStartPlayer() : game.getOtherPlayer();
+		
+		if (connectFour != null)
+		{
+			isConnectFour = true;
+			winnerSlots = Collections.unmodifiableList(connectFour);
+			winnerColor = connectFour.get(0).getColor();
+		}
+		else
+		{
+			isConnectFour = false;
+			winnerSlots = null;
+			winnerColor = DropColor.UNKNOWN;
+		}
 	}
 
 	/**
-	 * Updates the {@link GameStatus} of the specifed {@link Game} by assigning a new instance to it.
+	 * Updates the {@link GameStatus} of the specifed {@link Game}.
+	 * The entire {@link GameBoard} is checked for a "ConnectFour" situation.
 	 * @param game - The {@link Game}, to update the {@link GameStatus} for.
 	 */
 	public static void update(Game game)
 	{
-		game.setStatus(new GameStatus(game));	
-	}	
+		update(game, findConnectFour(game.getBoard()));
+	}
 	
 	/**
-	 * Retrieves the {@link Player} currently in charge to set the next turn.
-	 * @return The {@link Player} currently in charge to set the next turn.
+	 * Updates the {@link GameStatus} of the specifed {@link Game}.
+	 * A new, immutable instance is assigned with every update, so a {@link GameStatus} handed to another thread
+	 * (e.g. along with a {@link ch.hszt.connectfour.control.GameEvent}) never changes afterwards.
+	 * Use this overload after a drop was inserted, if the "ConnectFour" check was already accomplished 
+	 * for the affected {@link GameBoardSlot} by {@link GameBoard#getConnectFour(GameBoardSlot)}.
+	 * @param game - The {@link Game}, to update the {@link GameStatus} for.
+	 * @param connectFour - The {@link GameBoardSlot} instances building "ConnectFour" or <b>null</b>, if there is none.
 	 */
-	public Player getCurrentPlayer()
+	public static void update(Game game, List<GameBoardSlot> connectFour)
 	{
-		return currentPlayer;
+		game.setStatus(new GameStatus(game, connectFour));
 	}
 	
 	/**
-	 * Sets the current {@link Player} in charge to execute the next turn.
-	 * @param player - The {@link Player} in charge to execute the next turn.
+	 * Retrieves the {@link Player} currently in charge to set the next turn.
+	 * @return The {@link Player} currently in charge to set the next turn.
 	 */
-	void setCurrentPlayer(Player player)
+	public Player getCurrentPlayer()
 	{
-		currentPlayer = player;
+		return currentPlayer;
 	}
 	
 	/**
@@ -170,130 +200,18 @@ public class GameStatus implements Serial
 		return game.getPlayerByColor(winnerColor);
 	}
 
-	private void evaluate(Game game) 
-	{		
-		// Update all relevant information of the game
-		
-		updateAll(game);
-		
-		if (isConnectFour)
-		{
-			winnerSlots = connectFour.getConnectFourList();
-		}
-	}
-	
-	private void updateAll(Game game)
+	private static List<GameBoardSlot> findConnectFour(GameBoard board) 
 	{
-		GameBoard board = game.getBoard();
-		
-		// Check for connect four
-		
-		isConnectFour = checkIsConnectFour(board);
+		// Quick check on the entire board first - windows only need to be searched in case of connect four
 		
-		// Check turn information
-		
-		turnsRemaining = getNumberOfPossibleTurns(board);
-		turnsCompleted = getNumberOfCompletedTurns(board);
-		yellowDrops = getNumberOfDropsByColor(board, DropColor.YELLOW);
-		redDrops = getNumberOfDropsByColor(board, DropColor.RED);
-		
-		// Evaluate current player
-		
-		currentPlayer = evaluateCurrentPlayer(game);
-	}
-
-	private boolean checkIsConnectFour(GameBoard board) 
-	{
-		// Iterate over all rows, columns, diagonals
-		
-		for (GameBoardSlotCollection coll : board.getAll())
-		{
-			if (coll.hasConnectFour(DropColor.RED))
-			{
-				connectFour = coll;
-				winnerColor = DropColor.RED;
-				return true;
-			}			
-			else if (coll.hasConnectFour(DropColor.YELLOW))
-			{
-				connectFour = coll;
-				winnerColor = DropColor.YELLOW;
-				return true;
-			}
-		}
-		
-		return false;
-	}
-
-	private int getNumberOfPossibleTurns(GameBoard board) 
-	{
-		int possibleTurns = 0;
-		
-		for (GameBoardSlotCollection column : board.getColumns())
+		if (!board.hasConnectFour(DropColor.RED) && !board.hasConnectFour(DropColor.YELLOW))
 		{
-			for (GameBoardSlot slot : column)
-			{
-				if (slot.isEmpty())
-				{
-					possibleTurns++;
-				}
-			}
-		}
-		
-		return possibleTurns;
-	}
-
-	private int getNumberOfCompletedTurns(GameBoard board) 
-	{
-		int completedTurns = 0;
-		
-		for (GameBoardSlotCollection column : board.getColumns())
-		{
-			for (GameBoardSlot slot : column)
-			{
-				if (!slot.isEmpty())
-				{
-					completedTurns++;
-				}
-			}
+			return null;
 		}
 		
-		return completedTurns;
+		return board.findConnectFour();
 	}
 
-  	private int getNumberOfDropsByColor(GameBoard board, DropColor color) 
-  	{
-		int dropCount = 0;
-		
-		for (GameBoardSlotCollection column : board.getColumns())
-		{
-			for (GameBoardSlot slot : column)
-			{
-				if (!slot.isEmpty() && slot.getColor() == color)
-				{
-					dropCount++;
-				}
-			}
-		}
-		
-		return dropCount;
-  	}
-
-  	private Player evaluateCurrentPlayer(Game game)
-  	{
-  		// Evaluate current player by number of completed turns
-  		// Even number => start player; odd number => second player
-  		
-  		if (turnsCompleted % 2 == 0)
-  		{
-  			return game.getStartPlayer();
-  		}
-  		else
-  		{
-  			return game.getOtherPlayer();
-  		}
-  	}
-
 	public void save(SerialObject obj)
 	{
 		obj.saveBoolean(isConnectFour, "isConnectFour");
@@ -6,6 +6,7 @@ package ch.hszt.connectfour.model.game;
 import java.util.List;
 import java.util.Random;
 
+import ch.hszt.connectfour.model.board.BoardSnapshot;
 import ch.hszt.connectfour.model.board.GameBoard;
 import ch.hszt.connectfour.model.enumeration.DropColor;
 import ch.hszt.connectfour.model.enumeration.DropSequenceDirection;
@@ -35,18 +36,26 @@ public final class HardCpuPlayer extends CpuPlayer
 	@Override
 	public String determineNextTurn(Game game)
 	{
-		if (GameAnalyzer.isOpeningTurn(game))
+		// The published snapshot is consistent without the lock of the game => analyze a private copy of the position
+		
+		BoardSnapshot snapshot = game.getSnapshot();
+		
+		if (GameAnalyzer.isOpeningTurn(snapshot))
 		{
-			return GameAnalyzer.createOpeningTurn(game);
+			return GameAnalyzer.createOpeningTurn(snapshot, getDropColor());
 		}
 		
-		GameBoard board = game.getBoard();
+		GameBoard board = GameBoard.fromSnapshot(snapshot);
 		DropColor own = getDropColor();
 		DropColor opponent = (own == DropColor.RED) ? DropColor.YELLOW : DropColor.RED;
 		
-		List<DropSequence> ownSequences = gatherOwnSequences(game);		
-		List<DropSequence> opponentSequences = gatherOpponentSequences(game);
-		List<SingleDropSequence> singles = GameAnalyzer.getSingleSequences(board, own);
+		// Search the board once for all sequences of both colors
+		
+		BoardAnalysis analysis = new BoardAnalysis(board);
+		
+		List<DropSequence> ownSequences = gatherOwnSequences(analysis);		
+		List<DropSequence> opponentSequences = gatherOpponentSequences(analysis);
+		List<SingleDropSequence> singles = analysis.getSingleSequences(own);
 		
 		DropSequence selection = null;
 		String turn = null;
@@ -78,26 +87,16 @@ public final class HardCpuPlayer extends CpuPlayer
 	}
 
 	@Override
-	protected List<DropSequence> gatherOwnSequences(Game game)
+	protected List<DropSequence> gatherOwnSequences(BoardAnalysis analysis)
 	{
-		List<DropSequence> ownSequences = GameAnalyzer.getSequencesByDirection(game.getBoard(), getDropColor(), DropSequenceDirection.COLUMN);
-		ownSequences.addAll(GameAnalyzer.getSequencesByDirection(game.getBoard(), getDropColor(), DropSequenceDirection.ROW));
-		ownSequences.addAll(GameAnalyzer.getSequencesByDirection(game.getBoard(), getDropColor(), DropSequenceDirection.DIAGONAL_LOW_RIGHT));
-		ownSequences.addAll(GameAnalyzer.getSequencesByDirection(game.getBoard(), getDropColor(), DropSequenceDirection.DIAGONAL_UP_RIGHT));
-		
-		return ownSequences;
+		return analysis.getSequences(getDropColor(), DropSequenceDirection.COLUMN, DropSequenceDirection.ROW, DropSequenceDirection.DIAGONAL_LOW_RIGHT, DropSequenceDirection.DIAGONAL_UP_RIGHT);
 	}
 
 	@Override
-	protected List<DropSequence> gatherOpponentSequences(Game game)
+	protected List<DropSequence> gatherOpponentSequences(BoardAnalysis analysis)
 	{
 		DropColor opponentColor = (getDropColor() == DropColor.RED) ? DropColor.YELLOW : DropColor.RED;
 		
-		List<DropSequence> opponentSequences = GameAnalyzer.getSequencesByDirection(game.getBoard(), opponentColor, DropSequenceDirection.COLUMN);
-		opponentSequences.addAll(GameAnalyzer.getSequencesByDirection(game.getBoard(), opponentColor, DropSequenceDirection.ROW));
-		opponentSequences.addAll(GameAnalyzer.getSequencesByDirection(game.getBoard(), opponentColor, DropSequenceDirection.DIAGONAL_LOW_RIGHT));
-		opponentSequences.addAll(GameAnalyzer.getSequencesByDirection(game.getBoard(), opponentColor, DropSequenceDirection.DIAGONAL_UP_RIGHT));
-		
-		return opponentSequences;
+		return analysis.getSequences(opponentColor, DropSequenceDirection.COLUMN, DropSequenceDirection.ROW, DropSequenceDirection.DIAGONAL_LOW_RIGHT, DropSequenceDirection.DIAGONAL_UP_RIGHT);
 	}
 }
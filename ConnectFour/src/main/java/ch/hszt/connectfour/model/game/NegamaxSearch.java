@@ -0,0 +1,583 @@
+package ch.hszt.connectfour.model.game;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import ch.hszt.connectfour.model.board.BoardSnapshot;
+import ch.hszt.connectfour.model.board.GameBoard;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+
+/**
+ * Searches the best next turn on a {@link GameBoard} by a negamax search with alpha-beta pruning.
+ * The search works on the bitboards of a {@link BoardSnapshot} and never modifies the {@link GameBoard} itself.
+ * Positions are always evaluated from the perspective of the player in charge to execute the next turn.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+class NegamaxSearch
+{
+	/**
+	 * The score of a win with the last drop on the board; earlier wins score higher, i.e. <code>WIN_SCORE - number of drops</code>.
+	 */
+	static final int WIN_SCORE = 1000;
+
+	/**
+	 * The number of slots on the {@link GameBoard}, i.e. the maximum number of turns.
+	 */
+	private static final int MAX_TURNS = GameBoard.NUMBER_OF_COLUMNS * GameBoard.NUMBER_OF_SLOTS;
+
+	/**
+	 * The order columns are searched in => center columns first, since they take part in most of the lines.
+	 */
+	private static final int[] COLUMN_ORDER = createColumnOrder();
+
+	/**
+	 * The bitmask of all slots per column (0-based index).
+	 */
+	private static final long[] COLUMN_MASKS = createColumnMasks();
+
+	/**
+	 * The bitmask of the bottom slots of all columns.
+	 */
+	private static final long BOTTOM_MASK = createBottomMask();
+
+	/**
+	 * The bitmask of all slots of the {@link GameBoard}.
+	 */
+	private static final long BOARD_MASK = createBoardMask();
+
+	/**
+	 * The bitmask of all slots of the center column.
+	 */
+	private static final long CENTER_MASK = COLUMN_MASKS[GameBoard.NUMBER_OF_COLUMNS / 2];
+
+	private final TranspositionTable table;
+	private final AtomicBoolean stopped;
+	private final int depthOffset;
+
+	private long current;
+	private long mask;
+	private int turns;
+	private long nodes;
+
+	// Lookups of the table => added to the table, when the search has finished
+
+	private long probes;
+	private long hits;
+
+	// Budget of the current search => checked while visiting the positions
+
+	private long deadline;
+	private long nodeLimit;
+	private boolean aborted;
+
+	private int completedDepth;
+	private int rootScore;
+
+	/**
+	 * Creates a new {@link NegamaxSearch} for the current position of the {@link GameBoard}.
+	 * @param board - The {@link GameBoard} to be searched.
+	 * @param color - The {@link DropColor} of the player in charge to execute the next turn.
+	 * @param table - The {@link TranspositionTable} to cache the results of visited positions.
+	 */
+	NegamaxSearch(GameBoard board, DropColor color, TranspositionTable table)
+	{
+		this(board.snapshot(), color, table, new AtomicBoolean(false), 0);
+	}
+
+	/**
+	 * Creates a new {@link NegamaxSearch} for the position of the {@link BoardSnapshot}, 
+	 * which takes part in a search of several threads sharing the same {@link TranspositionTable}.
+	 * @param snapshot - The {@link BoardSnapshot} of the position to be searched.
+	 * @param color - The {@link DropColor} of the player in charge to execute the next turn.
+	 * @param table - The {@link TranspositionTable} shared by all threads.
+	 * @param stopped - The flag shared by all threads to stop the search before the {@link SearchBudget} is exhausted.
+	 * @param depthOffset - The number of turns to start the iterative deepening deeper than usual, 
+	 * so threads don't search the same depth at the same time.
+	 * @throws IllegalArgumentException Thrown, if the {@link BoardSnapshot} wasn't taken from a standard {@link GameBoard}.
+	 */
+	NegamaxSearch(BoardSnapshot snapshot, DropColor color, TranspositionTable table, AtomicBoolean stopped, int depthOffset)
+	{
+		// The search works on 64 bit bitboards of the standard game only
+		
+		if (!snapshot.getGeometry().isStandard())
+		{
+			throw new IllegalArgumentException(String.format("Search not supported for %s!", snapshot.getGeometry().toString()));
+		}
+
+		this.table = table;
+		this.stopped = stopped;
+		this.depthOffset = depthOffset;
+
+		current = snapshot.getDrops(color);
+		mask = snapshot.getOccupied();
+		turns = snapshot.countDrops();
+		nodes = 0L;
+		nodeLimit = SearchBudget.UNLIMITED_NODES;
+		deadline = Long.MAX_VALUE;
+	}
+
+	/**
+	 * Searches the best column for the next turn by iterative deepening within the specified {@link SearchBudget}.
+	 * The depth is increased by one turn after the other, until the budget is exhausted, the outcome of the game
+	 * is proven or the end of the game is reached. The best column of the last completed depth is returned.
+	 * @param budget - The {@link SearchBudget} limiting time, visited positions and depth of the search.
+	 * @return The 1-based id of the best column or 0, if there is no empty slot left.
+	 */
+	int findBestColumn(SearchBudget budget)
+	{
+		long possible = getPossibleMoves();
+
+		if (possible == 0)
+		{
+			return 0;
+		}
+
+		// Take an immediate win without any further search
+
+		long winning = GameBoard.findWinningSlots(current, mask) & possible;
+
+		if (winning != 0)
+		{
+			return getColumnId(winning);
+		}
+
+		deadline = System.nanoTime() + budget.getTimeLimit() * 1000000L;
+		nodeLimit = budget.getNodeLimit();
+		aborted = false;
+
+		// Fallback, if not even the first depth can be completed
+
+		int bestColumn = getFirstColumn(possible);
+
+		int maxDepth = Math.min(budget.getDepthLimit(), MAX_TURNS - turns);
+
+		try
+		{
+			for (int depth = Math.min(1 + depthOffset, maxDepth); depth <= maxDepth; depth++)
+			{
+				int column = searchRoot(possible, depth, bestColumn);
+
+				// Results of an aborted depth are incomplete => keep the column of the previous depth
+
+				if (aborted)
+				{
+					break;
+				}
+
+				bestColumn = column;
+				completedDepth = depth;
+
+				// A proven win or loss can't change anymore with a deeper search
+
+				if (Math.abs(rootScore) >= WIN_SCORE - MAX_TURNS)
+				{
+					break;
+				}
+			}
+		}
+		finally
+		{
+			table.addProbes(probes, hits);
+
+			probes = 0L;
+			hits = 0L;
+		}
+
+		return bestColumn;
+	}
+
+	/**
+	 * Returns the depth of the last completed iteration of {@link NegamaxSearch#findBestColumn(SearchBudget)}.
+	 * @return The last completed depth or 0, if no depth was completed.
+	 */
+	int getCompletedDepth()
+	{
+		return completedDepth;
+	}
+
+	/**
+	 * Returns the score of the best column of the last completed depth.
+	 * @return The score from the perspective of the player in charge to execute the next turn.
+	 */
+	int getBestScore()
+	{
+		return rootScore;
+	}
+
+	/**
+	 * Returns the number of positions visited since creation of this {@link NegamaxSearch}.
+	 * @return The number of visited positions.
+	 */
+	long getNodeCount()
+	{
+		return nodes;
+	}
+
+	/**
+	 * Evaluates the current position by negamax with alpha-beta pruning.
+	 * @param alpha - The lower bound of the search window.
+	 * @param beta - The upper bound of the search window.
+	 * @param depth - The remaining number of turns to look ahead.
+	 * @return The score of the position for the player in charge to execute the next turn.
+	 */
+	private int negamax(int alpha, int beta, int depth)
+	{
+		if (isBudgetExhausted())
+		{
+			return 0;
+		}
+
+		long possible = getPossibleMoves();
+
+		// Win with the next drop
+
+		if ((GameBoard.findWinningSlots(current, mask) & possible) != 0)
+		{
+			return WIN_SCORE - (turns + 1);
+		}
+
+		// Draw, if the board is going to be full without a win
+
+		if (turns >= MAX_TURNS - 1)
+		{
+			return 0;
+		}
+
+		// Block a threat of the opponent => more than one immediate threat can't be blocked anymore
+
+		long opponentWinning = GameBoard.findWinningSlots(current ^ mask, mask);
+		long forced = possible & opponentWinning;
+
+		if (forced != 0)
+		{
+			if (Long.bitCount(forced) > 1)
+			{
+				return -(WIN_SCORE - (turns + 2));
+			}
+
+			possible = forced;
+		}
+
+		// Never drop directly below a winning slot of the opponent
+
+		possible &= ~(opponentWinning >>> 1);
+
+		if (possible == 0)
+		{
+			return -(WIN_SCORE - (turns + 2));
+		}
+
+		if (depth <= 0)
+		{
+			return evaluate();
+		}
+
+		// Narrow the window => neither a win nor a loss is possible earlier than in two turns
+
+		int max = WIN_SCORE - (turns + 3);
+
+		if (beta > max)
+		{
+			beta = max;
+
+			if (alpha >= beta)
+			{
+				return beta;
+			}
+		}
+
+		int min = -(WIN_SCORE - (turns + 4));
+
+		if (alpha < min)
+		{
+			alpha = min;
+
+			if (alpha >= beta)
+			{
+				return alpha;
+			}
+		}
+
+		// Reuse the result of a previous visit of the same position, if it was searched at least as deep
+
+		long key = getPositionKey();
+		long entry = table.probe(key);
+		int hashMove = 0;
+
+		probes++;
+
+		if (entry != 0)
+		{
+			hits++;
+
+			int value = TranspositionTable.getValue(entry);
+			int bound = TranspositionTable.getBound(entry);
+
+			if (TranspositionTable.getDepth(entry) >= depth)
+			{
+				if (bound == TranspositionTable.BOUND_EXACT
+					|| (bound == TranspositionTable.BOUND_LOWER && value >= beta)
+					|| (bound == TranspositionTable.BOUND_UPPER && value <= alpha))
+				{
+					return value;
+				}
+			}
+
+			hashMove = TranspositionTable.getMove(entry);
+		}
+
+		int originalAlpha = alpha;
+		int bestScore = -WIN_SCORE;
+		int bestColumn = 0;
+
+		// Search the best move of the previous visit first, then all others from center to edge
+
+		for (int i = -1; i < COLUMN_ORDER.length; i++)
+		{
+			int columnIndex = (i < 0) ? hashMove - 1 : COLUMN_ORDER[i];
+
+			if (columnIndex < 0 || (i >= 0 && columnIndex == hashMove - 1))
+			{
+				continue;
+			}
+
+			long move = possible & COLUMN_MASKS[columnIndex];
+
+			if (move != 0)
+			{
+				int score = -searchMove(move, -beta, -alpha, depth - 1);
+
+				// Never cache the result of an aborted search
+
+				if (aborted)
+				{
+					return 0;
+				}
+				if (score > bestScore)
+				{
+					bestScore = score;
+					bestColumn = columnIndex + 1;
+				}
+				if (score >= beta)
+				{
+					table.store(key, score, TranspositionTable.BOUND_LOWER, depth, bestColumn);
+					return score;
+				}
+				if (score > alpha)
+				{
+					alpha = score;
+				}
+			}
+		}
+
+		int bound = (alpha > originalAlpha) ? TranspositionTable.BOUND_EXACT : TranspositionTable.BOUND_UPPER;
+		table.store(key, alpha, bound, depth, bestColumn);
+
+		return alpha;
+	}
+
+	/**
+	 * Searches all possible moves of the root position up to the specified depth.
+	 * @param possible - The bitmask of the playable slots.
+	 * @param depth - The number of turns to look ahead.
+	 * @param firstColumn - The 1-based id of the column to be searched first, i.e. the best one of the previous depth.
+	 * @return The 1-based id of the best column; only valid, if the search wasn't aborted.
+	 */
+	private int searchRoot(long possible, int depth, int firstColumn)
+	{
+		int alpha = -WIN_SCORE;
+		int bestColumn = 0;
+
+		for (int i = -1; i < COLUMN_ORDER.length; i++)
+		{
+			int columnIndex = (i < 0) ? firstColumn - 1 : COLUMN_ORDER[i];
+
+			if (i >= 0 && columnIndex == firstColumn - 1)
+			{
+				continue;
+			}
+
+			long move = possible & COLUMN_MASKS[columnIndex];
+
+			if (move != 0)
+			{
+				int score = -searchMove(move, -WIN_SCORE, -alpha, depth - 1);
+
+				if (aborted)
+				{
+					return bestColumn;
+				}
+				if (bestColumn == 0 || score > alpha)
+				{
+					alpha = score;
+					bestColumn = columnIndex + 1;
+				}
+			}
+		}
+
+		rootScore = alpha;
+
+		return bestColumn;
+	}
+
+	/**
+	 * Counts the visited position and evaluates, if the {@link SearchBudget} is exhausted.
+	 * The clock, the shared stop flag and the interruption of the searching thread (i.e. a cancelled turn)
+	 * are only read every 1024 positions to keep the overhead low.
+	 * @return <b>true</b>, if the search is to be aborted; otherwise <b>false</b>.
+	 */
+	private boolean isBudgetExhausted()
+	{
+		nodes++;
+
+		if (!aborted && (nodes >= nodeLimit 
+							|| ((nodes & 0x3FF) == 0 && (System.nanoTime() >= deadline || stopped.get() 
+															|| Thread.currentThread().isInterrupted()))))
+		{
+			aborted = true;
+		}
+
+		return aborted;
+	}
+
+	/**
+	 * Executes the specified move, evaluates the resulting position and takes the move back.
+	 * @param move - The bitmask of the slot to drop into.
+	 * @param alpha - The lower bound of the search window of the resulting position.
+	 * @param beta - The upper bound of the search window of the resulting position.
+	 * @param depth - The remaining number of turns to look ahead.
+	 * @return The score of the resulting position for the opponent.
+	 */
+	private int searchMove(long move, int alpha, int beta, int depth)
+	{
+		long previousCurrent = current;
+		long previousMask = mask;
+
+		// Switch sides => the drops of the opponent become the current ones
+
+		current ^= mask;
+		mask |= move;
+		turns++;
+
+		int score = negamax(alpha, beta, depth);
+
+		current = previousCurrent;
+		mask = previousMask;
+		turns--;
+
+		return score;
+	}
+
+	/**
+	 * Evaluates a position heuristically, once the maximum depth is reached.
+	 * @return A score by the number of open threats and center drops, which is far below any {@link NegamaxSearch#WIN_SCORE}.
+	 */
+	private int evaluate()
+	{
+		long opponent = current ^ mask;
+
+		int threats = Long.bitCount(GameBoard.findWinningSlots(current, mask))
+						- Long.bitCount(GameBoard.findWinningSlots(opponent, mask));
+		int center = Long.bitCount(current & CENTER_MASK) - Long.bitCount(opponent & CENTER_MASK);
+
+		return 4 * threats + center;
+	}
+
+	/**
+	 * Returns the unique key of the current position.
+	 * The sum of the current drops and all occupied slots is unique, since each column
+	 * carries exactly up to the bit above its topmost drop - the player in charge is implied by the number of drops.
+	 * @return The unique key of the current position.
+	 */
+	private long getPositionKey()
+	{
+		return current + mask;
+	}
+
+	private long getPossibleMoves()
+	{
+		// Adding the bottom row carries each column to its next empty slot
+
+		return (mask + BOTTOM_MASK) & BOARD_MASK;
+	}
+
+	private static int getFirstColumn(long possible)
+	{
+		for (int columnIndex : COLUMN_ORDER)
+		{
+			if ((possible & COLUMN_MASKS[columnIndex]) != 0)
+			{
+				return columnIndex + 1;
+			}
+		}
+
+		return 0;
+	}
+
+	private static int getColumnId(long move)
+	{
+		for (int i = 0; i < COLUMN_MASKS.length; i++)
+		{
+			if ((move & COLUMN_MASKS[i]) != 0)
+			{
+				return i + 1;
+			}
+		}
+
+		return 0;
+	}
+
+	private static int[] createColumnOrder()
+	{
+		int[] order = new int[GameBoard.NUMBER_OF_COLUMNS];
+
+		// Alternate around the center => 3, 2, 4, 1, 5, 0, 6 (0-based)
+
+		for (int i = 0; i < order.length; i++)
+		{
+			int offset = (i + 1) / 2;
+			order[i] = GameBoard.NUMBER_OF_COLUMNS / 2 + ((i % 2 == 0) ? offset : -offset);
+		}
+
+		return order;
+	}
+
+	private static long[] createColumnMasks()
+	{
+		long[] masks = new long[GameBoard.NUMBER_OF_COLUMNS];
+
+		for (int i = 0; i < masks.length; i++)
+		{
+			for (int position = 1; position <= GameBoard.NUMBER_OF_SLOTS; position++)
+			{
+				masks[i] |= GameBoard.getSlotMask(i + 1, position);
+			}
+		}
+
+		return masks;
+	}
+
+	private static long createBottomMask()
+	{
+		long bottom = 0L;
+
+		for (int i = 1; i <= GameBoard.NUMBER_OF_COLUMNS; i++)
+		{
+			bottom |= GameBoard.getSlotMask(i, 1);
+		}
+
+		return bottom;
+	}
+
+	private static long createBoardMask()
+	{
+		long board = 0L;
+
+		for (long column : COLUMN_MASKS)
+		{
+			board |= column;
+		}
+
+		return board;
+	}
+}
@@ -0,0 +1,245 @@
+package ch.hszt.connectfour.model.game;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import ch.hszt.connectfour.model.board.BoardSnapshot;
+import ch.hszt.connectfour.model.board.GameBoard;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+
+/**
+ * Provides the best turns of opening positions from a binary book file created by {@link OpeningBookGenerator}.
+ * The file is mapped into memory instead of being parsed, i.e. opening a book doesn't copy any entry into the heap.
+ * <p>
+ * File layout (big endian): a header of 16 bytes (magic number, version, ply, number of entries) followed by
+ * the entries of 9 bytes each (position key, column id), sorted by the position key.
+ * The position key is the canonical hash of the position (see {@link GameBoard#getCanonicalHash()}) 
+ * combined with the {@link DropColor} in charge to execute the next turn, since either color may open the game.
+ * Column ids refer to the canonical position.
+ * </p>
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class OpeningBook
+{
+	/**
+	 * The name of the book file loaded by {@link OpeningBook#installDefault()} from the working directory.
+	 */
+	public static final String DEFAULT_FILE = "connectfour.book";
+
+	/**
+	 * The magic number at the beginning of each book file => "C4BK".
+	 */
+	static final int MAGIC = 0x4334424B;
+
+	/**
+	 * The version of the file layout.
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * The size of the header in bytes.
+	 */
+	static final int HEADER_SIZE = 16;
+
+	/**
+	 * The size of a single entry in bytes => 8 bytes position key, 1 byte column id.
+	 */
+	static final int ENTRY_SIZE = 9;
+
+	/**
+	 * The key distinguishing positions with {@link DropColor#YELLOW} in charge from those with {@link DropColor#RED} in charge.
+	 */
+	private static final long YELLOW_TO_MOVE = 0x5DEECE66DA3B9F1CL;
+
+	private static OpeningBook installed;
+
+	private final MappedByteBuffer buffer;
+	private final int ply;
+	private final int size;
+
+	private OpeningBook(MappedByteBuffer buffer, int ply, int size)
+	{
+		this.buffer = buffer;
+		this.ply = ply;
+		this.size = size;
+	}
+
+	/**
+	 * Opens the specified book file by mapping it into memory.
+	 * @param file - The book file created by {@link OpeningBookGenerator}.
+	 * @return The {@link OpeningBook} backed by the mapped file.
+	 * @throws IOException Thrown, if the file can't be read or isn't a valid book file.
+	 */
+	public static OpeningBook open(File file) throws IOException
+	{
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+
+		try
+		{
+			// The mapping remains valid after closing the channel
+
+			FileChannel channel = raf.getChannel();
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+			{
+				throw new IOException(String.format("%s isn't a valid opening book!", file.getName()));
+			}
+
+			int ply = buffer.getInt(8);
+			int size = buffer.getInt(12);
+
+			if (size < 0 || buffer.capacity() != HEADER_SIZE + (long) size * ENTRY_SIZE)
+			{
+				throw new IOException(String.format("Opening book %s is truncated!", file.getName()));
+			}
+
+			return new OpeningBook(buffer, ply, size);
+		}
+		finally
+		{
+			raf.close();
+		}
+	}
+
+	/**
+	 * Installs the specified {@link OpeningBook} for all {@link CpuPlayer} instances.
+	 * @param book - The {@link OpeningBook} to be used or <b>null</b> to play without any book.
+	 */
+	public static synchronized void install(OpeningBook book)
+	{
+		installed = book;
+	}
+
+	/**
+	 * Installs the book file {@link OpeningBook#DEFAULT_FILE} from the working directory, if it exists.
+	 * @return <b>true</b>, if the book was installed; otherwise <b>false</b>.
+	 * @throws IOException Thrown, if the file exists, but isn't a valid book file.
+	 */
+	public static boolean installDefault() throws IOException
+	{
+		File file = new File(DEFAULT_FILE);
+
+		if (file.isFile())
+		{
+			install(open(file));
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the installed {@link OpeningBook}.
+	 * @return The installed {@link OpeningBook} or <b>null</b>, if there is none.
+	 */
+	public static synchronized OpeningBook getInstalled()
+	{
+		return installed;
+	}
+
+	/**
+	 * Looks up the best column for the current position of the {@link GameBoard}.
+	 * @param board - The {@link GameBoard} to look up.
+	 * @param color - The {@link DropColor} in charge to execute the next turn.
+	 * @return The 1-based id of the best column or 0, if the position isn't contained in the book.
+	 */
+	public int lookup(GameBoard board, DropColor color)
+	{
+		return lookup(board.snapshot(), color);
+	}
+
+	/**
+	 * Looks up the best column for the position of the {@link BoardSnapshot}.
+	 * @param snapshot - The {@link BoardSnapshot} to look up.
+	 * @param color - The {@link DropColor} in charge to execute the next turn.
+	 * @return The 1-based id of the best column or 0, if the position isn't contained in the book 
+	 * or wasn't taken from a standard {@link GameBoard}.
+	 */
+	public int lookup(BoardSnapshot snapshot, DropColor color)
+	{
+		// The book contains positions of the standard game only
+		
+		if (!snapshot.getGeometry().isStandard())
+		{
+			return 0;
+		}
+		
+		long key = getKey(snapshot, color);
+		int low = 0;
+		int high = size - 1;
+
+		// Binary search on the mapped entries => absolute reads only, the buffer is shared by all threads
+
+		while (low <= high)
+		{
+			int middle = (low + high) >>> 1;
+			int offset = HEADER_SIZE + middle * ENTRY_SIZE;
+			long current = buffer.getLong(offset);
+
+			if (current < key)
+			{
+				low = middle + 1;
+			}
+			else if (current > key)
+			{
+				high = middle - 1;
+			}
+			else
+			{
+				int columnId = buffer.get(offset + 8);
+
+				if (snapshot.isCanonicalMirrored())
+				{
+					columnId = GameBoard.mirrorColumnId(columnId);
+				}
+
+				// Protect against hash collisions with positions, that aren't in the book
+
+				boolean valid = columnId >= 1 && columnId <= GameBoard.NUMBER_OF_COLUMNS && snapshot.hasEmptySlots(columnId - 1);
+
+				return valid ? columnId : 0;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Returns the key of the current position of the {@link GameBoard} in the book.
+	 * @param board - The {@link GameBoard} with the position.
+	 * @param color - The {@link DropColor} in charge to execute the next turn.
+	 * @return The key shared by the position and its left-right reflection.
+	 */
+	static long getKey(GameBoard board, DropColor color)
+	{
+		return getKey(board.snapshot(), color);
+	}
+
+	private static long getKey(BoardSnapshot snapshot, DropColor color)
+	{
+		return snapshot.getCanonicalHash() ^ ((color == DropColor.YELLOW) ? YELLOW_TO_MOVE : 0L);
+	}
+
+	/**
+	 * Returns the maximum number of drops of the positions contained in the book.
+	 * @return The ply the book was generated with.
+	 */
+	public int getPly()
+	{
+		return ply;
+	}
+
+	/**
+	 * Returns the number of positions contained in the book.
+	 * @return The number of entries.
+	 */
+	public int size()
+	{
+		return size;
+	}
+}
@@ -0,0 +1,171 @@
+package ch.hszt.connectfour.model.game;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import ch.hszt.connectfour.model.board.GameBoard;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+import ch.hszt.connectfour.model.enumeration.ReplacementScheme;
+
+/**
+ * Generates the binary book file read by {@link OpeningBook}.
+ * All positions up to the specified ply are enumerated for both start colors and searched by {@link NegamaxSearch}
+ * within the specified {@link SearchBudget} per position. Positions and their left-right reflection are stored only once.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class OpeningBookGenerator
+{
+	/**
+	 * The size of the {@link TranspositionTable} shared by the searches of all positions in megabytes.
+	 */
+	private static final int TABLE_SIZE = 256;
+
+	private final GameBoard board;
+	private final TranspositionTable table;
+	private final SearchBudget budget;
+	private final int ply;
+
+	/**
+	 * Best column ids of the canonical positions sorted by position key.
+	 */
+	private final Map<Long, Byte> entries;
+
+	private OpeningBookGenerator(int ply, SearchBudget budget)
+	{
+		this.board = new GameBoard();
+		this.table = new TranspositionTable(TABLE_SIZE, ReplacementScheme.TWO_TIER);
+		this.budget = budget;
+		this.ply = ply;
+		this.entries = new TreeMap<Long, Byte>();
+	}
+
+	/**
+	 * Generates the book file of all positions up to the specified ply.
+	 * @param file - The book file to be written; an existing file is overwritten.
+	 * @param ply - The maximum number of drops of the positions in the book (>= 0).
+	 * @param budget - The {@link SearchBudget} for the search of each position.
+	 * @return The number of positions written to the book.
+	 * @throws IOException Thrown, if the book file can't be written.
+	 * @throws IllegalArgumentException Thrown, if the ply is out of range.
+	 */
+	public static int generate(File file, int ply, SearchBudget budget) throws IOException
+	{
+		if (ply < 0 || ply >= GameBoard.NUMBER_OF_COLUMNS * GameBoard.NUMBER_OF_SLOTS)
+		{
+			throw new IllegalArgumentException(String.format("Invalid ply for opening book: %d!", ply));
+		}
+
+		OpeningBookGenerator generator = new OpeningBookGenerator(ply, budget);
+
+		generator.collect(0, DropColor.RED);
+		generator.collect(0, DropColor.YELLOW);
+		generator.write(file);
+
+		return generator.entries.size();
+	}
+
+	/**
+	 * Generates a book file from the command line.
+	 * Arguments: file [ply (default 4)] [thinking time per position in milliseconds (default 1000)]
+	 * @param args - The command line arguments.
+	 * @throws IOException Thrown, if the book file can't be written.
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length < 1)
+		{
+			System.out.println("Usage: OpeningBookGenerator <file> [ply] [milliseconds per position]");
+			return;
+		}
+
+		File file = new File(args[0]);
+		int ply = (args.length > 1) ? Integer.parseInt(args[1]) : 4;
+		long time = (args.length > 2) ? Long.parseLong(args[2]) : 1000;
+
+		long start = System.currentTimeMillis();
+		int count = generate(file, ply, new SearchBudget(time, SearchBudget.UNLIMITED_NODES, SearchBudget.UNLIMITED_DEPTH));
+
+		System.out.println(String.format("%d positions up to ply %d written to %s in %d s",
+											count, ply, file.getPath(), (System.currentTimeMillis() - start) / 1000));
+	}
+
+	/**
+	 * Searches the current position of the {@link GameBoard} and all of its successors up to the ply.
+	 * The successors are explored on the same {@link GameBoard} by making and unmaking the moves.
+	 * @param length - The number of drops on the {@link GameBoard}.
+	 * @param color - The {@link DropColor} in charge to execute the next turn.
+	 */
+	private void collect(int length, DropColor color)
+	{
+		// Terminal positions don't need any turn
+
+		if (board.hasConnectFour(DropColor.RED) || board.hasConnectFour(DropColor.YELLOW) || !board.hasEmptySlots())
+		{
+			return;
+		}
+
+		// The number of drops is equal for all move orders => a known position was expanded already
+
+		Long key = Long.valueOf(OpeningBook.getKey(board, color));
+
+		if (entries.containsKey(key))
+		{
+			return;
+		}
+
+		int columnId = new NegamaxSearch(board, color, table).findBestColumn(budget);
+
+		if (board.isCanonicalMirrored())
+		{
+			columnId = GameBoard.mirrorColumnId(columnId);
+		}
+
+		entries.put(key, Byte.valueOf((byte) columnId));
+
+		if (length < ply)
+		{
+			DropColor next = (color == DropColor.RED) ? DropColor.YELLOW : DropColor.RED;
+
+			for (int i = 0; i < GameBoard.NUMBER_OF_COLUMNS; i++)
+			{
+				if (board.getColumn(i).hasEmptySlots())
+				{
+					board.makeMove(i, color);
+					collect(length + 1, next);
+					board.unmakeMove(i);
+				}
+			}
+		}
+	}
+
+	private void write(File file) throws IOException
+	{
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+
+		try
+		{
+			out.writeInt(OpeningBook.MAGIC);
+			out.writeInt(OpeningBook.VERSION);
+			out.writeInt(ply);
+			out.writeInt(entries.size());
+
+			// TreeMap iterates in ascending order of the signed key => binary search of the book
+
+			for (Map.Entry<Long, Byte> entry : entries.entrySet())
+			{
+				out.writeLong(entry.getKey().longValue());
+				out.writeByte(entry.getValue().byteValue());
+			}
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,240 @@
+package ch.hszt.connectfour.model.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ch.hszt.connectfour.model.board.BoardSnapshot;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+
+/**
+ * Runs a {@link NegamaxSearch} on several threads of a shared {@link ForkJoinPool} ("Lazy SMP").
+ * The calling thread and the helper threads search the same position independently, but share
+ * one {@link TranspositionTable}, so each thread profits from the positions already searched by the others.
+ * The column is always taken from the search of the calling thread, the helpers are stopped as soon as it has finished;
+ * helpers still queued behind the helpers of other games are cancelled, so the turn doesn't wait for them.
+ * Searches in the background (e.g. pondering on the time of the opponent) run on a separate shared pool with
+ * one daemon thread per processor, so the number of threads doesn't grow with the number of games.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class ParallelSearch
+{
+	private static int threadCount = Runtime.getRuntime().availableProcessors();
+	private static ForkJoinPool pool;
+	private static ExecutorService backgroundPool;
+
+	/**
+	 * Constructor not to be used - class can't be instantiated.
+	 */
+	private ParallelSearch()
+	{
+	}
+
+	/**
+	 * Configures the number of threads searching a single turn, including the thread calling the search.
+	 * The shared {@link ForkJoinPool} is recreated with the new number of helper threads on the next search.
+	 * @param threads - The number of threads (> 0); 1 disables the parallel search.
+	 * @throws IllegalArgumentException Thrown, if the number of threads is not positive.
+	 */
+	public static synchronized void setThreadCount(int threads)
+	{
+		if (threads <= 0)
+		{
+			throw new IllegalArgumentException(String.format("Invalid number of search threads: %d!", threads));
+		}
+
+		if (threads != threadCount && pool != null)
+		{
+			// Running searches are completed by the previous pool
+
+			pool.shutdown();
+			pool = null;
+		}
+
+		threadCount = threads;
+	}
+
+	/**
+	 * Returns the number of threads searching a single turn.
+	 * @return The number of threads including the thread calling the search.
+	 */
+	public static synchronized int getThreadCount()
+	{
+		return threadCount;
+	}
+
+	/**
+	 * Searches the best column for the next turn with the configured number of threads.
+	 * The {@link SearchBudget} applies to each of the threads; the helper threads stop as soon as
+	 * the search of the calling thread has finished.
+	 * @param snapshot - The {@link BoardSnapshot} of the position to be searched, shared by all threads.
+	 * @param color - The {@link DropColor} of the player in charge to execute the next turn.
+	 * @param table - The {@link TranspositionTable} shared by all threads.
+	 * @param budget - The {@link SearchBudget} limiting the search of each thread.
+	 * @return The 1-based id of the best column or 0, if there is no empty slot left.
+	 */
+	static int findBestColumn(BoardSnapshot snapshot, DropColor color, TranspositionTable table, SearchBudget budget)
+	{
+		ForkJoinPool helperPool = getPool();
+		AtomicBoolean stopped = new AtomicBoolean(false);
+		NegamaxSearch main = new NegamaxSearch(snapshot, color, table, stopped, 0);
+
+		if (helperPool == null)
+		{
+			return main.findBestColumn(budget);
+		}
+
+		List<HelperSearch> helpers = new ArrayList<HelperSearch>();
+		List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+
+		for (int i = 1; i <= helperPool.getParallelism(); i++)
+		{
+			// Every second helper starts one turn deeper => threads spread across two depths
+
+			HelperSearch helper = new HelperSearch(new NegamaxSearch(snapshot, color, table, stopped, i % 2), budget, stopped);
+			helpers.add(helper);
+			tasks.add(helperPool.submit(helper));
+		}
+
+		try
+		{
+			return main.findBestColumn(budget);
+		}
+		finally
+		{
+			stopped.set(true);
+
+			// Queued helpers never start; the running ones notice the stop flag within a few positions
+
+			for (int i = 0; i < helpers.size(); i++)
+			{
+				tasks.get(i).cancel(false);
+				helpers.get(i).awaitIfStarted();
+			}
+		}
+	}
+
+	/**
+	 * Submits a search to the shared background threads.
+	 * The search is to stop on its own, if it's cancelled via the returned {@link Future} or its budget is exhausted.
+	 * @param search - The search to be run in the background.
+	 * @return The {@link Future} to cancel the search.
+	 */
+	static Future<?> submitBackground(Runnable search)
+	{
+		return getBackgroundPool().submit(search);
+	}
+
+	/**
+	 * Returns the shared {@link ForkJoinPool} of helper threads.
+	 * @return The {@link ForkJoinPool} or <b>null</b>, if the search is configured to use a single thread.
+	 */
+	private static synchronized ForkJoinPool getPool()
+	{
+		if (threadCount > 1 && pool == null)
+		{
+			pool = new ForkJoinPool(threadCount - 1);
+		}
+
+		return pool;
+	}
+
+	/**
+	 * Returns the shared pool of background threads, which is created on the first background search.
+	 * @return The {@link ExecutorService} of the background threads.
+	 */
+	private static synchronized ExecutorService getBackgroundPool()
+	{
+		if (backgroundPool == null)
+		{
+			backgroundPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory()
+			{
+				private final AtomicInteger count = new AtomicInteger();
+
+				public Thread newThread(Runnable task)
+				{
+					Thread thread = new Thread(task, String.format("BackgroundSearchThread-%d", count.incrementAndGet()));
+					thread.setDaemon(true);
+
+					return thread;
+				}
+			});
+		}
+
+		return backgroundPool;
+	}
+
+	/**
+	 * Implementation of a helper thread filling the shared {@link TranspositionTable}.
+	 * Either the helper starts or the turn claims it as never started - whichever comes first.
+	 */
+	private static class HelperSearch implements Runnable
+	{
+		private final NegamaxSearch search;
+		private final SearchBudget budget;
+		private final AtomicBoolean stopped;
+		private final AtomicBoolean claimed = new AtomicBoolean(false);
+		private final CountDownLatch finished = new CountDownLatch(1);
+
+		HelperSearch(NegamaxSearch search, SearchBudget budget, AtomicBoolean stopped)
+		{
+			this.search = search;
+			this.budget = budget;
+			this.stopped = stopped;
+		}
+
+		/**
+		 * Waits for the end of the helper, if it has started already; otherwise prevents it from starting at all.
+		 */
+		void awaitIfStarted()
+		{
+			if (claimed.compareAndSet(false, true))
+			{
+				return;
+			}
+
+			try
+			{
+				finished.await();
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		public void run()
+		{
+			if (!claimed.compareAndSet(false, true))
+			{
+				return;
+			}
+
+			try
+			{
+				// The turn may have ended while the helper was queued behind the helpers of other games
+
+				if (!stopped.get())
+				{
+					search.findBestColumn(budget);
+				}
+			}
+			finally
+			{
+				finished.countDown();
+			}
+		}
+	}
+}
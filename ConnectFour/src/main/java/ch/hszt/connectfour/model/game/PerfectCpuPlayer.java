@@ -0,0 +1,310 @@
+/**
+ *
+ */
+package ch.hszt.connectfour.model.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import ch.hszt.connectfour.model.board.BoardGeometry;
+import ch.hszt.connectfour.model.board.BoardSnapshot;
+import ch.hszt.connectfour.model.board.GameBoardColumn;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+import ch.hszt.connectfour.model.enumeration.ReplacementScheme;
+import ch.hszt.connectfour.model.enumeration.SkillLevel;
+
+/**
+ * Represents an AI Player with {@link SkillLevel#PERFECT}.
+ * The next turn is determined by a {@link NegamaxSearch} on the {@link ch.hszt.connectfour.model.board.GameBoard}
+ * instead of extending a {@link DropSequence}. The search deepens iteratively within the {@link SearchBudget}
+ * of the {@link SkillLevel}, so the thinking time of a turn is bounded. The search runs on the number of threads
+ * configured by {@link ParallelSearch#setThreadCount(int)}.
+ * With the default {@link SearchBudget}, limited by the number of visited positions, the same position and table contents
+ * always result in the same turn on a single thread. Helper threads and pondering fill the shared {@link TranspositionTable}
+ * depending on their timing, so they trade this determinism for a deeper search.
+ * On boards with a {@link BoardGeometry} other than the standard one, the player wins or blocks a win 
+ * of the opponent, if possible, and otherwise plays the column closest to the center.
+ * <p>
+ * While the opponent is in charge, the player may ponder (see {@link CpuPlayer#startPondering(Game)}): the position of the opponent
+ * is searched on the shared background threads of {@link ParallelSearch}, which fill the {@link TranspositionTable}
+ * with the positions after all likely replies.
+ * The search of the next turn stops the pondering and finds these positions in the table, so it gets deeper within the same budget.
+ * </p>
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class PerfectCpuPlayer extends CpuPlayer
+{
+	/**
+	 * The default size of the {@link TranspositionTable} in megabytes.
+	 */
+	public static final int DEFAULT_TABLE_SIZE = 16;
+
+	/**
+	 * The maximum duration of the pondering in milliseconds, if the opponent doesn't execute the turn.
+	 */
+	public static final long PONDER_TIME_LIMIT = 60000;
+
+	// Allocated on the first search => players, which get a shared table assigned, never allocate their own
+
+	private TranspositionTable table;
+
+	// Guarded by the monitor => at most one pondering search per player
+
+	private final Object ponderMonitor = new Object();
+	private Future<?> ponderTask;
+	private AtomicBoolean ponderStopped;
+	private volatile long ponderedNodes;
+
+  	/**
+   	* Initializes important members of the player instance - to be called via concrete subclasses.
+   	* @param name - the name of the {@link Player}.
+   	* @param level - the {@link SkillLevel} to assign to this {@link Player}
+   	*/
+	PerfectCpuPlayer(String name, SkillLevel level)
+	{
+		super(name, level);
+	}
+
+	/**
+	 * Replaces the {@link TranspositionTable} of this {@link CpuPlayer}, e.g. to tune memory use of the deployment
+	 * or to share one table between the players of several games.
+	 * @param table - The {@link TranspositionTable} to be used by subsequent searches.
+	 * @throws IllegalArgumentException Thrown, if the {@link TranspositionTable} is <b>null</b>.
+	 */
+	public synchronized void setTranspositionTable(TranspositionTable table)
+	{
+		if (table == null)
+		{
+			throw new IllegalArgumentException("No transposition table specified!");
+		}
+
+		this.table = table;
+	}
+
+	/**
+	 * Returns the {@link TranspositionTable} of this {@link CpuPlayer}.
+	 * A table of {@link PerfectCpuPlayer#DEFAULT_TABLE_SIZE} is allocated on the first call, if none was assigned before.
+	 * @return The {@link TranspositionTable} shared by all searches of this {@link CpuPlayer}.
+	 */
+	public synchronized TranspositionTable getTranspositionTable()
+	{
+		if (table == null)
+		{
+			table = new TranspositionTable(DEFAULT_TABLE_SIZE, ReplacementScheme.TWO_TIER);
+		}
+
+		return table;
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.model.game.CpuPlayer#determineNextTurn()
+	 */
+	@Override
+	public String determineNextTurn(Game game)
+	{
+		// The pondering thread mustn't compete with the search of the own turn
+
+		stopPondering();
+
+		// The published snapshot is consistent without the lock of the game
+
+		BoardSnapshot snapshot = game.getSnapshot();
+
+		if (!game.getGeometry().isStandard())
+		{
+			return determineFallbackTurn(snapshot);
+		}
+		
+		// Opening positions don't need any search
+
+		int bookColumnId = lookupBook(snapshot);
+
+		if (bookColumnId > 0)
+		{
+			return GameBoardColumn.assignKeyById(bookColumnId);
+		}
+
+		int columnId = ParallelSearch.findBestColumn(snapshot, getDropColor(), getTranspositionTable(), SearchBudget.forLevel(getLevel()));
+
+		return (columnId == 0) ? null : GameBoardColumn.assignKeyById(columnId);
+	}
+
+	/**
+	 * Starts to search the position of the opponent in the background - a pondering in progress is stopped before.
+	 * Nothing is searched on boards with a {@link BoardGeometry} other than the standard one or without any empty slot.
+	 * The pondering ends after {@link PerfectCpuPlayer#PONDER_TIME_LIMIT} at the latest.
+	 * @param game - The {@link Game}, whose opponent of this {@link CpuPlayer} is in charge to execute the next turn.
+	 */
+	@Override
+	public void startPondering(Game game)
+	{
+		stopPondering();
+
+		if (!game.getGeometry().isStandard())
+		{
+			return;
+		}
+
+		BoardSnapshot snapshot = game.getSnapshot();
+
+		if (snapshot.countDrops() >= snapshot.getGeometry().countSlots())
+		{
+			return;
+		}
+
+		DropColor opponent = (getDropColor() == DropColor.RED) ? DropColor.YELLOW : DropColor.RED;
+		AtomicBoolean stopped = new AtomicBoolean(false);
+		NegamaxSearch search = new NegamaxSearch(snapshot, opponent, getTranspositionTable(), stopped, 0);
+
+		synchronized (ponderMonitor)
+		{
+			ponderTask = ParallelSearch.submitBackground(new Pondering(search, stopped));
+			ponderStopped = stopped;
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.model.game.CpuPlayer#stopPondering()
+	 */
+	@Override
+	public void stopPondering()
+	{
+		Future<?> task;
+		AtomicBoolean stopped;
+
+		synchronized (ponderMonitor)
+		{
+			task = ponderTask;
+			stopped = ponderStopped;
+			ponderTask = null;
+			ponderStopped = null;
+		}
+
+		if (task == null)
+		{
+			return;
+		}
+
+		// Never wait for the end (e.g. on the event dispatch thread) => the search checks the flag every 1024 positions
+
+		stopped.set(true);
+		task.cancel(true);
+	}
+
+	/* (non-Javadoc)
+	 * @see ch.hszt.connectfour.model.game.CpuPlayer#isPondering()
+	 */
+	@Override
+	public boolean isPondering()
+	{
+		synchronized (ponderMonitor)
+		{
+			return ponderTask != null && !ponderTask.isDone();
+		}
+	}
+
+	/**
+	 * Returns the number of positions visited by the last pondering.
+	 * @return The number of positions, which were searched on the time of the opponent.
+	 */
+	public long getPonderedNodes()
+	{
+		return ponderedNodes;
+	}
+
+	private String determineFallbackTurn(BoardSnapshot snapshot)
+	{
+		DropColor own = getDropColor();
+		DropColor opponent = (own == DropColor.RED) ? DropColor.YELLOW : DropColor.RED;
+		int columns = snapshot.getGeometry().getColumns();
+		
+		// Own win first, then block the opponent
+		
+		for (DropColor color : new DropColor[] { own, opponent })
+		{
+			for (int i = 0; i < columns; i++)
+			{
+				if (snapshot.isWinningDrop(i, color))
+				{
+					return GameBoardColumn.assignKeyById(i + 1);
+				}
+			}
+		}
+		
+		// Columns ordered from the center to the edges
+		
+		for (int distance = 0; distance <= columns / 2; distance++)
+		{
+			for (int i : new int[] { (columns - 1) / 2 - distance, columns / 2 + distance })
+			{
+				if (i >= 0 && i < columns && snapshot.hasEmptySlots(i))
+				{
+					return GameBoardColumn.assignKeyById(i + 1);
+				}
+			}
+		}
+		
+		return null;
+	}
+
+	private int lookupBook(BoardSnapshot snapshot)
+	{
+		OpeningBook book = OpeningBook.getInstalled();
+
+		return (book == null) ? 0 : book.lookup(snapshot, getDropColor());
+	}
+
+	/**
+	 * Not used by this {@link CpuPlayer} - the search doesn't rely on {@link DropSequence} items.
+	 * @return An empty {@link List}.
+	 */
+	@Override
+	protected List<DropSequence> gatherOwnSequences(BoardAnalysis analysis)
+	{
+		return new ArrayList<DropSequence>();
+	}
+
+	/**
+	 * Not used by this {@link CpuPlayer} - the search doesn't rely on {@link DropSequence} items.
+	 * @return An empty {@link List}.
+	 */
+	@Override
+	protected List<DropSequence> gatherOpponentSequences(BoardAnalysis analysis)
+	{
+		return new ArrayList<DropSequence>();
+	}
+
+	/**
+	 * Implementation of the background search of the position of the opponent.
+	 */
+	private class Pondering implements Runnable
+	{
+		private final NegamaxSearch search;
+		private final AtomicBoolean stopped;
+
+		Pondering(NegamaxSearch search, AtomicBoolean stopped)
+		{
+			this.search = search;
+			this.stopped = stopped;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		public void run()
+		{
+			// Stopped while waiting for a background thread => the position is outdated already
+
+			if (stopped.get())
+			{
+				return;
+			}
+
+			search.findBestColumn(new SearchBudget(PONDER_TIME_LIMIT, SearchBudget.UNLIMITED_NODES, SearchBudget.UNLIMITED_DEPTH));
+			ponderedNodes = search.getNodeCount();
+		}
+	}
+}
@@ -19,6 +19,7 @@ public abstract class Player implements Serial
   	
   	private DropColor color; 
   	private int dropCount;
+  	private int initialDropCount;
   	
   	/**
    	* Initializes important members of the player instance - to be called via concrete subclasses.
@@ -42,17 +43,29 @@ public abstract class Player implements Serial
 		this.name = name;
 		this.level = level;
 		
-		// define initial drop count
+		// define initial drop count => standard board until assigned to a game
 		
-		dropCount = GameSettings.NUMBER_OF_DROPS;
+		initialDropCount = GameSettings.NUMBER_OF_DROPS;
+		dropCount = initialDropCount;
   	}
   	
   	/**
-  	 * Resets the drop count of current {@link Player} to the default value {@link GameSettings#NUMBER_OF_DROPS}.
+  	 * Resets the drop count of current {@link Player} to the initial value, 
+  	 * i.e. {@link GameSettings#getNumberOfDrops()} of the last {@link Game} resp. {@link GameSettings#NUMBER_OF_DROPS}.
   	 */
   	public void resetDropCount()
   	{
-  		dropCount = GameSettings.NUMBER_OF_DROPS;
+  		dropCount = initialDropCount;
+  	}
+  	
+  	/**
+  	 * Assigns the initial drop count of the {@link GameSettings} and resets the drop count to this value.
+  	 * @param count - The number of drops per {@link Player} on the {@link ch.hszt.connectfour.model.board.GameBoard}.
+  	 */
+  	void assignDropCount(int count)
+  	{
+  		initialDropCount = count;
+  		dropCount = count;
   	}
   	
   	/**
@@ -45,6 +45,10 @@ public class PlayerFactory
 			{
 				return new HardCpuPlayer(name, level);
 			}
+			else if (level == SkillLevel.PERFECT)
+			{
+				return new PerfectCpuPlayer(name, level);
+			}
 			else
 			{
 				return null;
@@ -0,0 +1,142 @@
+package ch.hszt.connectfour.model.game;
+
+import java.util.Hashtable;
+import java.util.Map;
+
+import ch.hszt.connectfour.model.enumeration.SkillLevel;
+
+/**
+ * Limits the search of a {@link CpuPlayer} for a single turn by time, number of visited positions and depth.
+ * The search stops as soon as any of the limits is reached. Budgets are configured per {@link SkillLevel}
+ * of the players searching a game tree, i.e. {@link SkillLevel#PERFECT}; the heuristic players decide within microseconds
+ * on a single analysis of the board and don't take a budget.
+ * The default budget of {@link SkillLevel#PERFECT} is limited by the number of visited positions, so the turn doesn't depend
+ * on the speed or the load of the machine; its time limit is only a safety cap for slow machines.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public final class SearchBudget
+{
+	/**
+	 * Represents an unlimited number of visited positions.
+	 */
+	public static final long UNLIMITED_NODES = Long.MAX_VALUE;
+
+	/**
+	 * Represents an unlimited search depth, i.e. up to the end of the game.
+	 */
+	public static final int UNLIMITED_DEPTH = Integer.MAX_VALUE;
+
+	/**
+	 * The default number of visited positions of {@link SkillLevel#PERFECT} - a few hundred milliseconds on a single core.
+	 */
+	public static final long DEFAULT_NODE_LIMIT = 2000000;
+
+	/**
+	 * The default time limit of {@link SkillLevel#PERFECT} in milliseconds - only reached on slow or overloaded machines.
+	 */
+	public static final long DEFAULT_TIME_LIMIT = 2000;
+
+	private static final Map<SkillLevel, SearchBudget> budgets = createDefaultBudgets();
+
+	private final long timeLimit;
+	private final long nodeLimit;
+	private final int depthLimit;
+
+	/**
+	 * Creates a new {@link SearchBudget}.
+	 * @param timeLimit - The maximum thinking time in milliseconds (> 0).
+	 * @param nodeLimit - The maximum number of visited positions (> 0) or {@link SearchBudget#UNLIMITED_NODES}.
+	 * @param depthLimit - The maximum number of turns to look ahead (> 0) or {@link SearchBudget#UNLIMITED_DEPTH}.
+	 * @throws IllegalArgumentException Thrown, if any of the limits is not positive.
+	 */
+	public SearchBudget(long timeLimit, long nodeLimit, int depthLimit)
+	{
+		if (timeLimit <= 0 || nodeLimit <= 0 || depthLimit <= 0)
+		{
+			throw new IllegalArgumentException(String.format("Invalid search budget: %d ms, %d nodes, depth %d!",
+																timeLimit, nodeLimit, depthLimit));
+		}
+
+		this.timeLimit = timeLimit;
+		this.nodeLimit = nodeLimit;
+		this.depthLimit = depthLimit;
+	}
+
+	/**
+	 * Returns the {@link SearchBudget} configured for the specified {@link SkillLevel}.
+	 * @param level - The {@link SkillLevel} to look up.
+	 * @return The configured {@link SearchBudget} or <b>null</b>, if the players of the {@link SkillLevel} don't search.
+	 */
+	public static SearchBudget forLevel(SkillLevel level)
+	{
+		return budgets.get(level);
+	}
+
+	/**
+	 * Configures the {@link SearchBudget} of the specified {@link SkillLevel} for all subsequent turns.
+	 * @param level - The {@link SkillLevel} to configure.
+	 * @param budget - The {@link SearchBudget} to be applied.
+	 * @throws IllegalArgumentException Thrown, if any of the arguments is <b>null</b> or the players of the {@link SkillLevel} don't search.
+	 */
+	public static void configure(SkillLevel level, SearchBudget budget)
+	{
+		if (level == null || budget == null)
+		{
+			throw new IllegalArgumentException("Skill level and search budget must be specified!");
+		}
+		if (!budgets.containsKey(level))
+		{
+			throw new IllegalArgumentException(String.format("Skill level %s doesn't search => no search budget applicable!", level.toString()));
+		}
+
+		budgets.put(level, budget);
+	}
+
+	/**
+	 * Returns the maximum thinking time.
+	 * @return The maximum thinking time in milliseconds.
+	 */
+	public long getTimeLimit()
+	{
+		return timeLimit;
+	}
+
+	/**
+	 * Returns the maximum number of visited positions.
+	 * @return The maximum number of visited positions.
+	 */
+	public long getNodeLimit()
+	{
+		return nodeLimit;
+	}
+
+	/**
+	 * Returns the maximum number of turns to look ahead.
+	 * @return The maximum search depth.
+	 */
+	public int getDepthLimit()
+	{
+		return depthLimit;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return String.format("SearchBudget [time=%d ms, nodes=%d, depth=%d]", timeLimit, nodeLimit, depthLimit);
+	}
+
+	private static Map<SkillLevel, SearchBudget> createDefaultBudgets()
+	{
+		// Hashtable => synchronized access for configuration while CPU players are thinking
+
+		Map<SkillLevel, SearchBudget> defaults = new Hashtable<SkillLevel, SearchBudget>();
+
+		defaults.put(SkillLevel.PERFECT, new SearchBudget(DEFAULT_TIME_LIMIT, DEFAULT_NODE_LIMIT, UNLIMITED_DEPTH));
+
+		return defaults;
+	}
+}
@@ -0,0 +1,294 @@
+package ch.hszt.connectfour.model.game;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.hszt.connectfour.model.enumeration.ReplacementScheme;
+
+/**
+ * Caches search results of positions with fixed size, independent of the number of positions searched.
+ * The entries are stored in two primitive arrays - the full 64-bit key of the position and
+ * the packed data (value, bound type, depth and best move) - i.e. 16 bytes per entry without any further allocation.
+ * The lookups are counted by each {@link NegamaxSearch} on its own and added up, when the search has finished,
+ * so the threads of a parallel search don't contend for the counters on every lookup.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public class TranspositionTable
+{
+	/**
+	 * The bound type of an exact value.
+	 */
+	public static final int BOUND_EXACT = 1;
+
+	/**
+	 * The bound type of a lower bound, i.e. the real value is greater than or equal to the stored value.
+	 */
+	public static final int BOUND_LOWER = 2;
+
+	/**
+	 * The bound type of an upper bound, i.e. the real value is less than or equal to the stored value.
+	 */
+	public static final int BOUND_UPPER = 3;
+
+	/**
+	 * The number of bytes per entry => key and data, 8 bytes each.
+	 */
+	private static final int ENTRY_SIZE = 16;
+
+	/**
+	 * The multiplier spreading the keys across the table (golden ratio of 2^64).
+	 */
+	private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+	// Layout of the packed data => value (16 bits), bound (2 bits), depth (8 bits), move (8 bits)
+
+	private static final int VALUE_OFFSET = 1 << 15;
+	private static final int BOUND_SHIFT = 16;
+	private static final int DEPTH_SHIFT = 18;
+	private static final int MOVE_SHIFT = 26;
+	private static final long BYTE_MASK = 0xFFL;
+
+	private final ReplacementScheme scheme;
+	private final long[] keys;
+	private final long[] data;
+	private final int indexShift;
+
+	private final AtomicLong probes = new AtomicLong();
+	private final AtomicLong hits = new AtomicLong();
+
+	/**
+	 * Creates a new {@link TranspositionTable} with specified size.
+	 * The number of entries is the largest power of two fitting into the specified size.
+	 * @param sizeInMb - The size of the table in megabytes (> 0).
+	 * @param scheme - The {@link ReplacementScheme} to be applied, if an entry is occupied already.
+	 * @throws IllegalArgumentException Thrown, if the size is out of range or no {@link ReplacementScheme} was specified.
+	 */
+	public TranspositionTable(int sizeInMb, ReplacementScheme scheme)
+	{
+		if (sizeInMb <= 0 || sizeInMb > 16384)
+		{
+			throw new IllegalArgumentException(String.format("Invalid size of transposition table: %d MB!", sizeInMb));
+		}
+		if (scheme == null)
+		{
+			throw new IllegalArgumentException("No replacement scheme specified for transposition table!");
+		}
+
+		long entries = Long.highestOneBit(((long) sizeInMb << 20) / ENTRY_SIZE);
+
+		// Java arrays are limited to int indices
+
+		entries = Math.min(entries, 1L << 30);
+
+		this.scheme = scheme;
+		this.keys = new long[(int) entries];
+		this.data = new long[(int) entries];
+
+		// The index takes the number of bits required to address an entry - or a bucket of two entries
+
+		int indexBits = Long.numberOfTrailingZeros(entries) - ((scheme == ReplacementScheme.TWO_TIER) ? 1 : 0);
+		this.indexShift = Long.SIZE - indexBits;
+	}
+
+	/**
+	 * Looks up the entry of the position with specified key.
+	 * @param key - The 64-bit key of the position.
+	 * @return The packed entry to be decoded by {@link TranspositionTable#getValue(long)} and further methods
+	 * or 0, if no entry exists for the position.
+	 */
+	public long probe(long key)
+	{
+		int index = indexOf(key);
+		long entry = read(index, key);
+
+		// Second entry of the bucket
+
+		if (entry == 0 && scheme == ReplacementScheme.TWO_TIER)
+		{
+			entry = read(index + 1, key);
+		}
+
+		return entry;
+	}
+
+	/**
+	 * Stores the search result of a position according to the {@link ReplacementScheme}.
+	 * @param key - The 64-bit key of the position.
+	 * @param value - The value of the position (-32768 to 32767).
+	 * @param bound - The bound type ({@link TranspositionTable#BOUND_EXACT}, {@link TranspositionTable#BOUND_LOWER}
+	 * or {@link TranspositionTable#BOUND_UPPER}).
+	 * @param depth - The remaining search depth the value was determined with (0 - 255).
+	 * @param move - The best move found, e.g. a column id or 0, if there is none (0 - 255).
+	 */
+	public void store(long key, int value, int bound, int depth, int move)
+	{
+		int index = indexOf(key);
+		long entry = pack(value, bound, depth, move);
+
+		switch (scheme)
+		{
+			case ALWAYS_REPLACE:
+				write(index, key, entry);
+				break;
+			case DEPTH_PREFERRED:
+				if (isReplaceable(index, key, depth))
+				{
+					write(index, key, entry);
+				}
+				break;
+			case TWO_TIER:
+				// Deep entries go to the first slot of the bucket, all others to the second one
+
+				if (isReplaceable(index, key, depth))
+				{
+					write(index, key, entry);
+				}
+				else
+				{
+					write(index + 1, key, entry);
+				}
+				break;
+		}
+	}
+
+	/**
+	 * Removes all entries from the {@link TranspositionTable}.
+	 */
+	public void clear()
+	{
+		Arrays.fill(keys, 0L);
+		Arrays.fill(data, 0L);
+
+		probes.set(0L);
+		hits.set(0L);
+	}
+
+	/**
+	 * Adds the lookups of a finished search to the counters of the table.
+	 * @param probeCount - The number of lookups by {@link TranspositionTable#probe(long)}.
+	 * @param hitCount - The number of lookups finding an entry.
+	 */
+	void addProbes(long probeCount, long hitCount)
+	{
+		probes.addAndGet(probeCount);
+		hits.addAndGet(hitCount);
+	}
+
+	/**
+	 * Returns the maximum number of entries.
+	 * @return The number of entries of the {@link TranspositionTable}.
+	 */
+	public int getCapacity()
+	{
+		return keys.length;
+	}
+
+	/**
+	 * Returns the applied {@link ReplacementScheme}.
+	 * @return The {@link ReplacementScheme} of the {@link TranspositionTable}.
+	 */
+	public ReplacementScheme getScheme()
+	{
+		return scheme;
+	}
+
+	/**
+	 * Returns the number of lookups by the searches finished since creation or the last {@link TranspositionTable#clear()}.
+	 * @return The number of lookups.
+	 */
+	public long getProbeCount()
+	{
+		return probes.get();
+	}
+
+	/**
+	 * Returns the number of successful lookups by the searches finished since creation or the last {@link TranspositionTable#clear()}.
+	 * @return The number of lookups finding an entry.
+	 */
+	public long getHitCount()
+	{
+		return hits.get();
+	}
+
+	/**
+	 * Decodes the value of a packed entry.
+	 * @param entry - The entry returned by {@link TranspositionTable#probe(long)}.
+	 * @return The stored value.
+	 */
+	public static int getValue(long entry)
+	{
+		return (int) (entry & 0xFFFFL) - VALUE_OFFSET;
+	}
+
+	/**
+	 * Decodes the bound type of a packed entry.
+	 * @param entry - The entry returned by {@link TranspositionTable#probe(long)}.
+	 * @return The stored bound type or 0, if the entry is empty.
+	 */
+	public static int getBound(long entry)
+	{
+		return (int) ((entry >>> BOUND_SHIFT) & 0x3L);
+	}
+
+	/**
+	 * Decodes the search depth of a packed entry.
+	 * @param entry - The entry returned by {@link TranspositionTable#probe(long)}.
+	 * @return The stored search depth.
+	 */
+	public static int getDepth(long entry)
+	{
+		return (int) ((entry >>> DEPTH_SHIFT) & BYTE_MASK);
+	}
+
+	/**
+	 * Decodes the best move of a packed entry.
+	 * @param entry - The entry returned by {@link TranspositionTable#probe(long)}.
+	 * @return The stored best move or 0, if there is none.
+	 */
+	public static int getMove(long entry)
+	{
+		return (int) ((entry >>> MOVE_SHIFT) & BYTE_MASK);
+	}
+
+	private int indexOf(long key)
+	{
+		// The high bits of the product are mixed best => the bucket of two entries starts at an even index
+
+		int index = (int) ((key * HASH_MULTIPLIER) >>> indexShift);
+
+		return (scheme == ReplacementScheme.TWO_TIER) ? index << 1 : index;
+	}
+
+	private boolean isReplaceable(int index, long key, int depth)
+	{
+		long entry = data[index];
+
+		return entry == 0 || (keys[index] ^ entry) == key || getDepth(entry) <= depth;
+	}
+
+	private long read(int index, long key)
+	{
+		// Read the data once => the key check and the returned entry refer to the same value
+
+		long entry = data[index];
+
+		return (entry != 0 && (keys[index] ^ entry) == key) ? entry : 0L;
+	}
+
+	private void write(int index, long key, long entry)
+	{
+		keys[index] = key ^ entry;
+		data[index] = entry;
+	}
+
+	private static long pack(int value, int bound, int depth, int move)
+	{
+		// The bound type is never 0 => a packed entry is never 0 and empty entries can be recognized
+
+		return ((long) (value + VALUE_OFFSET) & 0xFFFFL)
+				| ((long) bound << BOUND_SHIFT)
+				| (((long) depth & BYTE_MASK) << DEPTH_SHIFT)
+				| (((long) move & BYTE_MASK) << MOVE_SHIFT);
+	}
+}
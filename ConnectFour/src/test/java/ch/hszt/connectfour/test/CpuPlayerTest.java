@@ -0,0 +1,619 @@
+package ch.hszt.connectfour.test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ch.hszt.connectfour.control.GameController;
+import ch.hszt.connectfour.exception.GameException;
+import ch.hszt.connectfour.model.board.GameBoard;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+import ch.hszt.connectfour.model.enumeration.PlayerType;
+import ch.hszt.connectfour.model.enumeration.ReplacementScheme;
+import ch.hszt.connectfour.model.enumeration.SkillLevel;
+import ch.hszt.connectfour.model.game.CpuPlayer;
+import ch.hszt.connectfour.model.game.Game;
+import ch.hszt.connectfour.model.game.GameStatus;
+import ch.hszt.connectfour.model.game.OpeningBook;
+import ch.hszt.connectfour.model.game.OpeningBookGenerator;
+import ch.hszt.connectfour.model.game.ParallelSearch;
+import ch.hszt.connectfour.model.game.PerfectCpuPlayer;
+import ch.hszt.connectfour.model.game.Player;
+import ch.hszt.connectfour.model.game.PlayerFactory;
+import ch.hszt.connectfour.model.game.SearchBudget;
+import ch.hszt.connectfour.model.game.TranspositionTable;
+
+/**
+ * Performs tests on the search based {@link CpuPlayer} implementations.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public class CpuPlayerTest
+{
+	private CpuPlayer red;
+	private CpuPlayer yellow;
+	private Game game;
+	private GameController controller;
+	private SearchBudget budget;
+
+	@Before
+	public void setupPlayers()
+	{
+		// Keep the thinking time of the tests short
+
+		budget = SearchBudget.forLevel(SkillLevel.PERFECT);
+		SearchBudget.configure(SkillLevel.PERFECT, new SearchBudget(100, SearchBudget.UNLIMITED_NODES, SearchBudget.UNLIMITED_DEPTH));
+
+		red = (CpuPlayer) PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "Red", SkillLevel.PERFECT);
+		red.setDropColor(DropColor.RED);
+		yellow = (CpuPlayer) PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "Yellow", SkillLevel.PERFECT);
+		yellow.setDropColor(DropColor.YELLOW);
+
+		game = new Game(red, yellow);
+		controller = new UnitTestUtils.GameControllerTest();
+	}
+
+	@After
+	public void tearDownPlayers()
+	{
+		SearchBudget.configure(SkillLevel.PERFECT, budget);
+		game = null;
+	}
+
+	@Test
+	public void testPlayerCreation()
+	{
+		assertTrue("PlayerFactory doesn't create a PerfectCpuPlayer!", red instanceof PerfectCpuPlayer);
+		assertEquals("SkillLevel PERFECT can't be parsed!", SkillLevel.PERFECT, SkillLevel.parse(3));
+	}
+
+	@Test
+	public void testImmediateWin()
+	{
+		GameBoard board = game.getBoard();
+
+		// Red: A1, B1, C1 - Yellow: A2, B2, C2 => red to move wins with D1
+
+		insertDrops(board, "AABBCC");
+
+		assertEquals("Immediate win wasn't taken!", "D", red.determineNextTurn(game));
+	}
+
+	@Test
+	public void testBlockThreat()
+	{
+		GameBoard board = game.getBoard();
+
+		// Red: D1, D2, A1 - Yellow: E1, E2, E3 => red to move has to block E4
+
+		insertDrops(board, "DEDEAE");
+
+		assertEquals("Threat of the opponent wasn't blocked!", "E", red.determineNextTurn(game));
+	}
+
+	@Test
+	public void testDeterministicTurn()
+	{
+		GameBoard board = game.getBoard();
+		PerfectCpuPlayer player = (PerfectCpuPlayer) red;
+
+		// Only a node budget on a single thread is independent of the load of the machine
+
+		int threads = ParallelSearch.getThreadCount();
+		ParallelSearch.setThreadCount(1);
+		SearchBudget.configure(SkillLevel.PERFECT, new SearchBudget(60000, 200000, SearchBudget.UNLIMITED_DEPTH));
+
+		insertDrops(board, "DDCE");
+
+		player.setTranspositionTable(new TranspositionTable(1, ReplacementScheme.TWO_TIER));
+		String turn = player.determineNextTurn(game);
+
+		for (int i = 0; i < 3; i++)
+		{
+			player.setTranspositionTable(new TranspositionTable(1, ReplacementScheme.TWO_TIER));
+
+			assertEquals("Same position results in a different turn!", turn, player.determineNextTurn(game));
+		}
+
+		ParallelSearch.setThreadCount(threads);
+	}
+
+	@Test
+	public void testDeterministicDefaultTurn()
+	{
+		int threads = ParallelSearch.getThreadCount();
+
+		// The default budget is limited by visited positions => same turn regardless of the speed of the machine
+
+		assertTrue("Default budget isn't limited by visited positions!", budget.getNodeLimit() != SearchBudget.UNLIMITED_NODES);
+
+		ParallelSearch.setThreadCount(1);
+		SearchBudget.configure(SkillLevel.PERFECT, budget);
+
+		try
+		{
+			PerfectCpuPlayer player = (PerfectCpuPlayer) red;
+			insertDrops(game.getBoard(), "DDCE");
+
+			player.setTranspositionTable(new TranspositionTable(PerfectCpuPlayer.DEFAULT_TABLE_SIZE, ReplacementScheme.TWO_TIER));
+			String turn = player.determineNextTurn(game);
+
+			player.setTranspositionTable(new TranspositionTable(PerfectCpuPlayer.DEFAULT_TABLE_SIZE, ReplacementScheme.TWO_TIER));
+
+			assertEquals("Same position results in a different turn with the default budget!", turn, player.determineNextTurn(game));
+		}
+		finally
+		{
+			ParallelSearch.setThreadCount(threads);
+		}
+	}
+
+	@Test
+	public void testParallelSearch() throws GameException
+	{
+		int threads = ParallelSearch.getThreadCount();
+
+		try
+		{
+			ParallelSearch.setThreadCount(4);
+
+			assertEquals("Thread count wasn't configured!", 4, ParallelSearch.getThreadCount());
+
+			// Forced turns must be found by the parallel search as well
+
+			insertDrops(game.getBoard(), "DEDEAE");
+
+			assertEquals("Threat of the opponent wasn't blocked by parallel search!", "E", red.determineNextTurn(game));
+
+			game.getBoard().reset();
+			game.publishSnapshot();
+			simulateGame();
+		}
+		finally
+		{
+			ParallelSearch.setThreadCount(threads);
+		}
+	}
+
+	@Test
+	public void testParallelSearchLatency() throws Exception
+	{
+		final int games = 4;
+		final long timeLimit = 150;
+		final AtomicLong maxLatency = new AtomicLong();
+		int threads = ParallelSearch.getThreadCount();
+
+		// A single helper thread shared by all games, occupied by the helper of a long running turn
+
+		ParallelSearch.setThreadCount(2);
+		SearchBudget.configure(SkillLevel.PERFECT, new SearchBudget(30000, SearchBudget.UNLIMITED_NODES, SearchBudget.UNLIMITED_DEPTH));
+
+		Thread slow = startTurn(createConcurrentGame("DC"), null);
+
+		try
+		{
+			Thread.sleep(200);
+
+			// The helpers of the following turns are queued behind the helper of the long running turn
+
+			SearchBudget.configure(SkillLevel.PERFECT, new SearchBudget(timeLimit, SearchBudget.UNLIMITED_NODES, SearchBudget.UNLIMITED_DEPTH));
+
+			Thread[] fast = new Thread[games];
+
+			for (int i = 0; i < games; i++)
+			{
+				fast[i] = startTurn(createConcurrentGame((i % 2 == 0) ? "DC" : "CE"), maxLatency);
+			}
+
+			for (Thread turn : fast)
+			{
+				turn.join(30000);
+			}
+
+			assertTrue(String.format("Turn waited for the helpers of other games: %d ms!", maxLatency.get()),
+						maxLatency.get() < 3 * timeLimit);
+		}
+		finally
+		{
+			slow.interrupt();
+			slow.join(5000);
+			ParallelSearch.setThreadCount(threads);
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testParallelSearchInvalid()
+	{
+		ParallelSearch.setThreadCount(0);
+	}
+
+	@Test
+	public void simulateGame() throws GameException
+	{
+		controller.startGame(game);
+
+		GameStatus status = game.getStatus();
+
+		while (!status.isConnectFour() && !status.isDraw())
+		{
+			Player current = status.getCurrentPlayer();
+			String turn = ((CpuPlayer) current).determineNextTurn(game);
+
+			assertNotNull("CpuPlayer doesn't provide a turn, although there are empty slots!", turn);
+
+			controller.executeTurn(game, turn);
+			status = game.getStatus();
+		}
+
+		assertTrue("Game didn't end properly!", status.isConnectFour() || status.countRemainingTurns() == 0);
+	}
+
+	@Test
+	public void testHeuristicTurns() throws GameException
+	{
+		SkillLevel[] levels = { SkillLevel.EASY, SkillLevel.ADVANCED, SkillLevel.HARD };
+
+		// Random turns => many games, each turn of a heuristic player has to be valid at the first attempt
+
+		for (int i = 0; i < 60; i++)
+		{
+			Player first = PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "First", levels[i % levels.length]);
+			Player second = PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "Second", levels[(i / levels.length) % levels.length]);
+			Game heuristic = new Game(first, second);
+
+			controller.startGame(heuristic);
+
+			GameStatus status = heuristic.getStatus();
+
+			while (!status.isConnectFour() && !status.isDraw())
+			{
+				String turn = ((CpuPlayer) status.getCurrentPlayer()).determineNextTurn(heuristic);
+
+				assertNotNull("Heuristic player doesn't provide a turn!", turn);
+				assertTrue("Heuristic player chose a full column!", heuristic.getBoard().getColumnByKey(turn).hasEmptySlots());
+
+				controller.executeTurn(heuristic, turn);
+				status = heuristic.getStatus();
+			}
+		}
+	}
+
+	@Test
+	public void testCancelledSearch() throws Exception
+	{
+		// A budget, which would keep the search busy for a long time
+
+		SearchBudget.configure(SkillLevel.PERFECT, new SearchBudget(30000, SearchBudget.UNLIMITED_NODES, SearchBudget.UNLIMITED_DEPTH));
+		insertDrops(game.getBoard(), "DC");
+
+		final String[] turn = new String[1];
+		Thread thread = new Thread(new Runnable()
+		{
+			public void run()
+			{
+				turn[0] = red.determineNextTurn(game);
+			}
+		}, "CancelledSearch");
+
+		thread.start();
+		Thread.sleep(200);
+
+		// Cancelling the turn interrupts the thread => the search stops cooperatively
+
+		long start = System.currentTimeMillis();
+		thread.interrupt();
+		thread.join(5000);
+
+		assertFalse("Search wasn't stopped by the interruption!", thread.isAlive());
+		assertTrue("Stopping the search took too long!", System.currentTimeMillis() - start < 1000);
+		assertNotNull("Cancelled search didn't provide the column of the last completed depth!", turn[0]);
+	}
+
+	@Test
+	public void testPondering() throws Exception
+	{
+		PerfectCpuPlayer player = (PerfectCpuPlayer) red;
+		TranspositionTable table = player.getTranspositionTable();
+
+		// Yellow is in charge => red searches on the time of yellow
+
+		insertDrops(game.getBoard(), "DCD");
+		player.startPondering(game);
+
+		Thread.sleep(200);
+
+		assertTrue("CPU player isn't pondering!", player.isPondering());
+
+		long start = System.currentTimeMillis();
+		player.stopPondering();
+
+		assertFalse("Pondering wasn't stopped!", player.isPondering());
+		assertTrue("Stopping the pondering took too long!", System.currentTimeMillis() - start < 1000);
+
+		// Stopping doesn't wait => the background search reports its positions, as soon as it has ended
+
+		long deadline = System.currentTimeMillis() + 5000;
+
+		while (player.getPonderedNodes() == 0 && System.currentTimeMillis() < deadline)
+		{
+			Thread.sleep(10);
+		}
+
+		assertTrue("No positions were searched while pondering!", player.getPonderedNodes() > 0);
+
+		// The reply of yellow leads to a position already searched while pondering
+
+		game.getBoard().insertDrop("C", DropColor.YELLOW);
+		game.publishSnapshot();
+
+		long hits = table.getHitCount();
+
+		assertNotNull("No turn determined after pondering!", red.determineNextTurn(game));
+		assertTrue("Pondering wasn't reused by the next turn!", table.getHitCount() > hits);
+	}
+
+	@Test
+	public void testPonderingController() throws GameException
+	{
+		Player human = PlayerFactory.createPlayer(PlayerType.HUMAN, "Human", null);
+		CpuPlayer cpu = (CpuPlayer) PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "CPU", SkillLevel.PERFECT);
+
+		game = new Game(human, cpu);
+		controller.setPondering(true);
+		controller.startGame(game);
+
+		GameStatus status = game.getStatus();
+
+		// At most three drops of the human player in column A => neither full nor connect four
+
+		for (int i = 0; i < 6; i++)
+		{
+			if (status.getCurrentPlayer() == human)
+			{
+				assertTrue("CPU player doesn't ponder on the turn of the human player!", cpu.isPondering());
+
+				controller.executeTurn(game, "A");
+			}
+			else
+			{
+				assertFalse("CPU player ponders on its own turn!", cpu.isPondering());
+
+				controller.executeTurn(game, cpu.determineNextTurn(game));
+			}
+
+			status = game.getStatus();
+		}
+
+		controller.stopGame(game);
+
+		assertFalse("Pondering wasn't stopped with the game!", cpu.isPondering());
+	}
+
+	@Test
+	public void testSearchBudget()
+	{
+		assertNotNull("No default search budget for SkillLevel PERFECT!", budget);
+		
+		// A tiny budget must still result in a valid turn without exceeding the time limit
+		
+		SearchBudget.configure(SkillLevel.PERFECT, new SearchBudget(50, 1000, SearchBudget.UNLIMITED_DEPTH));
+		
+		long start = System.currentTimeMillis();
+		String turn = red.determineNextTurn(game);
+		long duration = System.currentTimeMillis() - start;
+		
+		assertNotNull("No turn determined within the search budget!", turn);
+		assertTrue(String.format("Search exceeded the budget: %d ms!", duration), duration < 1000);
+		
+		// Immediate wins don't depend on the budget
+		
+		insertDrops(game.getBoard(), "AABBCC");
+		
+		assertEquals("Immediate win wasn't taken with tiny budget!", "D", red.determineNextTurn(game));
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testSearchBudgetInvalid()
+	{
+		new SearchBudget(0, SearchBudget.UNLIMITED_NODES, SearchBudget.UNLIMITED_DEPTH);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testSearchBudgetHeuristic()
+	{
+		// Heuristic players don't search => a budget would have no effect
+		
+		assertNull("Heuristic skill level has a search budget!", SearchBudget.forLevel(SkillLevel.HARD));
+		
+		SearchBudget.configure(SkillLevel.HARD, new SearchBudget(100, SearchBudget.UNLIMITED_NODES, SearchBudget.UNLIMITED_DEPTH));
+	}
+	
+	@Test
+	public void testTranspositionTableEntries()
+	{
+		TranspositionTable table = new TranspositionTable(1, ReplacementScheme.DEPTH_PREFERRED);
+		
+		assertEquals("Capacity doesn't match 1 MB with 16 bytes per entry!", 65536, table.getCapacity());
+		assertEquals("Empty table reports an entry!", 0L, table.probe(42L));
+		
+		table.store(42L, -987, TranspositionTable.BOUND_LOWER, 17, 4);
+		long entry = table.probe(42L);
+		
+		assertEquals("Stored value doesn't match!", -987, TranspositionTable.getValue(entry));
+		assertEquals("Stored bound doesn't match!", TranspositionTable.BOUND_LOWER, TranspositionTable.getBound(entry));
+		assertEquals("Stored depth doesn't match!", 17, TranspositionTable.getDepth(entry));
+		assertEquals("Stored move doesn't match!", 4, TranspositionTable.getMove(entry));
+		assertEquals("Different key reports an entry!", 0L, table.probe(43L));
+		
+		table.clear();
+		
+		assertEquals("Table reports an entry after clear!", 0L, table.probe(42L));
+	}
+	
+	@Test
+	public void testTranspositionTableReplacement()
+	{
+		TranspositionTable depthPreferred = new TranspositionTable(1, ReplacementScheme.DEPTH_PREFERRED);
+		TranspositionTable alwaysReplace = new TranspositionTable(1, ReplacementScheme.ALWAYS_REPLACE);
+		TranspositionTable twoTier = new TranspositionTable(1, ReplacementScheme.TWO_TIER);
+		
+		// Two keys sharing the same entry - or the same bucket of two entries
+		
+		long deep = 1L;
+		long shallow = findCollision(deep);
+		
+		for (TranspositionTable table : new TranspositionTable[] { depthPreferred, alwaysReplace, twoTier })
+		{
+			table.store(deep, 1, TranspositionTable.BOUND_EXACT, 20, 1);
+			table.store(shallow, 2, TranspositionTable.BOUND_EXACT, 5, 2);
+		}
+		
+		assertTrue("Depth-preferred table replaced the deeper entry!", depthPreferred.probe(deep) != 0);
+		assertEquals("Depth-preferred table stored the shallow entry!", 0L, depthPreferred.probe(shallow));
+		
+		assertEquals("Always-replace table kept the previous entry!", 0L, alwaysReplace.probe(deep));
+		assertTrue("Always-replace table didn't store the recent entry!", alwaysReplace.probe(shallow) != 0);
+		
+		assertTrue("Two-tier table lost the deeper entry!", twoTier.probe(deep) != 0);
+		assertTrue("Two-tier table lost the recent entry!", twoTier.probe(shallow) != 0);
+	}
+	
+	@Test
+	public void testOpeningBook() throws IOException
+	{
+		File file = File.createTempFile("connectfour", ".book");
+		file.deleteOnExit();
+		
+		int count = OpeningBookGenerator.generate(file, 2, new SearchBudget(10, SearchBudget.UNLIMITED_NODES, 4));
+		OpeningBook book = OpeningBook.open(file);
+		
+		assertEquals("Ply of the book doesn't match!", 2, book.getPly());
+		assertEquals("Number of positions doesn't match!", count, book.size());
+		
+		GameBoard board = new GameBoard();
+		int columnId = book.lookup(board, DropColor.RED);
+		
+		assertTrue("Empty board isn't contained in the book!", columnId >= 1 && columnId <= GameBoard.NUMBER_OF_COLUMNS);
+		
+		// Reflected positions share one entry => reflected turns
+		
+		GameBoard mirrored = new GameBoard();
+		board.insertDrop("A", DropColor.RED);
+		mirrored.insertDrop("G", DropColor.RED);
+		
+		assertEquals("Reflected position results in a different turn!",
+						GameBoard.mirrorColumnId(book.lookup(board, DropColor.YELLOW)), book.lookup(mirrored, DropColor.YELLOW));
+		
+		// Positions beyond the ply aren't contained
+		
+		insertDrops(board, "DDCC");
+		
+		assertEquals("Position beyond the ply reports a turn!", 0, book.lookup(board, DropColor.YELLOW));
+		
+		// Installed book is used by the CPU player
+		
+		try
+		{
+			OpeningBook.install(book);
+			
+			assertEquals("CpuPlayer doesn't use the opening book!", 
+							book.lookup(game.getBoard(), DropColor.RED), game.getBoard().getColumnByKey(red.determineNextTurn(game)).getId());
+		}
+		finally
+		{
+			OpeningBook.install(null);
+		}
+	}
+	
+	@Test(expected=IOException.class)
+	public void testOpeningBookInvalid() throws IOException
+	{
+		File file = File.createTempFile("connectfour", ".book");
+		file.deleteOnExit();
+		
+		FileOutputStream out = new FileOutputStream(file);
+		out.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 });
+		out.close();
+		
+		OpeningBook.open(file);
+	}
+	
+	private void insertDrops(GameBoard board, String columns)
+	{
+		DropColor color = DropColor.RED;
+
+		for (char column : columns.toCharArray())
+		{
+			board.insertDrop(String.valueOf(column), color);
+			color = (color == DropColor.RED) ? DropColor.YELLOW : DropColor.RED;
+		}
+
+		// The CPU players read the position published by the game
+
+		if (board == game.getBoard())
+		{
+			game.publishSnapshot();
+		}
+	}
+	
+	private Game createConcurrentGame(String columns)
+	{
+		PerfectCpuPlayer player = (PerfectCpuPlayer) PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "Concurrent", SkillLevel.PERFECT);
+		Game concurrent = new Game(player, PlayerFactory.createPlayer(PlayerType.HUMAN, "Human", null));
+
+		player.setDropColor(DropColor.RED);
+		player.setTranspositionTable(new TranspositionTable(1, ReplacementScheme.TWO_TIER));
+		insertDrops(concurrent.getBoard(), columns);
+		concurrent.publishSnapshot();
+
+		return concurrent;
+	}
+
+	private Thread startTurn(final Game concurrent, final AtomicLong maxLatency)
+	{
+		Thread thread = new Thread(new Runnable()
+		{
+			public void run()
+			{
+				long start = System.currentTimeMillis();
+				((CpuPlayer) concurrent.getStartPlayer()).determineNextTurn(concurrent);
+				long latency = System.currentTimeMillis() - start;
+
+				while (maxLatency != null && latency > maxLatency.get())
+				{
+					maxLatency.compareAndSet(maxLatency.get(), latency);
+				}
+			}
+		}, "ConcurrentTurn");
+
+		thread.start();
+
+		return thread;
+	}
+
+	private long findCollision(long key)
+	{
+		// An always-replace table loses the key, as soon as a candidate is stored at the same index
+		
+		TranspositionTable table = new TranspositionTable(1, ReplacementScheme.ALWAYS_REPLACE);
+		table.store(key, 0, TranspositionTable.BOUND_EXACT, 0, 0);
+		
+		long candidate = key;
+		
+		do
+		{
+			candidate++;
+			table.store(candidate, 0, TranspositionTable.BOUND_EXACT, 0, 0);
+			
+		} while (table.probe(key) != 0);
+		
+		return candidate;
+	}
+}
@@ -0,0 +1,166 @@
+package ch.hszt.connectfour.test;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ch.hszt.connectfour.control.EngineMetrics;
+import ch.hszt.connectfour.control.GameController;
+import ch.hszt.connectfour.control.LatencyHistogram;
+import ch.hszt.connectfour.model.enumeration.PlayerType;
+import ch.hszt.connectfour.model.enumeration.SkillLevel;
+import ch.hszt.connectfour.model.game.CpuPlayer;
+import ch.hszt.connectfour.model.game.Game;
+import ch.hszt.connectfour.model.game.Player;
+import ch.hszt.connectfour.model.game.PlayerFactory;
+
+/**
+ * Performs tests on the {@link EngineMetrics} recorded by the engine and exposed via JMX.
+ * The metrics are shared by all tests of the JVM => only differences are asserted.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public class EngineMetricsTest
+{
+	private Game game;
+	private GameController controller;
+	private EngineMetrics metrics;
+
+	@Before
+	public void setupGame()
+	{
+		game = UnitTestUtils.prepareGame();
+		controller = new UnitTestUtils.GameControllerTest();
+		metrics = EngineMetrics.getInstance();
+	}
+
+	@After
+	public void tearDownGame()
+	{
+		game = null;
+		controller = null;
+	}
+
+	@Test
+	public void testHistogram()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertEquals("Empty histogram reports a percentile!", 0, histogram.getPercentile(99));
+
+		for (long micros = 1; micros <= 1000; micros++)
+		{
+			histogram.record(micros * 1000);
+		}
+
+		assertEquals("Wrong number of durations!", 1000, histogram.getCount());
+		assertEquals("Wrong maximum!", 1000000, histogram.getMax());
+		assertEquals("Wrong mean!", 500500, histogram.getMean());
+
+		// Four buckets per power of two => accurate to 25 percent
+
+		assertEquals("Wrong median!", 500000, histogram.getPercentile(50), 125000);
+		assertEquals("Wrong 99th percentile!", 990000, histogram.getPercentile(99), 250000);
+		assertTrue("Percentile exceeds maximum!", histogram.getPercentile(100) <= histogram.getMax());
+
+		histogram.reset();
+
+		assertEquals("Histogram wasn't reset!", 0, histogram.getCount());
+		assertEquals("Histogram wasn't reset!", 0, histogram.getPercentile(50));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testHistogramInvalid()
+	{
+		new LatencyHistogram().getPercentile(101);
+	}
+
+	@Test
+	public void testGameMetrics() throws Exception
+	{
+		long moves = metrics.getTotalMoves();
+		long drops = metrics.getSetDropLatency().getCount();
+		long updates = metrics.getUpdateGameLatency().getCount();
+		long started = metrics.getStartedGames();
+		long finished = metrics.getFinishedGames();
+		long aborted = metrics.getAbortedGames();
+
+		controller.startGame(game);
+
+		// Play column A / B alternately => the start player wins in column A with the 7th drop
+
+		for (int i = 0; i < 7; i++)
+		{
+			controller.executeTurn(game, (i % 2 == 0) ? "A" : "B");
+		}
+
+		UnitTestUtils.awaitEvents(game);
+		controller.stopGame(game);
+
+		assertEquals("Moves weren't counted!", moves + 7, metrics.getTotalMoves());
+		assertEquals("Drops weren't timed!", drops + 7, metrics.getSetDropLatency().getCount());
+		assertTrue("Start wasn't timed!", metrics.getUpdateGameLatency().getCount() > updates);
+		assertTrue("Notifications weren't timed!", metrics.getNotificationLatency().getCount() >= 8);
+		assertTrue("Moves per second are negative!", metrics.getMovesPerSecond() >= 0);
+		assertEquals("Start wasn't counted!", started + 1, metrics.getStartedGames());
+		assertEquals("End wasn't counted!", finished + 1, metrics.getFinishedGames());
+		assertEquals("Finished game was counted as aborted!", aborted, metrics.getAbortedGames());
+
+		// Stopping a running game aborts it
+
+		Game other = UnitTestUtils.prepareGame();
+
+		controller.startGame(other);
+		controller.executeTurn(other, "C");
+		controller.restartGame(other);
+		controller.stopGame(other);
+
+		assertEquals("Restart wasn't counted!", started + 3, metrics.getStartedGames());
+		assertEquals("Aborted games weren't counted!", aborted + 2, metrics.getAbortedGames());
+		assertEquals("Aborted game was counted as finished!", finished + 1, metrics.getFinishedGames());
+	}
+
+	@Test
+	public void testThinkTime() throws Exception
+	{
+		Player cpu = PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "CPU", SkillLevel.EASY);
+		Player human = PlayerFactory.createPlayer(PlayerType.HUMAN, "Human", null);
+		Game cpuGame = new Game(cpu, human);
+		long count = metrics.getThinkTime(SkillLevel.EASY).getCount();
+
+		controller.startGame(cpuGame);
+
+		assertNotNull("No turn determined!", controller.determineNextTurn(cpuGame, (CpuPlayer) cpu));
+
+		assertEquals("Think time wasn't recorded!", count + 1, metrics.getThinkTime(SkillLevel.EASY).getCount());
+		assertEquals("Think time wasn't exposed per skill level!",
+						count + 1, metrics.getThinkTimes().get(SkillLevel.EASY.name()).getCount());
+	}
+
+	@Test
+	public void testJmx() throws Exception
+	{
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(EngineMetrics.OBJECT_NAME);
+
+		assertTrue("Metrics weren't registered!", server.isRegistered(name));
+		assertEquals("Wrong number of moves!", metrics.getTotalMoves(), ((Long) server.getAttribute(name, "TotalMoves")).longValue());
+
+		CompositeData latency = (CompositeData) server.getAttribute(name, "SetDropLatency");
+
+		assertTrue("Latency lacks the 99th percentile!", latency.containsKey("percentile99"));
+
+		TabularData thinkTimes = (TabularData) server.getAttribute(name, "ThinkTimes");
+
+		assertEquals("Think times lack skill levels!", SkillLevel.values().length, thinkTimes.size());
+	}
+}
@@ -3,13 +3,17 @@ package ch.hszt.connectfour.test;
 import static org.junit.Assert.*;
 
 import java.util.List;
+import java.util.Random;
 
+import ch.hszt.connectfour.model.board.BoardGeometry;
+import ch.hszt.connectfour.model.board.BoardSnapshot;
 import ch.hszt.connectfour.model.board.GameBoard;
 import ch.hszt.connectfour.model.board.GameBoardColumn;
 import ch.hszt.connectfour.model.board.GameBoardDiagonal;
 import ch.hszt.connectfour.model.board.GameBoardRow;
 import ch.hszt.connectfour.model.board.GameBoardSlot;
 import ch.hszt.connectfour.model.board.GameBoardSlotCollection;
+import ch.hszt.connectfour.model.board.WinningLines;
 import ch.hszt.connectfour.model.enumeration.DropColor;
 import ch.hszt.connectfour.model.game.Game;
 
@@ -299,6 +303,445 @@ public class GameBoardModelTest
 		board.insertDrop("Y", DropColor.YELLOW);
 	}
 	
+	@org.junit.Test
+	public void testGameBoardBitOperations()
+	{
+		assertTrue("Empty GameBoard doesn't provide empty slots!", board.hasEmptySlots());
+		assertFalse("Empty GameBoard mustn't have ConnectFour with red drops!", board.hasConnectFour(DropColor.RED));
+		
+		// Diagonal from A1 to D4 for red drops
+		
+		board.insertDrop("A", DropColor.RED);
+		board.insertDrop("B", DropColor.YELLOW);
+		board.insertDrop("B", DropColor.RED);
+		board.insertDrop("C", DropColor.YELLOW);
+		board.insertDrop("C", DropColor.YELLOW);
+		board.insertDrop("C", DropColor.RED);
+		board.insertDrop("D", DropColor.YELLOW);
+		board.insertDrop("D", DropColor.YELLOW);
+		board.insertDrop("D", DropColor.YELLOW);
+		
+		assertFalse("GameBoard mustn't have ConnectFour with red drops yet!", board.hasConnectFour(DropColor.RED));
+		
+		GameBoardSlot d4Slot = board.insertDrop("D", DropColor.RED);
+		
+		assertEquals("Drop wasn't inserted into slot D4!", "D4", d4Slot.getKey());
+		assertTrue("GameBoard was expected to have ConnectFour with red drops!", board.hasConnectFour(DropColor.RED));
+		assertFalse("GameBoard mustn't have ConnectFour with yellow drops!", board.hasConnectFour(DropColor.YELLOW));
+		
+		// Drops mustn't connect across the edge of adjacent columns
+		
+		board.reset();
+		
+		board.insertDrop("A", DropColor.YELLOW);
+		board.insertDrop("A", DropColor.YELLOW);
+		board.insertDrop("A", DropColor.YELLOW);
+		board.insertDrop("A", DropColor.RED);
+		board.insertDrop("A", DropColor.RED);
+		board.insertDrop("A", DropColor.RED);
+		board.insertDrop("B", DropColor.RED);
+		
+		assertFalse("Drops of adjacent columns mustn't build ConnectFour!", board.hasConnectFour(DropColor.RED));
+		assertEquals("Slot A6 doesn't contain a red drop!", DropColor.RED, board.getColumnByKey("A").getSlot(6).getColor());
+		
+		// Fill the board completely without any ConnectFour check
+		
+		board.reset();
+		
+		for (GameBoardSlotCollection coll : board.getColumns())
+		{
+			GameBoardColumn column = (GameBoardColumn) coll;
+			
+			while (column.hasEmptySlots())
+			{
+				board.insertDrop(column.getKey(), DropColor.RED);
+			}
+		}
+		
+		assertFalse("Full GameBoard mustn't provide empty slots!", board.hasEmptySlots());
+	}
+	
+	@org.junit.Test
+	public void testConnectFourBySlot()
+	{
+		Random random = new Random();
+		
+		// Compare the check through the inserted slot with the check of the entire board for many random games
+		
+		for (int game = 0; game < 500; game++)
+		{
+			board.reset();
+			
+			DropColor color = DropColor.RED;
+			boolean isConnectFour = false;
+			
+			while (!isConnectFour && board.hasEmptySlots())
+			{
+				GameBoardColumn column = board.getColumnById(1 + random.nextInt(GameBoard.NUMBER_OF_COLUMNS));
+				
+				if (!column.hasEmptySlots())
+				{
+					continue;
+				}
+				
+				GameBoardSlot slot = board.insertDrop(column.getKey(), color);
+				List<GameBoardSlot> connectFour = board.getConnectFour(slot);
+				isConnectFour = board.hasConnectFour(color);
+				
+				assertEquals(String.format("ConnectFour through %s doesn't match ConnectFour on the GameBoard!", slot.toString()),
+								isConnectFour, connectFour != null);
+				
+				if (connectFour != null)
+				{
+					assertEquals("ConnectFour doesn't consist of four slots!", 4, connectFour.size());
+					
+					for (GameBoardSlot winner : connectFour)
+					{
+						assertEquals(String.format("%s doesn't belong to ConnectFour!", winner.toString()), color, winner.getColor());
+					}
+				}
+				
+				color = (color == DropColor.RED) ? DropColor.YELLOW : DropColor.RED;
+			}
+		}
+	}
+	
+	@org.junit.Test
+	public void testDropCounters()
+	{
+		final int totalSlots = GameBoard.NUMBER_OF_COLUMNS * GameBoard.NUMBER_OF_SLOTS;
+		
+		assertEquals("Empty GameBoard reports drops!", 0, board.countDrops());
+		assertEquals("Empty GameBoard doesn't report all slots as empty!", totalSlots, board.countEmptySlots());
+		
+		board.insertDrop("A", DropColor.RED);
+		board.insertDrop("A", DropColor.YELLOW);
+		board.insertDrop("D", DropColor.RED);
+		
+		assertEquals("Number of red drops is not correct!", 2, board.countDrops(DropColor.RED));
+		assertEquals("Number of yellow drops is not correct!", 1, board.countDrops(DropColor.YELLOW));
+		assertEquals("Number of unknown drops is not correct!", 0, board.countDrops(DropColor.UNKNOWN));
+		assertEquals("Total number of drops is not correct!", 3, board.countDrops());
+		assertEquals("Number of empty slots is not correct!", totalSlots - 3, board.countEmptySlots());
+		
+		// A rejected drop must not affect the counters
+		
+		for (int i = 2; i < GameBoard.NUMBER_OF_SLOTS; i++)
+		{
+			board.insertDrop("A", DropColor.RED);
+		}
+		
+		try
+		{
+			board.insertDrop("A", DropColor.YELLOW);
+			fail("Drop was inserted into a full column!");
+		}
+		catch (IllegalArgumentException ex)
+		{
+		}
+		
+		assertEquals("Total number of drops is not correct after rejected drop!", 
+						GameBoard.NUMBER_OF_SLOTS + 1, board.countDrops());
+		
+		board.reset();
+		
+		assertEquals("GameBoard reports drops after reset!", 0, board.countDrops());
+		assertEquals("GameBoard doesn't report all slots as empty after reset!", totalSlots, board.countEmptySlots());
+	}
+	
+	@org.junit.Test
+	public void testPositionHash()
+	{
+		GameBoard other = new GameBoard();
+		
+		assertEquals("Empty GameBoard doesn't have hash 0!", 0L, board.getPositionHash());
+		
+		// Same position reached by different move orders
+		
+		board.insertDrop("A", DropColor.RED);
+		board.insertDrop("C", DropColor.YELLOW);
+		board.insertDrop("D", DropColor.RED);
+		
+		other.insertDrop("D", DropColor.RED);
+		other.insertDrop("C", DropColor.YELLOW);
+		other.insertDrop("A", DropColor.RED);
+		
+		assertEquals("Identical positions have different hashes!", board.getPositionHash(), other.getPositionHash());
+		
+		// Different colors must result in a different hash
+		
+		other.reset();
+		other.insertDrop("A", DropColor.YELLOW);
+		other.insertDrop("C", DropColor.RED);
+		other.insertDrop("D", DropColor.YELLOW);
+		
+		assertFalse("Positions with swapped colors have the same hash!", board.getPositionHash() == other.getPositionHash());
+		
+		// Left-right reflection => A <-> G, C <-> E, D <-> D
+		
+		other.reset();
+		other.insertDrop("G", DropColor.RED);
+		other.insertDrop("E", DropColor.YELLOW);
+		other.insertDrop("D", DropColor.RED);
+		
+		assertFalse("Reflected positions have the same position hash!", board.getPositionHash() == other.getPositionHash());
+		assertEquals("Reflected positions have different canonical hashes!", board.getCanonicalHash(), other.getCanonicalHash());
+		assertTrue("Exactly one of the reflected positions must be mirrored for the canonical hash!", 
+					board.isCanonicalMirrored() != other.isCanonicalMirrored());
+		assertEquals("Column A isn't reflected to column G!", 7, GameBoard.mirrorColumnId(1));
+		
+		board.reset();
+		
+		assertEquals("GameBoard doesn't have hash 0 after reset!", 0L, board.getPositionHash());
+		assertEquals("GameBoard doesn't have canonical hash 0 after reset!", 0L, board.getCanonicalHash());
+	}
+	
+	@org.junit.Test
+	public void testWinningLines()
+	{
+		// 7 columns x 3 + 6 rows x 4 + 2 x 12 diagonal windows
+		
+		WinningLines lines = WinningLines.forGeometry(BoardGeometry.STANDARD);
+		
+		assertSame("Table isn't shared per geometry!", lines, WinningLines.forGeometry(new BoardGeometry(7, 6, 4)));
+		assertEquals("Unexpected number of windows with four slots in a row!", 69, lines.countWindows());
+		assertEquals("Unexpected number of diagonals!", 12, board.getDiagonals().size());
+		
+		for (int window = 0; window < lines.countWindows(); window++)
+		{
+			long mask = 0L;
+			
+			for (int i = 0; i < 4; i++)
+			{
+				int slotIndex = lines.getWindowSlot(window, i);
+				mask |= GameBoard.getSlotMask(slotIndex / GameBoard.NUMBER_OF_SLOTS + 1, slotIndex % GameBoard.NUMBER_OF_SLOTS + 1);
+			}
+			
+			assertEquals(String.format("Window %d doesn't consist of four slots!", window), 4, Long.bitCount(mask));
+		}
+		
+		// Diagonals are shared views => identical for each GameBoard
+		
+		List<GameBoardSlotCollection> diagonals = new GameBoard().getDiagonals();
+		
+		for (int i = 0; i < diagonals.size(); i++)
+		{
+			assertEquals("Diagonals of different boards don't match!", 
+							((GameBoardDiagonal) board.getDiagonals().get(i)).getKey(), ((GameBoardDiagonal) diagonals.get(i)).getKey());
+		}
+		
+		assertNull("Empty GameBoard reports ConnectFour!", board.findConnectFour());
+		
+		// Diagonal from A1 to D4 for red drops
+		
+		board.insertDrop("A", DropColor.RED);
+		board.insertDrop("B", DropColor.YELLOW);
+		board.insertDrop("B", DropColor.RED);
+		board.insertDrop("C", DropColor.YELLOW);
+		board.insertDrop("C", DropColor.YELLOW);
+		board.insertDrop("C", DropColor.RED);
+		board.insertDrop("D", DropColor.YELLOW);
+		board.insertDrop("D", DropColor.YELLOW);
+		board.insertDrop("D", DropColor.YELLOW);
+		
+		assertNull("Incomplete diagonal reports ConnectFour!", board.findConnectFour());
+		
+		board.insertDrop("D", DropColor.RED);
+		List<GameBoardSlot> connectFour = board.findConnectFour();
+		
+		assertNotNull("Diagonal ConnectFour wasn't found!", connectFour);
+		assertEquals("ConnectFour doesn't start in A1!", "A1", connectFour.get(0).getKey());
+		assertEquals("ConnectFour doesn't end in D4!", "D4", connectFour.get(3).getKey());
+	}
+	
+	@org.junit.Test
+	public void testSlotIndex()
+	{
+		for (GameBoardSlotCollection coll : board.getColumns())
+		{
+			GameBoardColumn column = (GameBoardColumn) coll;
+			
+			assertEquals(String.format("Index of %s doesn't match its key!", column.toString()), 
+							column.getIndex(), GameBoardColumn.indexOfKey(column.getKey()));
+			assertSame(String.format("%s isn't found by its index!", column.toString()), column, board.getColumn(column.getIndex()));
+			
+			for (GameBoardSlot slot : column)
+			{
+				assertSame(String.format("%s isn't found by its index!", slot.toString()), slot, board.getSlot(slot.getIndex()));
+			}
+		}
+		
+		assertEquals("Slot index of A1 isn't 0!", 0, GameBoard.getSlotIndex(0, 1));
+		assertEquals("Slot index of G6 isn't 41!", 41, GameBoard.getSlotIndex(6, 6));
+		assertEquals("Invalid column key has an index!", -1, GameBoardColumn.indexOfKey("H"));
+		assertNull("Slot index out of range provides a slot!", board.getSlot(42));
+		assertNull("Column index out of range provides a column!", board.getColumn(-1));
+		
+		GameBoardSlot slot = board.insertDrop(3, DropColor.RED);
+		
+		assertEquals("Drop wasn't inserted into column D!", "D1", slot.getKey());
+		assertEquals("Drop wasn't inserted at slot index 18!", 18, slot.getIndex());
+	}
+	
+	@org.junit.Test
+	public void testUndoDrop()
+	{
+		board.insertDrop("D", DropColor.RED);
+		board.insertDrop("C", DropColor.YELLOW);
+		
+		long hash = board.getPositionHash();
+		
+		GameBoardSlot slot = board.insertDrop("D", DropColor.YELLOW);
+		GameBoardSlot undone = board.undoDrop("D");
+		
+		assertSame("Topmost drop wasn't taken back!", slot, undone);
+		assertTrue("Slot isn't empty after undo!", undone.isEmpty());
+		assertEquals("Hash wasn't restored by undo!", hash, board.getPositionHash());
+		assertEquals("Number of yellow drops wasn't restored by undo!", 1, board.countDrops(DropColor.YELLOW));
+		assertEquals("Number of drops wasn't restored by undo!", 2, board.countDrops());
+		
+		// Search a tree of two plies on the same board
+		
+		for (int first = 0; first < GameBoard.NUMBER_OF_COLUMNS; first++)
+		{
+			board.makeMove(first, DropColor.RED);
+			
+			for (int second = 0; second < GameBoard.NUMBER_OF_COLUMNS; second++)
+			{
+				board.makeMove(second, DropColor.YELLOW);
+				board.unmakeMove(second);
+			}
+			
+			board.unmakeMove(first);
+		}
+		
+		assertEquals("Hash wasn't restored by unmake!", hash, board.getPositionHash());
+		assertEquals("Number of drops wasn't restored by unmake!", 2, board.countDrops());
+		
+		// Win state follows the drops
+		
+		board.makeMove(6, DropColor.RED);
+		board.makeMove(6, DropColor.RED);
+		
+		assertFalse("Move without ConnectFour was reported as winning!", board.makeMove(6, DropColor.RED));
+		assertTrue("Winning move wasn't reported!", board.makeMove(6, DropColor.RED));
+		assertTrue("ConnectFour wasn't detected after winning move!", board.hasConnectFour(DropColor.RED));
+		
+		board.unmakeMove(6);
+		
+		assertFalse("ConnectFour still detected after unmake!", board.hasConnectFour(DropColor.RED));
+	}
+	
+	@org.junit.Test(expected=IllegalArgumentException.class)
+	public void testUndoDropInvalid()
+	{
+		board.undoDrop("A");
+	}
+	
+	@org.junit.Test
+	public void testSnapshot()
+	{
+		assertEquals("Snapshot of empty board isn't empty!", BoardSnapshot.EMPTY, board.snapshot());
+		
+		board.insertDrop("D", DropColor.RED);
+		board.insertDrop("D", DropColor.YELLOW);
+		board.insertDrop("E", DropColor.RED);
+		
+		BoardSnapshot snapshot = board.snapshot();
+		
+		// Snapshot reflects the board at the time it was taken
+		
+		assertEquals("Wrong number of drops in snapshot!", 3, snapshot.countDrops());
+		assertEquals("Wrong number of red drops in snapshot!", 2, snapshot.countDrops(DropColor.RED));
+		assertEquals("Wrong height of column D in snapshot!", 2, snapshot.getHeight(3));
+		assertEquals("Wrong color of slot D2 in snapshot!", DropColor.YELLOW, snapshot.getColor(GameBoard.getSlotIndex(3, 2)));
+		assertEquals("Slot E2 isn't empty in snapshot!", DropColor.UNKNOWN, snapshot.getColor(GameBoard.getSlotIndex(4, 2)));
+		assertEquals("Wrong hash in snapshot!", board.getPositionHash(), snapshot.getPositionHash());
+		assertEquals("Wrong canonical hash in snapshot!", board.getCanonicalHash(), snapshot.getCanonicalHash());
+		
+		// Snapshot isn't affected by later changes
+		
+		board.insertDrop("A", DropColor.YELLOW);
+		
+		assertEquals("Snapshot changed with the board!", 3, snapshot.countDrops());
+		assertEquals("Snapshot changed with the board!", 0, snapshot.getHeight(0));
+		assertFalse("Snapshots of different positions are equal!", snapshot.equals(board.snapshot()));
+		
+		board.undoDrop("A");
+		
+		assertEquals("Snapshots of the same position aren't equal!", snapshot, board.snapshot());
+		assertEquals("Snapshots of the same position have different hash codes!", snapshot.hashCode(), board.snapshot().hashCode());
+	}
+	
+	@org.junit.Test
+	public void testBoardFromSnapshot()
+	{
+		board.insertDrop("D", DropColor.RED);
+		board.insertDrop("D", DropColor.YELLOW);
+		board.insertDrop("E", DropColor.RED);
+		
+		GameBoard copy = GameBoard.fromSnapshot(board.snapshot());
+		
+		assertEquals("Copy doesn't match the position!", board.snapshot(), copy.snapshot());
+		assertEquals("Wrong hash of copy!", board.getPositionHash(), copy.getPositionHash());
+		assertEquals("Wrong color of slot D2 in copy!", DropColor.YELLOW, copy.getColumnByKey("D").getSlot(2).getColor());
+		
+		// Copy is independent of the original board
+		
+		copy.insertDrop("A", DropColor.YELLOW);
+		
+		assertEquals("Original board changed with the copy!", 3, board.countDrops());
+	}
+	
+	@org.junit.Test
+	public void testLargeGeometry()
+	{
+		BoardGeometry geometry = new BoardGeometry(20, 20, 5);
+		GameBoard large = new GameBoard(geometry);
+		
+		assertEquals("Wrong number of columns!", 20, large.getColumns().size());
+		assertEquals("Wrong number of rows!", 20, large.getRows().size());
+		assertEquals("Wrong key of last column!", "T", large.getColumn(19).getKey());
+		assertEquals("Wrong number of empty slots!", 400, large.countEmptySlots());
+		
+		// Four in a row don't win a connect-5 game
+		
+		for (String key : new String[] { "P", "Q", "R", "S" })
+		{
+			large.insertDrop(key, DropColor.RED);
+			large.insertDrop(key, DropColor.YELLOW);
+		}
+		
+		assertFalse("Four in a row detected as win!", large.hasConnectFour(DropColor.RED));
+		assertTrue("Winning drop wasn't detected in snapshot!", large.snapshot().isWinningDrop(19, DropColor.RED));
+		assertFalse("Drop of wrong row detected as win in snapshot!", large.snapshot().isWinningDrop(19, DropColor.YELLOW));
+		
+		large.insertDrop("T", DropColor.RED);
+		
+		assertTrue("Five in a row weren't detected!", large.hasConnectFour(DropColor.RED));
+		assertTrue("Five in a row weren't detected in snapshot!", large.snapshot().hasConnectFour(DropColor.RED));
+		assertEquals("Wrong number of winning slots!", 5, large.findConnectFour().size());
+		
+		large.undoDrop("T");
+		
+		assertFalse("Win still detected after undo!", large.hasConnectFour(DropColor.RED));
+		assertEquals("Wrong number of drops after undo!", 8, large.snapshot().countDrops());
+		assertEquals("Wrong height of column P in snapshot!", 2, large.snapshot().getHeight(15));
+		
+		// Drop counts of the players follow the geometry
+		
+		Game custom = new Game(game.getStartPlayer(), game.getOtherPlayer(), geometry);
+		
+		assertEquals("Wrong geometry of game!", geometry, custom.getGeometry());
+		assertEquals("Wrong number of drops per player!", 200, custom.getStartPlayer().getDropCount());
+	}
+	
+	@org.junit.Test(expected=IllegalArgumentException.class)
+	public void testInvalidGeometry()
+	{
+		new BoardGeometry(7, 6, 8);
+	}
+	
 	private boolean checkSlotPosition(GameBoardSlot slot, int expectedPosition)
 	{
 		return slot.getPosition() == expectedPosition;
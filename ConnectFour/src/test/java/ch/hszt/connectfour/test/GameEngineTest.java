@@ -2,8 +2,12 @@ package ch.hszt.connectfour.test;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.After;
 import org.junit.Before;
@@ -11,9 +15,12 @@ import org.junit.Test;
 
 import ch.hszt.connectfour.control.GameController;
 import ch.hszt.connectfour.control.GameEngine;
+import ch.hszt.connectfour.control.GameEvent;
+import ch.hszt.connectfour.control.GameEventListener;
 import ch.hszt.connectfour.control.GameObserver;
 import ch.hszt.connectfour.exception.GameException;
 
+import ch.hszt.connectfour.model.board.GameBoard;
 import ch.hszt.connectfour.model.board.GameBoardColumn;
 import ch.hszt.connectfour.model.board.GameBoardSlot;
 import ch.hszt.connectfour.model.enumeration.DropColor;
@@ -106,6 +113,11 @@ public class GameEngineTest
 		
 		assertTrue("GameBoard doesn't contain any drops, although it should!", statistic.getNumberOfDropsOnBoard() > 0);
 		
+		// Verify published snapshot
+		
+		assertEquals("Published snapshot doesn't match the GameBoard!", game.getBoard().snapshot(), game.getSnapshot());
+		assertEquals("Published snapshot doesn't contain the drop!", startColor, game.getSnapshot().getColor(updated.getIndex()));
+		
 		// Verify game status
 		
 		assertEquals("Number of completed turns is supposed to be 1!", 1, status.countCompletedTurns());
@@ -261,6 +273,84 @@ public class GameEngineTest
 		}
 	}
 	
+	@Test
+	public void testConcurrentGames() throws Exception
+	{
+		final int gameCount = 16;
+		final Game[] games = new Game[gameCount];
+		final AtomicBoolean lockedNotification = new AtomicBoolean(false);
+		Thread[] threads = new Thread[gameCount];
+		final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+		
+		for (int i = 0; i < gameCount; i++)
+		{
+			final Game current = UnitTestUtils.prepareGame();
+			
+			// Observers must be notified without holding the lock of the game
+			
+			current.getEvents().subscribe(new GameEventListener()
+			{
+				public void onEvent(GameEvent event)
+				{
+					if (Thread.holdsLock(current.getLock()))
+					{
+						lockedNotification.set(true);
+					}
+				}
+			});
+			
+			games[i] = current;
+			threads[i] = new Thread(new Runnable()
+			{
+				public void run()
+				{
+					try
+					{
+						current.start();
+						engine.updateGame(current);
+						
+						// Fill the columns one after the other until the game is decided
+						
+						for (int turn = 0; turn < 2 * GameSettings.NUMBER_OF_DROPS && !current.getStatus().isConnectFour(); turn++)
+						{
+							engine.setDrop(current, turn / GameBoard.NUMBER_OF_SLOTS);
+						}
+					}
+					catch (Throwable ex)
+					{
+						errors.add(ex);
+					}
+				}
+			});
+		}
+		
+		for (Thread thread : threads)
+		{
+			thread.start();
+		}
+		
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+		
+		for (Game current : games)
+		{
+			UnitTestUtils.awaitEvents(current);
+		}
+		
+		assertTrue("Games failed concurrently: " + errors, errors.isEmpty());
+		assertFalse("Observer was notified while holding the lock of the game!", lockedNotification.get());
+		
+		for (Game current : games)
+		{
+			assertTrue("Game wasn't decided!", current.getStatus().isConnectFour());
+			assertEquals("Turns and drops on the board don't match!", 
+							current.getStatus().countCompletedTurns(), current.getBoard().countDrops());
+			assertEquals("Published snapshot doesn't match the GameBoard!", current.getBoard().snapshot(), current.getSnapshot());
+		}
+	}
+	
 	private String defineTargetColumn(Game game)
 	{
 		String key = null;
@@ -0,0 +1,363 @@
+package ch.hszt.connectfour.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ch.hszt.connectfour.control.GameController;
+import ch.hszt.connectfour.control.GameEvent;
+import ch.hszt.connectfour.control.GameEventBus;
+import ch.hszt.connectfour.control.GameEventListener;
+import ch.hszt.connectfour.control.GameObserver;
+import ch.hszt.connectfour.exception.GameException;
+import ch.hszt.connectfour.model.board.BoardSnapshot;
+import ch.hszt.connectfour.model.board.GameBoardSlot;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+import ch.hszt.connectfour.model.enumeration.GameEventType;
+import ch.hszt.connectfour.model.game.Game;
+import ch.hszt.connectfour.model.game.GameStatus;
+
+/**
+ * Performs tests on the asynchronous delivery of {@link GameEvent} items by the {@link GameEventBus}.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public class GameEventBusTest
+{
+	private Game game;
+	private ExecutorService executor;
+
+	@Before
+	public void setupGame()
+	{
+		game = UnitTestUtils.prepareGame();
+		GameStatus.update(game);
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void tearDownGame()
+	{
+		executor.shutdownNow();
+		game = null;
+	}
+
+	@Test
+	public void testGameEvents() throws Exception
+	{
+		GameController controller = new UnitTestUtils.GameControllerTest();
+		RecordingListener listener = new RecordingListener(null);
+
+		game.getEvents().subscribe(listener);
+		controller.startGame(game);
+
+		// Play column A / B alternately => the start player wins in column A with the 7th drop
+
+		for (int i = 0; i < 7; i++)
+		{
+			controller.executeTurn(game, (i % 2 == 0) ? "A" : "B");
+		}
+
+		UnitTestUtils.awaitEvents(game);
+
+		List<GameEvent> events = listener.getEvents();
+
+		assertEquals("Wrong number of events!", 9, events.size());
+		assertEquals("Start of the game wasn't published!", GameEventType.STATUS_CHANGED, events.get(0).getType());
+		assertEquals("End of the game wasn't published last!", GameEventType.GAME_ENDED, events.get(8).getType());
+
+		for (int i = 1; i <= 7; i++)
+		{
+			GameEvent event = events.get(i);
+
+			assertEquals("Drop wasn't published!", GameEventType.DROP_INSERTED, event.getType());
+			assertEquals("Snapshot of the event doesn't contain the drop!", i, event.getSnapshot().countDrops());
+			assertEquals("Wrong slot of the drop!", (i % 2 == 1) ? "A" : "B", event.getSlot().getColumn().getKey());
+		}
+
+		assertFalse("Events were delivered on the thread executing the turns!", listener.isCallerThread());
+	}
+
+	@Test
+	public void testCoalescing() throws Exception
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		RecordingListener listener = new RecordingListener(release);
+		GameEventBus bus = new GameEventBus(executor, GameEventBus.DEFAULT_CAPACITY);
+
+		bus.subscribe(listener);
+
+		// The first event blocks the listener => all status changes are pending meanwhile
+
+		bus.publish(createEvent(GameEventType.DROP_INSERTED));
+
+		for (int i = 0; i < 10; i++)
+		{
+			bus.publish(createEvent(GameEventType.STATUS_CHANGED));
+		}
+
+		release.countDown();
+
+		assertTrue("Events weren't delivered!", bus.awaitDelivery(5, TimeUnit.SECONDS));
+		assertEquals("Status changes weren't coalesced!", 2, listener.getEvents().size());
+		assertEquals("Wrong number of discarded events!", 9, bus.countDiscardedEvents());
+	}
+
+	@Test
+	public void testBackpressure() throws Exception
+	{
+		final int capacity = 4;
+		CountDownLatch release = new CountDownLatch(1);
+		RecordingListener listener = new RecordingListener(release);
+		GameEventBus bus = new GameEventBus(executor, capacity);
+
+		bus.subscribe(listener);
+
+		// Publishing doesn't wait for the blocked listener
+
+		long start = System.currentTimeMillis();
+
+		for (int i = 0; i < 100; i++)
+		{
+			bus.publish(createEvent(GameEventType.DROP_INSERTED));
+		}
+
+		bus.publish(createEvent(GameEventType.GAME_ENDED));
+
+		assertTrue("Publishing waited for the listener!", System.currentTimeMillis() - start < 1000);
+
+		release.countDown();
+
+		assertTrue("Events weren't delivered!", bus.awaitDelivery(5, TimeUnit.SECONDS));
+
+		List<GameEvent> events = listener.getEvents();
+
+		assertTrue("Queue of the listener exceeded its capacity!", events.size() <= capacity + 2);
+		assertTrue("No events were discarded!", bus.countDiscardedEvents() > 0);
+		assertEquals("End of the game was discarded!", GameEventType.GAME_ENDED, events.get(events.size() - 1).getType());
+
+		boolean statusChanged = false;
+
+		for (GameEvent event : events)
+		{
+			statusChanged |= event.getType() == GameEventType.STATUS_CHANGED;
+		}
+
+		assertTrue("Discarded events weren't replaced by a status change!", statusChanged);
+	}
+
+	@Test
+	public void testFailingListener() throws Exception
+	{
+		GameEventBus bus = new GameEventBus(executor, GameEventBus.DEFAULT_CAPACITY);
+		RecordingListener listener = new RecordingListener(null);
+
+		bus.subscribe(new GameEventListener()
+		{
+			public void onEvent(GameEvent event)
+			{
+				throw new IllegalStateException("Failing listener");
+			}
+		});
+		bus.subscribe(listener);
+
+		bus.publish(createEvent(GameEventType.DROP_INSERTED));
+		bus.publish(createEvent(GameEventType.GAME_ENDED));
+
+		assertTrue("Events weren't delivered!", bus.awaitDelivery(5, TimeUnit.SECONDS));
+		assertEquals("Failing listener stopped the delivery!", 2, listener.getEvents().size());
+
+		bus.unsubscribeAll();
+		bus.publish(createEvent(GameEventType.STATUS_CHANGED));
+
+		assertTrue("Events weren't delivered!", bus.awaitDelivery(5, TimeUnit.SECONDS));
+		assertEquals("Event was delivered after unsubscribing!", 2, listener.getEvents().size());
+	}
+
+	@Test
+	public void testConcurrentTurns() throws Exception
+	{
+		final GameController controller = new UnitTestUtils.GameControllerTest();
+		RecordingListener listener = new RecordingListener(null);
+
+		game.getEvents().subscribe(listener);
+		controller.startGame(game);
+
+		// Two threads race for the turns - column D stays empty and each column gets two drops => no connect four
+
+		Thread[] threads = new Thread[2];
+		final String[][] columns = { { "A", "B", "C" }, { "E", "F", "G" } };
+
+		for (int i = 0; i < threads.length; i++)
+		{
+			final String[] own = columns[i];
+
+			threads[i] = new Thread(new Runnable()
+			{
+				public void run()
+				{
+					for (int turn = 0; turn < 2 * own.length; turn++)
+					{
+						try
+						{
+							controller.executeTurn(game, own[turn % own.length]);
+						}
+						catch (GameException ex)
+						{
+							throw new IllegalStateException(ex);
+						}
+					}
+				}
+			}, "ConcurrentTurns-" + i);
+			threads[i].start();
+		}
+
+		for (Thread thread : threads)
+		{
+			thread.join(10000);
+		}
+
+		UnitTestUtils.awaitEvents(game);
+
+		int drops = 0;
+
+		for (GameEvent event : listener.getEvents())
+		{
+			if (event.getType() != GameEventType.DROP_INSERTED)
+			{
+				continue;
+			}
+
+			drops++;
+
+			// Each event carries the position and the status of its own move
+
+			assertFalse("Snapshot of the event doesn't contain its drop!",
+						event.getSnapshot().getColor(event.getSlot().getIndex()) == DropColor.UNKNOWN);
+			assertEquals("Status doesn't match the snapshot of the event!",
+						event.getSnapshot().countDrops(), event.getStatus().countCompletedTurns());
+		}
+
+		assertEquals("Wrong number of drops published!", 12, drops);
+	}
+
+	@Test
+	public void testObserverSnapshot() throws Exception
+	{
+		SnapshotController controller = new SnapshotController();
+		GameObserver observer = new GameObserver(controller);
+
+		controller.startGame(game);
+		controller.executeTurn(game, "A");
+
+		BoardSnapshot snapshot = game.getSnapshot();
+		GameStatus status = game.getStatus();
+
+		// The game moves on before the event is delivered
+
+		controller.executeTurn(game, "B");
+		UnitTestUtils.awaitEvents(game);
+
+		observer.onEvent(new GameEvent(GameEventType.DROP_INSERTED, game, game.getBoard().getSlot(0), snapshot, status));
+
+		assertSame("Slot wasn't painted from the snapshot of the event!", snapshot, controller.slotSnapshot);
+		assertSame("Status wasn't refreshed from the status of the event!", status, controller.status);
+		assertNotSame("Status of the event was changed by the next turn!", status, game.getStatus());
+		assertEquals("Status of the event was changed by the next turn!", 1, status.countCompletedTurns());
+
+		observer.onEvent(new GameEvent(GameEventType.STATUS_CHANGED, game, null, snapshot, status));
+
+		assertSame("Board wasn't repainted from the snapshot of the status change!", snapshot, controller.boardSnapshot);
+	}
+
+	private GameEvent createEvent(GameEventType type)
+	{
+		GameBoardSlot slot = (type == GameEventType.DROP_INSERTED) ? game.getBoard().getSlot(0) : null;
+
+		return new GameEvent(type, game, slot, game.getSnapshot(), game.getStatus());
+	}
+
+	/**
+	 * Records the snapshots and the status, which the slots, the board and the status are refreshed from.
+	 */
+	private static class SnapshotController extends UnitTestUtils.GameControllerTest
+	{
+		private volatile BoardSnapshot slotSnapshot;
+		private volatile BoardSnapshot boardSnapshot;
+		private volatile GameStatus status;
+
+		@Override
+		public void refreshStatus(GameStatus status)
+		{
+			this.status = status;
+		}
+
+		@Override
+		public void refreshSlot(GameBoardSlot slot, BoardSnapshot snapshot)
+		{
+			slotSnapshot = snapshot;
+		}
+
+		@Override
+		public void refreshBoard(BoardSnapshot snapshot)
+		{
+			boardSnapshot = snapshot;
+		}
+	}
+
+	/**
+	 * Records the delivered events, optionally blocking on the first event until released.
+	 */
+	private static class RecordingListener implements GameEventListener
+	{
+		private final List<GameEvent> events = Collections.synchronizedList(new ArrayList<GameEvent>());
+		private final CountDownLatch release;
+		private final Thread caller = Thread.currentThread();
+
+		private volatile boolean callerThread;
+
+		RecordingListener(CountDownLatch release)
+		{
+			this.release = release;
+		}
+
+		public void onEvent(GameEvent event)
+		{
+			callerThread |= Thread.currentThread() == caller;
+
+			if (release != null)
+			{
+				try
+				{
+					release.await();
+				}
+				catch (InterruptedException ex)
+				{
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			events.add(event);
+		}
+
+		List<GameEvent> getEvents()
+		{
+			return new ArrayList<GameEvent>(events);
+		}
+
+		boolean isCallerThread()
+		{
+			return callerThread;
+		}
+	}
+}
@@ -2,13 +2,18 @@ package ch.hszt.connectfour.test;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import ch.hszt.connectfour.control.GameController;
+import ch.hszt.connectfour.control.GameStatisticUpdateTask;
 import ch.hszt.connectfour.exception.GameException;
 import ch.hszt.connectfour.model.board.GameBoard;
 import ch.hszt.connectfour.model.board.GameBoardColumn;
@@ -189,6 +194,98 @@ public class GameTest
 		assertTrue("Start player of game doesn't match current player!", game.getStartPlayer().equals(status.getCurrentPlayer()));
 	}
 	
+	@Test
+	public void testStatisticUpdate() throws Exception
+	{
+		final List<String> durations = Collections.synchronizedList(new ArrayList<String>());
+		
+		GameController recording = new UnitTestUtils.GameControllerTest()
+		{
+			public void refreshStatistic(GameStatistic statistic)
+			{
+				durations.add(statistic.getDuration());
+			}
+		};
+		
+		game.start();
+		
+		// Ticks are executed right here instead of the scheduler => independent of the timing
+		
+		GameStatisticUpdateTask task = new GameStatisticUpdateTask(recording, game.getStatistic());
+		
+		task.run();
+		
+		assertEquals("Statistic wasn't refreshed by the first tick!", 1, durations.size());
+		
+		// Ticks without change of the displayed duration don't refresh the statistic
+		
+		for (int i = 0; i < 100; i++)
+		{
+			task.run();
+		}
+		
+		for (int i = 1; i < durations.size(); i++)
+		{
+			assertFalse("Statistic was refreshed without change of the duration!",
+						durations.get(i).equals(durations.get(i - 1)));
+		}
+		
+		assertFalse("Task was cancelled, although the game is running!", task.isCancelled());
+		
+		// The task ends itself with the game
+		
+		game.stop();
+		task.run();
+		
+		int count = durations.size();
+		
+		assertTrue("Task wasn't cancelled at the end of the game!", task.isCancelled());
+		
+		task.run();
+		
+		assertEquals("Statistic was refreshed after the end of the game!", count, durations.size());
+	}
+	
+	@Test
+	public void testStatisticUpdateScheduled() throws Exception
+	{
+		final AtomicInteger refreshCount = new AtomicInteger();
+		
+		GameController counting = new UnitTestUtils.GameControllerTest()
+		{
+			public void refreshStatistic(GameStatistic statistic)
+			{
+				refreshCount.incrementAndGet();
+			}
+		};
+		
+		game.start();
+		
+		GameStatisticUpdateTask task = GameStatisticUpdateTask.schedule(counting, game.getStatistic());
+		
+		// Wait for the ticks of the shared scheduler with a deadline instead of a fixed delay
+		
+		long deadline = System.currentTimeMillis() + 5000;
+		
+		while (refreshCount.get() == 0 && System.currentTimeMillis() < deadline)
+		{
+			Thread.sleep(10);
+		}
+		
+		assertTrue("Statistic wasn't refreshed!", refreshCount.get() >= 1);
+		assertFalse("Task was cancelled, although the game is running!", task.isCancelled());
+		
+		game.stop();
+		deadline = System.currentTimeMillis() + 5000;
+		
+		while (!task.isCancelled() && System.currentTimeMillis() < deadline)
+		{
+			Thread.sleep(10);
+		}
+		
+		assertTrue("Task wasn't cancelled at the end of the game!", task.isCancelled());
+	}
+	
 	@Test(expected=GameException.class)
 	public void testGameRestartInvalid() throws GameException
 	{
@@ -0,0 +1,203 @@
+package ch.hszt.connectfour.test;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ch.hszt.connectfour.control.HeadlessGameController;
+import ch.hszt.connectfour.exception.GameException;
+import ch.hszt.connectfour.model.enumeration.PlayerType;
+import ch.hszt.connectfour.model.enumeration.SkillLevel;
+import ch.hszt.connectfour.model.game.Game;
+import ch.hszt.connectfour.model.game.GameStatus;
+import ch.hszt.connectfour.model.game.ParallelSearch;
+import ch.hszt.connectfour.model.game.PerfectCpuPlayer;
+import ch.hszt.connectfour.model.game.Player;
+import ch.hszt.connectfour.model.game.PlayerFactory;
+import ch.hszt.connectfour.model.game.SearchBudget;
+import ch.hszt.connectfour.model.game.TranspositionTable;
+
+/**
+ * Performs tests on the {@link HeadlessGameController} hosting many games on a few threads.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public class HeadlessGameControllerTest
+{
+	private HeadlessGameController host;
+
+	@Before
+	public void setupHost()
+	{
+		host = new HeadlessGameController(4);
+	}
+
+	@After
+	public void tearDownHost()
+	{
+		host.shutdown();
+		host = null;
+	}
+
+	@Test
+	public void testCpuGames() throws Exception
+	{
+		final int gameCount = 500;
+		Game[] games = new Game[gameCount];
+
+		for (int i = 0; i < gameCount; i++)
+		{
+			SkillLevel level = (i % 2 == 0) ? SkillLevel.EASY : SkillLevel.HARD;
+			Player first = PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "First", level);
+			Player second = PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "Second", SkillLevel.ADVANCED);
+
+			games[i] = new Game(first, second);
+			host.host(games[i]);
+		}
+
+		assertTrue("Games didn't end in time!", host.awaitGames(60, TimeUnit.SECONDS));
+		assertEquals("Not all games finished!", gameCount, host.countFinishedGames());
+		assertEquals("Games failed!", 0, host.countFailedGames());
+		assertEquals("Games still running!", 0, host.countRunningGames());
+
+		for (Game game : games)
+		{
+			assertFalse("Game wasn't stopped after its end!", game.isStarted());
+			assertTrue("Game ended without result!", game.getStatus().isConnectFour() || game.getStatus().isDraw());
+		}
+	}
+
+	@Test
+	public void testPerfectGames() throws Exception
+	{
+		final int gameCount = 6;
+		Game[] games = new Game[gameCount];
+		SearchBudget budget = SearchBudget.forLevel(SkillLevel.PERFECT);
+		int threads = ParallelSearch.getThreadCount();
+
+		// Short turns on the threads of the host only
+
+		SearchBudget.configure(SkillLevel.PERFECT, new SearchBudget(100, 5000, SearchBudget.UNLIMITED_DEPTH));
+		ParallelSearch.setThreadCount(1);
+
+		try
+		{
+			for (int i = 0; i < gameCount; i++)
+			{
+				games[i] = new Game(PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "First", SkillLevel.PERFECT),
+									PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "Second", SkillLevel.PERFECT));
+				host.host(games[i]);
+			}
+
+			assertTrue("Games didn't end in time!", host.awaitGames(60, TimeUnit.SECONDS));
+			assertEquals("Not all games finished!", gameCount, host.countFinishedGames());
+		}
+		finally
+		{
+			SearchBudget.configure(SkillLevel.PERFECT, budget);
+			ParallelSearch.setThreadCount(threads);
+		}
+
+		// The players of all games share the tables of the host threads
+
+		Set<TranspositionTable> tables = Collections.newSetFromMap(new IdentityHashMap<TranspositionTable, Boolean>());
+
+		for (Game game : games)
+		{
+			tables.add(((PerfectCpuPlayer) game.getStartPlayer()).getTranspositionTable());
+			tables.add(((PerfectCpuPlayer) game.getOtherPlayer()).getTranspositionTable());
+		}
+
+		assertTrue(String.format("Players of %d games use %d tables!", gameCount, tables.size()), tables.size() <= 4);
+	}
+
+	@Test
+	public void testShutdown() throws Exception
+	{
+		final int gameCount = 200;
+
+		for (int i = 0; i < gameCount; i++)
+		{
+			host.host(new Game(PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "First", SkillLevel.HARD),
+								PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "Second", SkillLevel.HARD)));
+		}
+
+		// Queued turns are discarded => their games are counted as failed instead of running forever
+
+		host.shutdown();
+
+		assertTrue("Games are still running after the shutdown!", host.awaitGames(10, TimeUnit.SECONDS));
+		assertEquals("Games still running!", 0, host.countRunningGames());
+		assertEquals("Games weren't counted exactly once!", gameCount, host.countFinishedGames() + host.countFailedGames());
+		assertTrue("No game was aborted by the shutdown!", host.countFailedGames() > 0);
+	}
+
+	@Test
+	public void testHumanGame() throws Exception
+	{
+		Player human = PlayerFactory.createPlayer(PlayerType.HUMAN, "Human", null);
+		Player cpu = PlayerFactory.createPlayer(PlayerType.CPU_PLAYER, "CPU", SkillLevel.EASY);
+		Game game = new Game(human, cpu);
+
+		host.host(game);
+
+		// Human players don't occupy a thread => the game waits for the turns from outside
+
+		long deadline = System.currentTimeMillis() + 10000;
+		GameStatus status = game.getStatus();
+
+		while (!status.isConnectFour() && !status.isDraw() && System.currentTimeMillis() < deadline)
+		{
+			if (status.getCurrentPlayer() == human)
+			{
+				host.executeTurn(game, findEmptyColumn(game));
+			}
+			else
+			{
+				Thread.sleep(1);
+			}
+			
+			status = game.getStatus();
+		}
+
+		assertTrue("Game didn't end in time!", host.awaitGames(10, TimeUnit.SECONDS));
+		assertEquals("Game didn't finish!", 1, host.countFinishedGames());
+	}
+
+	@Test(expected=GameException.class)
+	public void testStartedGame() throws GameException
+	{
+		Game game = UnitTestUtils.prepareGame();
+
+		game.start();
+
+		try
+		{
+			host.host(game);
+		}
+		finally
+		{
+			assertEquals("Rejected game is counted as running!", 0, host.countRunningGames());
+		}
+	}
+
+	private String findEmptyColumn(Game game)
+	{
+		for (int i = 0; i < game.getGeometry().getColumns(); i++)
+		{
+			if (game.getBoard().getColumn(i).hasEmptySlots())
+			{
+				return game.getBoard().getColumn(i).getKey();
+			}
+		}
+
+		return null;
+	}
+}
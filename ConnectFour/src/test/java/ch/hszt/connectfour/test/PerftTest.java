@@ -0,0 +1,148 @@
+package ch.hszt.connectfour.test;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ch.hszt.connectfour.model.board.BoardGeometry;
+import ch.hszt.connectfour.model.board.GameBoard;
+import ch.hszt.connectfour.model.board.Perft;
+import ch.hszt.connectfour.model.board.PerftResult;
+import ch.hszt.connectfour.model.enumeration.DropColor;
+
+/**
+ * Performs tests on the walk of the game tree by {@link Perft}.
+ * The expected counts were determined by an independent implementation of the rules.
+ * @author Markus Vetsch
+ * @version 1.0, 18.10.2026
+ */
+public class PerftTest
+{
+	private GameBoard board;
+
+	@Before
+	public void setupBoard()
+	{
+		board = new GameBoard();
+	}
+
+	@Test
+	public void testEmptyBoard()
+	{
+		// No column can be full and nobody can win within the first 6 turns
+
+		long expected = 1;
+
+		for (int depth = 0; depth <= 6; depth++)
+		{
+			PerftResult result = Perft.run(board, DropColor.RED, depth);
+
+			assertEquals(String.format("Wrong number of nodes at depth %d!", depth), expected, result.getNodes());
+			assertEquals("Game ended too early!", 0, result.getWins());
+
+			expected *= GameBoard.NUMBER_OF_COLUMNS;
+		}
+	}
+
+	@Test
+	public void testGameEnds()
+	{
+		// Depth 7 => 7 sequences fill a single column; depth 8 => sequences won with the 7th turn end the game
+
+		PerftResult result = Perft.run(board, DropColor.RED, 7);
+
+		assertEquals("Wrong number of nodes at depth 7!", 823536, result.getNodes());
+		assertEquals("Wrong number of wins at depth 7!", 13032, result.getWins());
+
+		result = Perft.run(board, DropColor.RED, 8);
+
+		assertEquals("Wrong number of nodes at depth 8!", 5673234, result.getNodes());
+		assertEquals("Wrong number of wins at depth 8!", 57462, result.getWins());
+		assertEquals("Draw on a board with empty slots!", 0, result.getDraws());
+		assertTrue("No throughput measured!", result.getNodesPerSecond() > 0);
+	}
+
+	@Test
+	public void testPosition()
+	{
+		insertDrops("BEGGGACADGDDFDGBADAED");
+
+		long hash = board.getPositionHash();
+		PerftResult result = Perft.run(board, DropColor.YELLOW, 4);
+
+		assertEquals("Wrong number of nodes of the mid-game position!", 1017, result.getNodes());
+		assertEquals("Wrong number of wins of the mid-game position!", 70, result.getWins());
+		assertEquals("Position was modified by the walk!", hash, board.getPositionHash());
+		assertEquals("Position was modified by the walk!", 21, board.countDrops());
+
+		// Two slots left => one sequence is won by the 41st drop, the other one fills the board
+
+		setupBoard();
+		insertDrops("FBCGFGBECGDCCFGEEEEFEFDCGBDGCDABFAAAAADB");
+
+		result = Perft.run(board, DropColor.RED, 2);
+
+		assertEquals("Wrong number of nodes of the near-full position!", 1, result.getNodes());
+		assertEquals("Wrong number of wins of the near-full position!", 1, result.getWins());
+		assertEquals("Wrong number of draws of the near-full position!", 1, result.getDraws());
+	}
+
+	@Test
+	public void testParallel() throws InterruptedException
+	{
+		insertDrops("DC");
+
+		PerftResult sequential = Perft.run(board, DropColor.RED, 7);
+		PerftResult parallel = Perft.runParallel(board, DropColor.RED, 7, 4);
+
+		assertEquals("Parallel walk counts differently!", sequential, parallel);
+
+		long sum = 0;
+
+		for (int i = 0; i < GameBoard.NUMBER_OF_COLUMNS; i++)
+		{
+			assertEquals("Parallel walk divides differently!", sequential.getNodes(i), parallel.getNodes(i));
+			sum += parallel.getNodes(i);
+		}
+
+		assertEquals("Nodes per column don't sum up!", parallel.getNodes(), sum);
+	}
+
+	@Test
+	public void testGeometry()
+	{
+		// Connect three on 4x4 => the walk works on the same legal moves as the game
+
+		GameBoard small = new GameBoard(new BoardGeometry(4, 4, 3));
+		PerftResult result = Perft.run(small, DropColor.RED, 3);
+
+		assertEquals("Wrong number of nodes on a small board!", 64, result.getNodes());
+		assertTrue("Walk of a small board didn't end any game!", Perft.run(small, DropColor.RED, 6).getWins() > 0);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidDepth()
+	{
+		Perft.run(board, DropColor.RED, -1);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testEndedGame()
+	{
+		insertDrops("AABBCCD");
+
+		Perft.run(board, DropColor.YELLOW, 1);
+	}
+
+	private void insertDrops(String columns)
+	{
+		DropColor color = DropColor.RED;
+
+		for (char column : columns.toCharArray())
+		{
+			board.insertDrop(String.valueOf(column), color);
+			color = (color == DropColor.RED) ? DropColor.YELLOW : DropColor.RED;
+		}
+	}
+}
@@ -13,6 +13,7 @@ import javax.swing.JLabel;
 import ch.hszt.connectfour.control.GameController;
 import ch.hszt.connectfour.control.GameStatisticUpdateTask;
 import ch.hszt.connectfour.exception.GameException;
+import ch.hszt.connectfour.model.board.BoardSnapshot;
 import ch.hszt.connectfour.model.board.GameBoardSlot;
 import ch.hszt.connectfour.model.game.Game;
 import ch.hszt.connectfour.model.game.GameStatistic;
@@ -21,9 +22,6 @@ import ch.hszt.connectfour.model.game.GameStatus;
 import java.awt.Font;
 import java.awt.event.ActionListener;
 import java.awt.event.ActionEvent;
-import java.util.Calendar;
-import java.util.Timer;
-import java.util.TimerTask;
 import javax.swing.SwingConstants;
 import java.awt.Color;
 
@@ -96,7 +94,14 @@ public class TestApp extends JFrame
 		}
 
 		@Override
-		public void refreshSlot(GameBoardSlot slot)
+		public void refreshSlot(GameBoardSlot slot, BoardSnapshot snapshot)
+		{
+			// TODO Auto-generated method stub
+			
+		}
+
+		@Override
+		public void refreshBoard(BoardSnapshot snapshot)
 		{
 			// TODO Auto-generated method stub
 			
@@ -156,10 +161,7 @@ public class TestApp extends JFrame
 				try
 				{
 					con.startGame(game);
-					TimerTask task = new GameStatisticUpdateTask(con, game.getStatistic());
-					
-					java.util.Timer timer = new Timer("TimerThread");
-					timer.schedule(task, Calendar.getInstance().getTime(), 1000);
+					GameStatisticUpdateTask.schedule(con, game.getStatistic());
 				}
 				catch (GameException ex)
 				{
@@ -1,8 +1,11 @@
 package ch.hszt.connectfour.test;
 
+import java.util.concurrent.TimeUnit;
+
 import ch.hszt.connectfour.control.GameController;
 import ch.hszt.connectfour.control.GameEngine;
 import ch.hszt.connectfour.exception.GameException;
+import ch.hszt.connectfour.model.board.BoardSnapshot;
 import ch.hszt.connectfour.model.board.GameBoardSlot;
 import ch.hszt.connectfour.model.enumeration.DropColor;
 import ch.hszt.connectfour.model.enumeration.SkillLevel;
@@ -24,6 +27,25 @@ public class UnitTestUtils
 		return new Game(first, second);
 	}
 	
+	/**
+	 * Waits for the asynchronous delivery of all events published by the {@link Game} so far.
+	 * @param game - The {@link Game}, which published the events.
+	 */
+	static void awaitEvents(Game game)
+	{
+		try
+		{
+			if (!game.getEvents().awaitDelivery(10, TimeUnit.SECONDS))
+			{
+				throw new IllegalStateException("Events weren't delivered in time!");
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+	
 	static class GameControllerTest extends GameController
 	{
 		public void refreshAll(Game game)
@@ -44,12 +66,18 @@ public class UnitTestUtils
 			System.out.println("Game statistic updated !!!");			
 		}
 
-		public void refreshSlot(GameBoardSlot slot)
+		public void refreshSlot(GameBoardSlot slot, BoardSnapshot snapshot)
 		{
 			// Dummy implementation
 			System.out.println("Slot updated !!!");
 		}
 		
+		public void refreshBoard(BoardSnapshot snapshot)
+		{
+			// Dummy implementation
+			System.out.println("Board updated !!!");
+		}
+		
 		public void refreshSlots(Iterable<GameBoardSlot> slots)
 		{
 			// Dummy implementation
@@ -61,6 +89,7 @@ public class UnitTestUtils
 			Player current = game.getStatus().getCurrentPlayer();
 			
 			super.executeTurn(game, column);
+			awaitEvents(game);
 			System.out.println(String.format("Drop of color %1$s inserted in column %2$s !!!", current.getDropColor(), column));
 		}
 		
@@ -73,6 +102,7 @@ public class UnitTestUtils
 		public void startGame(Game game) throws GameException
 		{
 			super.startGame(game);
+			awaitEvents(game);
 			System.out.println("Game was started !!!");
 		}
 
@@ -85,6 +115,7 @@ public class UnitTestUtils
 		public void restartGame(Game game) throws GameException
 		{
 			super.restartGame(game);
+			awaitEvents(game);
 			System.out.println("Game was restarted !!!");
 		}
 	}